@@ -0,0 +1,55 @@
+package com.assetdesk.cache;
+
+import com.assetdesk.config.AfterCommit;
+import com.assetdesk.domain.*;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that invalidates the dashboard snapshots a write affects, once the
+ * surrounding transaction commits. Rolled back writes leave the cache untouched.
+ */
+@Component
+public class DashboardCacheInvalidationListener {
+    
+    private final ObjectProvider<DashboardSnapshotCache> cacheProvider;
+    
+    public DashboardCacheInvalidationListener(ObjectProvider<DashboardSnapshotCache> cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        AfterCommit.run(() -> invalidate(entity));
+    }
+    
+    private void invalidate(Object entity) {
+        DashboardSnapshotCache cache = cacheProvider.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        
+        if (entity instanceof User) {
+            // Only the admin dashboard shows user totals
+            cache.invalidateAdmin();
+            return;
+        }
+        
+        cache.invalidateShared();
+        if (entity instanceof AssetAllocation allocation) {
+            cache.invalidateEmployee(allocation.getUser() != null ? allocation.getUser().getId() : null);
+        } else if (entity instanceof Issue issue) {
+            cache.invalidateEmployee(issue.getReportedBy() != null ? issue.getReportedBy().getId() : null);
+        } else if (entity instanceof AssetRequest request) {
+            cache.invalidateEmployee(request.getRequestedBy() != null ? request.getRequestedBy().getId() : null);
+        } else if (entity instanceof Asset || entity instanceof WarrantyHistory) {
+            // Category and warranty changes show up on the dashboard of whoever holds the asset
+            cache.invalidateAllEmployees();
+        }
+    }
+}
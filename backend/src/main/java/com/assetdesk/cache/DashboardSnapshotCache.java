@@ -0,0 +1,182 @@
+package com.assetdesk.cache;
+
+import com.assetdesk.dto.dashboard.DashboardStatsDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Holds the last computed dashboard per audience. ADMIN and IT_SUPPORT snapshots are shared by
+ * every user with that role, employee snapshots are keyed by user id.
+ *
+ * Writes never touch the snapshots directly; they bump a generation counter and a snapshot is
+ * fresh only while its generation matches. That way a recompute which raced with a write is
+ * stored but still treated as stale.
+ *
+ * Sections such as warranties due "in the next 30 days" depend on the date rather than on any
+ * write, so a snapshot also goes stale once it is older than the configured max age, and is not
+ * served at all once the day it was computed on has passed.
+ */
+@Component
+@Slf4j
+public class DashboardSnapshotCache {
+    
+    private static final String ADMIN_KEY = "ADMIN";
+    private static final String IT_SUPPORT_KEY = "IT_SUPPORT";
+    private static final String EMPLOYEE_PREFIX = "EMPLOYEE:";
+    
+    private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<DashboardStatsDTO>> recomputes = new ConcurrentHashMap<>();
+    private final AtomicLong employeeGeneration = new AtomicLong();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter degradedSkips;
+    private final Timer recomputeTimer;
+    
+    @Value("${app.dashboard.cache.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.dashboard.cache.stale-while-revalidate:true}")
+    private boolean staleWhileRevalidate;
+    
+    @Value("${app.dashboard.cache.max-age-seconds:300}")
+    private long maxAgeSeconds;
+    
+    Clock clock = Clock.systemDefaultZone();
+    
+    public DashboardSnapshotCache(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("dashboard.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.staleHits = Counter.builder("dashboard.cache.requests").tag("result", "stale").register(meterRegistry);
+        this.misses = Counter.builder("dashboard.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.degradedSkips = Counter.builder("dashboard.cache.degraded.skipped").register(meterRegistry);
+        this.recomputeTimer = Timer.builder("dashboard.cache.recompute").register(meterRegistry);
+        Gauge.builder("dashboard.cache.hit.ratio", this, DashboardSnapshotCache::hitRatio).register(meterRegistry);
+        Gauge.builder("dashboard.cache.size", snapshots, ConcurrentHashMap::size).register(meterRegistry);
+    }
+    
+    public static String adminKey() {
+        return ADMIN_KEY;
+    }
+    
+    public static String itSupportKey() {
+        return IT_SUPPORT_KEY;
+    }
+    
+    public static String employeeKey(Long userId) {
+        return EMPLOYEE_PREFIX + userId;
+    }
+    
+    public DashboardStatsDTO get(String key, Supplier<DashboardStatsDTO> loader) {
+        if (!enabled) {
+            return recomputeTimer.record(loader);
+        }
+        
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && !snapshot.day.equals(LocalDate.now(clock))) {
+            // Computed on an earlier day; its date-relative sections are wrong, not just old
+            snapshot = null;
+        }
+        if (snapshot != null && snapshot.generation == currentGeneration(key) && !isExpired(snapshot)) {
+            hits.increment();
+            return snapshot.stats;
+        }
+        
+        if (snapshot != null && staleWhileRevalidate) {
+            staleHits.increment();
+            recompute(key, loader, refreshExecutor);
+            return snapshot.stats;
+        }
+        
+        misses.increment();
+        return recompute(key, loader, Runnable::run).join();
+    }
+    
+    public void invalidateShared() {
+        bump(ADMIN_KEY);
+        bump(IT_SUPPORT_KEY);
+    }
+    
+    public void invalidateAdmin() {
+        bump(ADMIN_KEY);
+    }
+    
+    public void invalidateEmployee(Long userId) {
+        if (userId != null) {
+            bump(employeeKey(userId));
+        }
+    }
+    
+    public void invalidateAllEmployees() {
+        employeeGeneration.incrementAndGet();
+    }
+    
+    private CompletableFuture<DashboardStatsDTO> recompute(String key, Supplier<DashboardStatsDTO> loader, Executor executor) {
+        // Only one recompute per key at a time; concurrent callers share its result
+        CompletableFuture<DashboardStatsDTO> created = new CompletableFuture<>();
+        CompletableFuture<DashboardStatsDTO> running = recomputes.putIfAbsent(key, created);
+        if (running != null) {
+            return running;
+        }
+        
+        executor.execute(() -> {
+            long generation = currentGeneration(key);
+            try {
+                DashboardStatsDTO stats = recomputeTimer.record(loader);
+                // A dashboard with fallback sections is returned once but never served from cache
+                if (Boolean.TRUE.equals(stats.getDegraded())) {
+                    degradedSkips.increment();
+                } else {
+                    snapshots.put(key, new Snapshot(stats, generation, LocalDate.now(clock), Instant.now(clock)));
+                }
+                created.complete(stats);
+            } catch (Exception e) {
+                log.error("Dashboard recompute failed for {}", key, e);
+                created.completeExceptionally(e);
+            } finally {
+                recomputes.remove(key, created);
+            }
+        });
+        return created;
+    }
+    
+    private boolean isExpired(Snapshot snapshot) {
+        return Duration.between(snapshot.computedAt, Instant.now(clock)).getSeconds() >= maxAgeSeconds;
+    }
+    
+    private void bump(String key) {
+        generations.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+    
+    private long currentGeneration(String key) {
+        AtomicLong generation = generations.get(key);
+        long value = generation != null ? generation.get() : 0L;
+        return key.startsWith(EMPLOYEE_PREFIX) ? value + employeeGeneration.get() : value;
+    }
+    
+    private double hitRatio() {
+        double total = hits.count() + staleHits.count() + misses.count();
+        return total == 0 ? 0.0 : (hits.count() + staleHits.count()) / total;
+    }
+    
+    private record Snapshot(DashboardStatsDTO stats, long generation, LocalDate day, Instant computedAt) {}
+}
@@ -0,0 +1,44 @@
+package com.assetdesk.cache;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Single value memoized for a fixed time-to-live. Concurrent callers that find it expired
+ * wait on one recompute instead of each running their own.
+ */
+public class ExpiringValue<T> {
+    
+    private final Duration ttl;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T value;
+    private volatile long expiresAtNanos;
+    
+    public ExpiringValue(Duration ttl) {
+        this.ttl = ttl;
+    }
+    
+    public T get(Supplier<T> loader) {
+        T current = value;
+        if (current != null && System.nanoTime() - expiresAtNanos < 0) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (value != null && System.nanoTime() - expiresAtNanos < 0) {
+                return value;
+            }
+            T loaded = loader.get();
+            expiresAtNanos = System.nanoTime() + ttl.toNanos();
+            value = loaded;
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void invalidate() {
+        value = null;
+    }
+}
@@ -23,11 +23,15 @@ public class DataInitializer implements CommandLineRunner {
     private final IssueRepository issueRepository;
     private final ServiceRecordRepository serviceRecordRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationReceiptRepository notificationReceiptRepository;
     private final CommonIssueRepository commonIssueRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Override
     public void run(String... args) {
+        // Demo notifications only go into a brand-new database; an upgraded one keeps its own
+        // history, copied over by LegacyNotificationMigration once the application is ready
+        boolean freshDatabase = userRepository.count() == 0;
         initializeUsers();
         initializeVendors();
         initializeAssets();
@@ -36,7 +40,9 @@ public class DataInitializer implements CommandLineRunner {
         initializeIssues();
         initializeServiceRecords();
         initializeCommonIssues();
-        initializeNotifications();
+        if (freshDatabase) {
+            initializeNotifications();
+        }
     }
 
     private void initializeUsers() {
@@ -456,7 +462,7 @@ public class DataInitializer implements CommandLineRunner {
     }
 
     private void initializeNotifications() {
-        if (notificationRepository.count() == 0) {
+        if (notificationReceiptRepository.count() == 0) {
             User soundar = userRepository.findByEmployeeId("EMP001").orElse(null);
             User lokesh = userRepository.findByEmployeeId("EMP002").orElse(null);
             User dimple = userRepository.findByEmployeeId("EMP003").orElse(null);
@@ -467,27 +473,27 @@ public class DataInitializer implements CommandLineRunner {
             User itSupport = userRepository.findByEmployeeId("EMP010").orElse(null);
             
             // Asset allocation notifications
-            notificationRepository.save(createNotification(soundar, "Asset Allocated", "Laptop LAP001 has been allocated to you", Notification.Type.ASSET_ALLOCATED, false, LocalDateTime.now().minusHours(2)));
-            notificationRepository.save(createNotification(lokesh, "Asset Allocated", "Desktop DSK001 has been allocated to you", Notification.Type.ASSET_ALLOCATED, true, LocalDateTime.now().minusDays(1)));
-            notificationRepository.save(createNotification(dimple, "Asset Allocated", "Monitor MON003 has been allocated to you", Notification.Type.ASSET_ALLOCATED, true, LocalDateTime.now().minusDays(2)));
+            notificationReceiptRepository.save(createNotification(soundar, "Asset Allocated", "Laptop LAP001 has been allocated to you", Notification.Type.ASSET_ALLOCATED, false, LocalDateTime.now().minusHours(2)));
+            notificationReceiptRepository.save(createNotification(lokesh, "Asset Allocated", "Desktop DSK001 has been allocated to you", Notification.Type.ASSET_ALLOCATED, true, LocalDateTime.now().minusDays(1)));
+            notificationReceiptRepository.save(createNotification(dimple, "Asset Allocated", "Monitor MON003 has been allocated to you", Notification.Type.ASSET_ALLOCATED, true, LocalDateTime.now().minusDays(2)));
             
             // Issue notifications
-            notificationRepository.save(createNotification(itSupport, "Issue Assigned", "Hardware issue reported for Laptop LAP002 has been assigned to you", Notification.Type.ISSUE_ASSIGNED, false, LocalDateTime.now().minusHours(4)));
-            notificationRepository.save(createNotification(lokesh, "Issue Update", "Your reported printer issue has been resolved", Notification.Type.ISSUE_RESOLVED, true, LocalDateTime.now().minusDays(3)));
-            notificationRepository.save(createNotification(swetha, "Issue Created", "Your issue report for keyboard malfunction has been created", Notification.Type.ISSUE_UPDATED, true, LocalDateTime.now().minusDays(5)));
+            notificationReceiptRepository.save(createNotification(itSupport, "Issue Assigned", "Hardware issue reported for Laptop LAP002 has been assigned to you", Notification.Type.ISSUE_ASSIGNED, false, LocalDateTime.now().minusHours(4)));
+            notificationReceiptRepository.save(createNotification(lokesh, "Issue Update", "Your reported printer issue has been resolved", Notification.Type.ISSUE_RESOLVED, true, LocalDateTime.now().minusDays(3)));
+            notificationReceiptRepository.save(createNotification(swetha, "Issue Created", "Your issue report for keyboard malfunction has been created", Notification.Type.ISSUE_UPDATED, true, LocalDateTime.now().minusDays(5)));
             
             // Request notifications
-            notificationRepository.save(createNotification(pradeep, "Request Approved", "Your laptop request has been approved by administration", Notification.Type.SUCCESS, false, LocalDateTime.now().minusHours(6)));
-            notificationRepository.save(createNotification(jeff, "Request Rejected", "Your tablet request has been rejected due to budget constraints", Notification.Type.WARNING, true, LocalDateTime.now().minusDays(4)));
-            notificationRepository.save(createNotification(rin, "Request Fulfilled", "Your desktop replacement request has been fulfilled", Notification.Type.SUCCESS, false, LocalDateTime.now().minusHours(12)));
+            notificationReceiptRepository.save(createNotification(pradeep, "Request Approved", "Your laptop request has been approved by administration", Notification.Type.SUCCESS, false, LocalDateTime.now().minusHours(6)));
+            notificationReceiptRepository.save(createNotification(jeff, "Request Rejected", "Your tablet request has been rejected due to budget constraints", Notification.Type.WARNING, true, LocalDateTime.now().minusDays(4)));
+            notificationReceiptRepository.save(createNotification(rin, "Request Fulfilled", "Your desktop replacement request has been fulfilled", Notification.Type.SUCCESS, false, LocalDateTime.now().minusHours(12)));
             
             // Warranty expiry notifications
-            notificationRepository.save(createNotification(soundar, "Warranty Expiring", "Warranty for Laptop LAP005 expires in 30 days", Notification.Type.WARRANTY_EXPIRING, false, LocalDateTime.now().minusHours(1)));
-            notificationRepository.save(createNotification(itSupport, "Warranty Expired", "Warranty for Printer PRT001 has expired", Notification.Type.WARNING, true, LocalDateTime.now().minusDays(7)));
+            notificationReceiptRepository.save(createNotification(soundar, "Warranty Expiring", "Warranty for Laptop LAP005 expires in 30 days", Notification.Type.WARRANTY_EXPIRING, false, LocalDateTime.now().minusHours(1)));
+            notificationReceiptRepository.save(createNotification(itSupport, "Warranty Expired", "Warranty for Printer PRT001 has expired", Notification.Type.WARNING, true, LocalDateTime.now().minusDays(7)));
             
             // Service notifications
-            notificationRepository.save(createNotification(dimple, "Service Scheduled", "Maintenance scheduled for your laptop LAP003 next week", Notification.Type.MAINTENANCE_DUE, false, LocalDateTime.now().minusHours(8)));
-            notificationRepository.save(createNotification(rin, "Service Completed", "Maintenance completed for Desktop DSK002", Notification.Type.SUCCESS, true, LocalDateTime.now().minusDays(1)));
+            notificationReceiptRepository.save(createNotification(dimple, "Service Scheduled", "Maintenance scheduled for your laptop LAP003 next week", Notification.Type.MAINTENANCE_DUE, false, LocalDateTime.now().minusHours(8)));
+            notificationReceiptRepository.save(createNotification(rin, "Service Completed", "Maintenance completed for Desktop DSK002", Notification.Type.SUCCESS, true, LocalDateTime.now().minusDays(1)));
         }
     }
 
@@ -593,14 +599,19 @@ public class DataInitializer implements CommandLineRunner {
         return issue;
     }
 
-    private Notification createNotification(User user, String title, String message, Notification.Type type, Boolean isRead, LocalDateTime createdAt) {
+    private NotificationReceipt createNotification(User user, String title, String message, Notification.Type type, Boolean isRead, LocalDateTime createdAt) {
         Notification notification = new Notification();
-        notification.setUser(user);
         notification.setTitle(title);
         notification.setMessage(message);
         notification.setType(type);
-        notification.setIsRead(isRead);
         notification.setCreatedAt(createdAt);
-        return notification;
+        notificationRepository.save(notification);
+        
+        NotificationReceipt receipt = new NotificationReceipt();
+        receipt.setUser(user);
+        receipt.setNotification(notification);
+        receipt.setIsRead(isRead);
+        receipt.setCreatedAt(createdAt);
+        return receipt;
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.assetdesk.config;
+
+import com.assetdesk.domain.JobCheckpoint;
+import com.assetdesk.repository.JobCheckpointRepository;
+import com.assetdesk.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Carries notification history over from the single {@code notifications} table into the
+ * body/receipt split. Runs once: completion is recorded as a {@link JobCheckpoint}, so a user
+ * deleting every copied notification later does not bring them back on the next start.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyNotificationMigration {
+
+    static final String JOB_NAME = "legacy-notification-copy";
+
+    private final NotificationRepository notificationRepository;
+    private final JobCheckpointRepository checkpointRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void copyIfPending() {
+        if (checkpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        int copied = notificationRepository.copyLegacyNotifications();
+
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.setJobName(JOB_NAME);
+        checkpoint.setRunDate(LocalDate.now());
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        if (copied > 0) {
+            log.info("Copied {} legacy notifications into notification receipts", copied);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.assetdesk.controller;
+
+import com.assetdesk.dto.CursorPageDTO;
+import com.assetdesk.dto.activity.ActivityResponseDTO;
+import com.assetdesk.service.ActivityFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/activities")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ActivityController {
+    
+    private final ActivityFeedService activityFeedService;
+    
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'IT_SUPPORT')")
+    public ResponseEntity<CursorPageDTO<ActivityResponseDTO>> getTimeline(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(activityFeedService.getTimeline(null, cursor, size));
+    }
+    
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<CursorPageDTO<ActivityResponseDTO>> getUserTimeline(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(activityFeedService.getTimeline(userId, cursor, size));
+    }
+    
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> backfill() {
+        return ResponseEntity.ok(Map.of("entries", activityFeedService.backfill()));
+    }
+}
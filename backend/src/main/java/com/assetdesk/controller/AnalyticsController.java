@@ -1,12 +1,18 @@
 package com.assetdesk.controller;
 
 import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.MonthlyRollup;
+import com.assetdesk.dto.analytics.AnalyticsReportOptions;
 import com.assetdesk.repository.AssetRepository;
 import com.assetdesk.repository.ServiceRecordRepository;
 import com.assetdesk.repository.AssetAllocationRepository;
+import com.assetdesk.service.AnalyticsService;
+import com.assetdesk.service.TrendRollupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import org.springframework.http.HttpHeaders;
 import java.math.BigDecimal;
@@ -23,142 +29,23 @@ public class AnalyticsController {
     private final AssetRepository assetRepository;
     private final ServiceRecordRepository serviceRecordRepository;
     private final AssetAllocationRepository allocationRepository;
+    private final TrendRollupService trendRollupService;
+    private final AnalyticsService analyticsService;
 
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboardAnalytics() {
-        Map<String, Object> analytics = new HashMap<>();
-        
-        List<Asset> assets = assetRepository.findAll();
-        
-        // Asset distribution by category
-        Map<String, Long> assetsByCategory = assets.stream()
-                .filter(a -> a.getCategory() != null)
-                .collect(Collectors.groupingBy(
-                    a -> a.getCategory().name(),
-                    Collectors.counting()
-                ));
-        
-        // Asset distribution by status
-        Map<String, Long> assetsByStatus = assets.stream()
-                .filter(a -> a.getStatus() != null)
-                .collect(Collectors.groupingBy(
-                    a -> a.getStatus().name(),
-                    Collectors.counting()
-                ));
-        
-        // Asset distribution by type
-        Map<String, Long> assetsByType = assets.stream()
-                .filter(a -> a.getType() != null)
-                .collect(Collectors.groupingBy(
-                    a -> a.getType().name(),
-                    Collectors.counting()
-                ));
-        
-        // Cost analysis
-        List<BigDecimal> costs = assets.stream()
-                .map(Asset::getCost)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        
-        Map<String, Object> costAnalysis = new HashMap<>();
-        if (!costs.isEmpty()) {
-            costAnalysis.put("totalValue", costs.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
-            costAnalysis.put("averageValue", costs.stream()
-                    .reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .divide(BigDecimal.valueOf(costs.size()), 2, BigDecimal.ROUND_HALF_UP));
-            costAnalysis.put("highestValue", costs.stream().max(BigDecimal::compareTo).orElse(BigDecimal.ZERO));
-            costAnalysis.put("lowestValue", costs.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO));
-        }
-        
-        // Warranty analysis
-        LocalDate now = LocalDate.now();
-        LocalDate thirtyDaysFromNow = now.plusDays(30);
-        
-        long expiredCount = assets.stream()
-                .filter(a -> a.getWarrantyExpiryDate() != null && a.getWarrantyExpiryDate().isBefore(now))
-                .count();
-        
-        long expiringCount = assets.stream()
-                .filter(a -> a.getWarrantyExpiryDate() != null && 
-                           a.getWarrantyExpiryDate().isAfter(now) && 
-                           a.getWarrantyExpiryDate().isBefore(thirtyDaysFromNow))
-                .count();
-        
-        long validCount = assets.stream()
-                .filter(a -> a.getWarrantyExpiryDate() != null && 
-                           a.getWarrantyExpiryDate().isAfter(thirtyDaysFromNow))
-                .count();
-        
-        Map<String, Object> warrantyAnalysis = new HashMap<>();
-        warrantyAnalysis.put("expiredCount", expiredCount);
-        warrantyAnalysis.put("expiringCount", expiringCount);
-        warrantyAnalysis.put("validCount", validCount);
-        
-        // Utilization metrics
-        long totalAssets = assets.size();
-        long allocatedAssets = assets.stream()
-                .filter(a -> a.getStatus() != null && "ALLOCATED".equals(a.getStatus().name()))
-                .count();
-        long availableAssets = assets.stream()
-                .filter(a -> a.getStatus() != null && "AVAILABLE".equals(a.getStatus().name()))
-                .count();
-        long maintenanceAssets = assets.stream()
-                .filter(a -> a.getStatus() != null && "MAINTENANCE".equals(a.getStatus().name()))
-                .count();
-        long retiredAssets = assets.stream()
-                .filter(a -> a.getStatus() != null && "RETIRED".equals(a.getStatus().name()))
-                .count();
-        
-        Map<String, Object> utilizationMetrics = new HashMap<>();
-        if (totalAssets > 0) {
-            utilizationMetrics.put("allocationRate", (double) allocatedAssets / totalAssets * 100);
-            utilizationMetrics.put("availabilityRate", (double) availableAssets / totalAssets * 100);
-            utilizationMetrics.put("maintenanceRate", (double) maintenanceAssets / totalAssets * 100);
-            utilizationMetrics.put("retiredRate", (double) retiredAssets / totalAssets * 100);
-        }
-        
-        analytics.put("assetsByCategory", assetsByCategory);
-        analytics.put("assetsByStatus", assetsByStatus);
-        analytics.put("assetsByType", assetsByType);
-        analytics.put("costAnalysis", costAnalysis);
-        analytics.put("warrantyAnalysis", warrantyAnalysis);
-        analytics.put("utilizationMetrics", utilizationMetrics);
-        
-        return ResponseEntity.ok(analytics);
+        return ResponseEntity.ok(analyticsService.getDashboardAnalytics());
     }
 
     @GetMapping("/assets")
     public ResponseEntity<Map<String, Object>> getAssetAnalytics(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String type,
-            @RequestParam(required = false) String status) {
-        
-        List<Asset> assets = assetRepository.findAll();
-        
-        // Apply filters
-        if (category != null && !category.isEmpty()) {
-            assets = assets.stream()
-                    .filter(a -> a.getCategory() != null && category.equals(a.getCategory().name()))
-                    .collect(Collectors.toList());
-        }
-        
-        if (type != null && !type.isEmpty()) {
-            assets = assets.stream()
-                    .filter(a -> a.getType() != null && type.equals(a.getType().name()))
-                    .collect(Collectors.toList());
-        }
-        
-        if (status != null && !status.isEmpty()) {
-            assets = assets.stream()
-                    .filter(a -> a.getStatus() != null && status.equals(a.getStatus().name()))
-                    .collect(Collectors.toList());
-        }
-        
-        Map<String, Object> analytics = new HashMap<>();
-        analytics.put("totalAssets", assets.size());
-        analytics.put("filteredAssets", assets);
-        
-        return ResponseEntity.ok(analytics);
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean summaryOnly) {
+        return ResponseEntity.ok(analyticsService.getAssetAnalytics(category, type, status, cursor, size, summaryOnly));
     }
 
     @GetMapping("/depreciation")
@@ -247,37 +134,37 @@ public class AnalyticsController {
         return ResponseEntity.ok(utilizationReport);
     }
 
+    @GetMapping("/trends")
+    public ResponseEntity<Map<String, Object>> getMonthlyTrends(
+            @RequestParam(defaultValue = "6") int months,
+            @RequestParam(required = false, defaultValue = MonthlyRollup.ALL) String dimension) {
+        Map<String, Object> trends = new HashMap<>();
+        trends.put("months", months);
+        trends.put("dimension", dimension);
+        trends.put("assetPurchases", trendRollupService.getMonthlyTrend(MonthlyRollup.Metric.ASSET_PURCHASES, dimension, months));
+        trends.put("issuesCreated", trendRollupService.getMonthlyTrend(MonthlyRollup.Metric.ISSUES_CREATED, dimension, months));
+        return ResponseEntity.ok(trends);
+    }
+
+    @PostMapping("/trends/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> backfillMonthlyTrends() {
+        int rows = trendRollupService.backfill();
+        return ResponseEntity.ok(Map.of("rollupRows", rows));
+    }
+
     @GetMapping("/export/pdf")
-    public ResponseEntity<byte[]> exportAnalyticsPdf(
+    public ResponseEntity<StreamingResponseBody> exportAnalyticsPdf(
             @RequestParam(required = false, defaultValue = "false") boolean includeCharts,
             @RequestParam(required = false, defaultValue = "false") boolean includeDepreciation,
             @RequestParam(required = false, defaultValue = "false") boolean includeWarranty,
             @RequestParam(required = false, defaultValue = "false") boolean includeUtilization) {
         
-        // Generate a simple PDF report (in a real implementation, you'd use a PDF library like iText)
-        StringBuilder pdfContent = new StringBuilder();
-        pdfContent.append("Analytics Report\n");
-        pdfContent.append("Generated on: ").append(LocalDate.now()).append("\n\n");
-        
-        if (includeCharts) {
-            pdfContent.append("Asset Distribution Charts included\n");
-        }
-        if (includeDepreciation) {
-            pdfContent.append("Depreciation Analysis included\n");
-        }
-        if (includeWarranty) {
-            pdfContent.append("Warranty Status Report included\n");
-        }
-        if (includeUtilization) {
-            pdfContent.append("Utilization Metrics included\n");
-        }
-        
-        // For now, return as plain text (in production, generate actual PDF)
-        byte[] data = pdfContent.toString().getBytes();
-        
+        AnalyticsReportOptions options = new AnalyticsReportOptions(includeCharts, includeDepreciation, includeWarranty, includeUtilization);
+        StreamingResponseBody body = out -> analyticsService.writeReportPdf(options, out);
         return ResponseEntity.ok()
                 .header("Content-Disposition", "attachment; filename=analytics-report.pdf")
                 .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
-                .body(data);
+                .body(body);
     }
-}
\ No newline at end of file
+}
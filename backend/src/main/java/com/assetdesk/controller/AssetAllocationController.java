@@ -2,6 +2,7 @@ package com.assetdesk.controller;
 
 import com.assetdesk.domain.AssetAllocation;
 import com.assetdesk.dto.AssetAllocationResponseDTO;
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.service.AssetAllocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -76,6 +77,18 @@ public class AssetAllocationController {
         }
     }
     
+    /**
+     * Keyset-paginated allocations, latest first, optionally only ACTIVE or RETURNED ones.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<AssetAllocationResponseDTO>> getAllAllocationsByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(assetAllocationService.getAllAllocations(status, cursor, size, includeTotal));
+    }
+    
     @GetMapping("/analytics")
     public ResponseEntity<Object> getAllocationAnalytics() {
         try {
@@ -5,6 +5,7 @@ import com.assetdesk.dto.asset.AssetResponseDTO;
 import com.assetdesk.dto.asset.AssetGroupResponseDTO;
 import com.assetdesk.dto.asset.WarrantyStatsDTO;
 import com.assetdesk.dto.AssetAllocationResponseDTO;
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.service.AssetService;
 import com.assetdesk.service.AssetAllocationService;
 import com.assetdesk.service.DepreciationService;
@@ -64,6 +65,17 @@ public class AssetController {
         Page<AssetResponseDTO> assets = assetService.getAllAssets(pageable);
         return ResponseEntity.ok(assets);
     }
+    
+    /**
+     * Keyset-paginated asset listing in id order.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<AssetResponseDTO>> getAllAssetsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(assetService.getAllAssets(cursor, size, includeTotal));
+    }
 
     @GetMapping("/search")
     public ResponseEntity<Page<AssetResponseDTO>> searchAssets(
@@ -199,8 +211,11 @@ public class AssetController {
     }
 
     @GetMapping("/group/summary")
-    public ResponseEntity<Map<String, Object>> getGroupSummary(@RequestParam String name) {
-        var dto = assetService.getGroupSummary(name);
+    public ResponseEntity<Map<String, Object>> getGroupSummary(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int userPage,
+            @RequestParam(defaultValue = "100") int userSize) {
+        var dto = assetService.getGroupSummary(name, PageRequest.of(userPage, userSize));
         Map<String, Object> map = new java.util.HashMap<>();
         map.put("name", dto.getName());
         map.put("total", dto.getTotal());
@@ -210,6 +225,9 @@ public class AssetController {
         map.put("retired", dto.getRetired());
         map.put("lost", dto.getLost());
         map.put("allocatedUsers", dto.getAllocatedUsers());
+        map.put("allocatedUsersTotal", dto.getAllocatedUsersTotal());
+        map.put("allocatedUsersPage", dto.getAllocatedUsersPage());
+        map.put("allocatedUsersSize", dto.getAllocatedUsersSize());
         return ResponseEntity.ok(map);
     }
 
@@ -253,7 +271,7 @@ public class AssetController {
     // Allocation-related endpoints
     @GetMapping("/{assetId}/allocations")
     public ResponseEntity<List<AssetAllocationResponseDTO>> getAssetAllocationHistory(@PathVariable Long assetId) {
-        var allocations = allocationService.getAllocationHistory(assetId);
+        var allocations = allocationService.getAssetAllocationsWithHistory(assetId);
         var dtos = allocations.stream().map(AssetAllocationResponseDTO::fromEntity).toList();
         return ResponseEntity.ok(dtos);
     }
@@ -0,0 +1,102 @@
+package com.assetdesk.controller;
+
+import com.assetdesk.dto.ServiceRecordExportFilter;
+import com.assetdesk.dto.analytics.AnalyticsReportOptions;
+import com.assetdesk.dto.asset.AssetExportFilter;
+import com.assetdesk.dto.export.ExportJobDTO;
+import com.assetdesk.dto.export.ExportKind;
+import com.assetdesk.exception.InvalidOperationException;
+import com.assetdesk.service.ExportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    @PostMapping("/assets/{format}")
+    public ResponseEntity<ExportJobDTO> submitAssetExport(
+            @PathVariable String format,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(required = false) BigDecimal costMin,
+            @RequestParam(required = false) BigDecimal costMax) {
+        
+        ExportKind kind = isPdf(format) ? ExportKind.ASSETS_PDF : ExportKind.ASSETS_CSV;
+        AssetExportFilter filter = new AssetExportFilter(category, type, status, dateFrom, dateTo, costMin, costMax);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitAssetExport(kind, filter));
+    }
+
+    @PostMapping("/service-records/{format}")
+    public ResponseEntity<ExportJobDTO> submitServiceRecordExport(
+            @PathVariable String format,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String dateRange,
+            @RequestParam(required = false) BigDecimal costMin,
+            @RequestParam(required = false) BigDecimal costMax,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo) {
+        
+        ExportKind kind = isPdf(format) ? ExportKind.SERVICE_RECORDS_PDF : ExportKind.SERVICE_RECORDS_CSV;
+        ServiceRecordExportFilter filter = new ServiceRecordExportFilter(type, dateRange, costMin, costMax, dateFrom, dateTo);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitServiceRecordExport(kind, filter));
+    }
+
+    @PostMapping("/analytics/pdf")
+    public ResponseEntity<ExportJobDTO> submitAnalyticsReport(
+            @RequestParam(required = false, defaultValue = "false") boolean includeCharts,
+            @RequestParam(required = false, defaultValue = "false") boolean includeDepreciation,
+            @RequestParam(required = false, defaultValue = "false") boolean includeWarranty,
+            @RequestParam(required = false, defaultValue = "false") boolean includeUtilization) {
+        
+        AnalyticsReportOptions options = new AnalyticsReportOptions(includeCharts, includeDepreciation, includeWarranty, includeUtilization);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitAnalyticsReport(options));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobDTO> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(exportJobService.getJob(jobId));
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobEvents(@PathVariable String jobId) {
+        return exportJobService.subscribe(jobId);
+    }
+
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> download(@PathVariable String jobId) {
+        ExportJobDTO job = exportJobService.getJob(jobId);
+        Resource file = new FileSystemResource(exportJobService.getResult(jobId));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getKind().getFileName())
+                .contentType(MediaType.parseMediaType(job.getKind().getContentType()))
+                .body(file);
+    }
+
+    private static boolean isPdf(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "pdf" -> true;
+            case "csv" -> false;
+            default -> throw new InvalidOperationException("Unsupported export format: " + format);
+        };
+    }
+}
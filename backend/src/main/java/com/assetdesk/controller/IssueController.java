@@ -1,7 +1,9 @@
 package com.assetdesk.controller;
 
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.issue.IssueRequestDTO;
 import com.assetdesk.dto.issue.IssueResponseDTO;
+import com.assetdesk.dto.issue.IssueSearchHitDTO;
 import com.assetdesk.service.IssueService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -56,6 +58,17 @@ public class IssueController {
         return ResponseEntity.ok(issues);
     }
     
+    /**
+     * Keyset-paginated listing of non-closed issues, newest first.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<IssueResponseDTO>> getAllIssuesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(issueService.getAllIssues(cursor, size, includeTotal));
+    }
+    
     @GetMapping("/search")
     public ResponseEntity<Page<IssueResponseDTO>> searchIssues(
             @RequestParam(required = false) String title,
@@ -80,6 +93,26 @@ public class IssueController {
             priority, type, reportedById, assignedToId, assetId, pageable);
         return ResponseEntity.ok(issues);
     }
+    
+    /**
+     * Full-text search over title, description and resolution notes, best matches first, with
+     * highlighted titles and snippets. The filters narrow the ranked results.
+     */
+    @GetMapping("/search/ranked")
+    public ResponseEntity<Page<IssueSearchHitDTO>> searchIssuesRanked(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long reportedById,
+            @RequestParam(required = false) Long assignedToId,
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) int size) {
+        Pageable pageable = PageRequest.of(page, Math.min(size, 100));
+        return ResponseEntity.ok(issueService.searchIssuesRanked(q, status, priority, type,
+            reportedById, assignedToId, assetId, pageable));
+    }
 
 
 
@@ -2,6 +2,7 @@ package com.assetdesk.controller;
 
 import com.assetdesk.dto.message.MessageRequestDTO;
 import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -118,6 +120,15 @@ public class MessageController {
         return ResponseEntity.ok().build();
     }
     
+    // Marks the issue's messages read up to the given time, or up to now when omitted
+    @PutMapping("/issue/{issueId}/read")
+    public ResponseEntity<Integer> markIssueMessagesAsRead(
+            @PathVariable Long issueId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime upTo) {
+        int updated = messageService.markIssueMessagesAsRead(issueId, upTo != null ? upTo : LocalDateTime.now());
+        return ResponseEntity.ok(updated);
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMessage(@PathVariable Long id) {
         messageService.deleteMessage(id);
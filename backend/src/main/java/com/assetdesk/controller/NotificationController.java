@@ -1,5 +1,6 @@
 package com.assetdesk.controller;
 
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.notification.NotificationResponseDTO;
 import com.assetdesk.service.NotificationService;
 import com.assetdesk.domain.Notification;
@@ -67,6 +68,18 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
     
+    /**
+     * Keyset-paginated notifications of one user, newest first.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<NotificationResponseDTO>> getNotificationsByCursor(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(notificationService.getNotificationsByUser(userId, cursor, size, includeTotal));
+    }
+    
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<NotificationResponseDTO>> getNotificationsByUser(@PathVariable Long userId) {
         List<NotificationResponseDTO> notifications = notificationService.getNotificationsByUser(userId);
@@ -92,9 +105,15 @@ public class NotificationController {
     }
     
     @PutMapping("/user/{userId}/read-all")
-    public ResponseEntity<Void> markAllAsRead(@PathVariable Long userId) {
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Integer> markAllAsRead(@PathVariable Long userId) {
+        int updated = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(updated);
+    }
+    
+    @PutMapping("/user/{userId}/read")
+    public ResponseEntity<Integer> markAsRead(@PathVariable Long userId, @RequestBody List<Long> notificationIds) {
+        int updated = notificationService.markAsRead(userId, notificationIds);
+        return ResponseEntity.ok(updated);
     }
     
     @DeleteMapping("/{id}")
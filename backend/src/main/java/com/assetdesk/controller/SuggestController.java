@@ -0,0 +1,54 @@
+package com.assetdesk.controller;
+
+import com.assetdesk.dto.suggest.SuggestionDTO;
+import com.assetdesk.exception.InvalidOperationException;
+import com.assetdesk.search.SuggestIndex;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Typeahead for asset tags, serial numbers, employee ids and email addresses, answered from
+ * memory. Returns an empty list while the index is still being built at startup.
+ */
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@Validated
+public class SuggestController {
+    
+    private static final int MAX_LIMIT = 50;
+    
+    private final SuggestIndex suggestIndex;
+    
+    @GetMapping
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(defaultValue = "10") @Min(1) int limit) {
+        return ResponseEntity.ok(suggestIndex.suggest(q, parseFields(fields), Math.min(limit, MAX_LIMIT)));
+    }
+    
+    private static Set<SuggestIndex.Field> parseFields(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(SuggestIndex.Field.class);
+        }
+        Set<SuggestIndex.Field> fields = EnumSet.noneOf(SuggestIndex.Field.class);
+        for (String name : names) {
+            SuggestIndex.Field field = SuggestIndex.Field.fromParamName(name.trim());
+            if (field == null) {
+                throw new InvalidOperationException("Unknown suggest field: " + name
+                    + ". Use assetTag, serialNumber, employeeId or email");
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+}
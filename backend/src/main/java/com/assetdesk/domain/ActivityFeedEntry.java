@@ -0,0 +1,42 @@
+package com.assetdesk.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "activity_feed", indexes = {
+    @Index(name = "idx_activity_feed_created_at", columnList = "created_at, id"),
+    @Index(name = "idx_activity_feed_user_created_at", columnList = "user_id, created_at, id")
+})
+@Data
+public class ActivityFeedEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+    
+    @Column(nullable = false, length = 500)
+    private String description;
+    
+    // User the activity belongs to; null for system-wide events such as service records
+    @Column(name = "user_id")
+    private Long userId;
+    
+    private String userName;
+    
+    private String status;
+    
+    private Long assetId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+    
+    public enum Type {
+        ALLOCATION, RETURN, ISSUE, REQUEST, SERVICE
+    }
+}
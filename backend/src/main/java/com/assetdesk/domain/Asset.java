@@ -1,5 +1,8 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
+import com.assetdesk.search.AssetSearchIndexListener;
+import com.assetdesk.search.SuggestIndexListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.math.BigDecimal;
@@ -8,11 +11,16 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@EntityListeners({DashboardCacheInvalidationListener.class, AssetSearchIndexListener.class, SuggestIndexListener.class})
 @Table(name = "assets")
+@NamedEntityGraph(name = Asset.WITH_VENDOR, attributeNodes = @NamedAttributeNode("vendor"))
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Asset {
     
+    /** Fetch plan for list and detail views, which show the vendor name. */
+    public static final String WITH_VENDOR = "Asset.withVendor";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,7 +42,7 @@ public class Asset {
     private LocalDate purchaseDate;
     private LocalDate warrantyExpiryDate;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id")
     private Vendor vendor;
     
@@ -1,25 +1,42 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDate;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
-@Table(name = "asset_allocations")
+@EntityListeners(DashboardCacheInvalidationListener.class)
+@Table(name = "asset_allocations", indexes = {
+    @Index(name = "idx_asset_allocations_allocated_date", columnList = "allocated_date, id")
+})
+@NamedEntityGraph(name = AssetAllocation.LIST_VIEW, attributeNodes = {
+    @NamedAttributeNode("asset"),
+    @NamedAttributeNode("user")
+})
+@NamedEntityGraph(name = AssetAllocation.DETAIL_VIEW, attributeNodes = {
+    @NamedAttributeNode(value = "asset", subgraph = "asset"),
+    @NamedAttributeNode("user")
+}, subgraphs = @NamedSubgraph(name = "asset", attributeNodes = @NamedAttributeNode("vendor")))
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class AssetAllocation {
     
+    /** Fetch plan for {@code AssetAllocationResponseDTO} rows: asset and user, no vendor. */
+    public static final String LIST_VIEW = "AssetAllocation.listView";
+    /** Fetch plan for endpoints that serialize the entity itself, down to the asset's vendor. */
+    public static final String DETAIL_VIEW = "AssetAllocation.detailView";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id", nullable = false)
     private Asset asset;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -1,11 +1,13 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@EntityListeners(DashboardCacheInvalidationListener.class)
 @Table(name = "asset_requests")
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
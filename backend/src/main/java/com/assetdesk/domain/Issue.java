@@ -1,16 +1,32 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
+import com.assetdesk.search.IssueSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
-@Table(name = "issues")
+@EntityListeners({DashboardCacheInvalidationListener.class, IssueSearchIndexListener.class})
+@Table(name = "issues", indexes = {
+    @Index(name = "idx_issues_created_at", columnList = "created_at, id"),
+    @Index(name = "idx_issues_asset", columnList = "asset_id"),
+    @Index(name = "idx_issues_reported_by", columnList = "reported_by"),
+    @Index(name = "idx_issues_assigned_to", columnList = "assigned_to")
+})
+@NamedEntityGraph(name = Issue.LIST_VIEW, attributeNodes = {
+    @NamedAttributeNode("asset"),
+    @NamedAttributeNode("reportedBy"),
+    @NamedAttributeNode("assignedTo")
+})
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Issue {
     
+    /** Fetch plan for {@code IssueResponseDTO}: the asset and both users it names. */
+    public static final String LIST_VIEW = "Issue.listView";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,29 @@
+package com.assetdesk.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a chunked scheduled job, committed after every chunk so a restarted run carries on
+ * from the last processed id instead of starting over.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+public class JobCheckpoint {
+    
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+    
+    // The run this progress belongs to; a new run date starts again from the beginning
+    @Column(nullable = false)
+    private LocalDate runDate;
+    
+    @Column(nullable = false)
+    private Long lastProcessedId = 0L;
+    
+    private LocalDateTime completedAt;
+}
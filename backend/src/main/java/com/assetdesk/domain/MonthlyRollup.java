@@ -0,0 +1,37 @@
+package com.assetdesk.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "monthly_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"rollup_month", "metric", "dimension"}))
+@Data
+public class MonthlyRollup {
+    
+    public static final String ALL = "ALL";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // Always the first day of the month
+    @Column(name = "rollup_month", nullable = false)
+    private LocalDate month;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Metric metric;
+    
+    // ALL for the metric total, otherwise the category/priority the count belongs to
+    @Column(nullable = false)
+    private String dimension;
+    
+    @Column(nullable = false)
+    private Long total = 0L;
+    
+    public enum Metric {
+        ASSET_PURCHASES, ISSUES_CREATED
+    }
+}
@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 
+/**
+ * The body of a notification, stored once however many users receive it. Who received it and
+ * whether they have read it lives in {@link NotificationReceipt}.
+ */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notification_contents")
 @Data
 public class Notification {
     
@@ -13,10 +17,6 @@ public class Notification {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
-    
     @Column(nullable = false)
     private String title;
     
@@ -26,14 +26,16 @@ public class Notification {
     @Enumerated(EnumType.STRING)
     private Type type;
     
-    private Boolean isRead = false;
-    
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
     
     private Long relatedIssueId;
     private Long relatedAssetId;
     
+    // Id of the row in the pre-split notifications table this body was copied from, if any
+    @Column(name = "legacy_notification_id")
+    private Long legacyNotificationId;
+    
     public enum Type {
         INFO, SUCCESS, WARNING, ERROR,
         ISSUE_ASSIGNED, ISSUE_UPDATED, ISSUE_RESOLVED, NEW_MESSAGE,
@@ -0,0 +1,56 @@
+package com.assetdesk.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * A notification waiting to be delivered. Written in the same transaction as the business change
+ * that caused it, then turned into {@link Notification} rows by the outbox dispatcher. Exactly one
+ * of {@code recipientUserId} and {@code recipientRoles} is set.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_pending", columnList = "dispatched_at, id"),
+    @Index(name = "idx_notification_outbox_dedup_key", columnList = "dedup_key")
+})
+@Data
+public class NotificationOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // Identifies the business occurrence; a second event with the same key is dropped on dispatch
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+    
+    private Long recipientUserId;
+    
+    // Comma-separated User.Role names
+    private String recipientRoles;
+    
+    @Column(nullable = false)
+    private String title;
+    
+    @Column(columnDefinition = "TEXT")
+    private String message;
+    
+    @Enumerated(EnumType.STRING)
+    private Notification.Type type;
+    
+    private Long relatedIssueId;
+    private Long relatedAssetId;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+    
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(length = 500)
+    private String lastError;
+}
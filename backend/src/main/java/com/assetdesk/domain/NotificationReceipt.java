@@ -0,0 +1,41 @@
+package com.assetdesk.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * One user's copy of a {@link Notification}. Kept narrow so per-user listings, unread lookups
+ * and counts only touch this table and its indexes; the shared body is joined in for display.
+ */
+@Entity
+@Table(name = "notification_receipts", indexes = {
+    @Index(name = "idx_notification_receipts_user_created_at", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_notification_receipts_user_unread", columnList = "user_id, is_read")
+})
+@NamedEntityGraph(name = NotificationReceipt.WITH_NOTIFICATION, attributeNodes = @NamedAttributeNode("notification"))
+@Data
+public class NotificationReceipt {
+    
+    /** Fetch plan for {@code NotificationResponseDTO}: the shared body. */
+    public static final String WITH_NOTIFICATION = "NotificationReceipt.withNotification";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id", nullable = false)
+    private Notification notification;
+    
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead = false;
+    
+    // Copied from the body so listings can be ordered and paged from the receipt index alone
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
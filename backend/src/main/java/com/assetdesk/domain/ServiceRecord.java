@@ -1,5 +1,6 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -7,16 +8,30 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@EntityListeners(DashboardCacheInvalidationListener.class)
 @Table(name = "service_records")
+@NamedEntityGraph(name = ServiceRecord.LIST_VIEW, attributeNodes = {
+    @NamedAttributeNode("asset"),
+    @NamedAttributeNode("vendor")
+})
+@NamedEntityGraph(name = ServiceRecord.DETAIL_VIEW, attributeNodes = {
+    @NamedAttributeNode(value = "asset", subgraph = "asset"),
+    @NamedAttributeNode("vendor")
+}, subgraphs = @NamedSubgraph(name = "asset", attributeNodes = @NamedAttributeNode("vendor")))
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class ServiceRecord {
     
+    /** Fetch plan for {@code ServiceRecordResponseDTO} rows and exports: asset and vendor. */
+    public static final String LIST_VIEW = "ServiceRecord.listView";
+    /** Fetch plan for endpoints that serialize the entity itself, down to the asset's vendor. */
+    public static final String DETAIL_VIEW = "ServiceRecord.detailView";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id", nullable = false)
     private Asset asset;
 
@@ -39,7 +54,7 @@ public class ServiceRecord {
     @Column(name = "performed_by")
     private String performedBy;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id")
     private Vendor vendor;
     
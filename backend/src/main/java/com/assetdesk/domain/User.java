@@ -1,5 +1,7 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
+import com.assetdesk.search.SuggestIndexListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDate;
@@ -7,6 +9,7 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@EntityListeners({DashboardCacheInvalidationListener.class, SuggestIndexListener.class})
 @Table(name = "users")
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
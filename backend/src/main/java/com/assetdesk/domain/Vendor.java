@@ -1,10 +1,12 @@
 package com.assetdesk.domain;
 
+import com.assetdesk.search.AssetSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@EntityListeners(AssetSearchIndexListener.class)
 @Table(name = "vendors")
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -0,0 +1,46 @@
+package com.assetdesk.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Records that an asset crossed a warranty-expiry threshold, so each threshold is alerted once per
+ * expiry date. Rows start undigested and are folded into the next warranty digest notification.
+ */
+@Entity
+@Table(name = "warranty_alerts",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"asset_id", "warranty_expiry_date", "threshold_days"}),
+       indexes = @Index(name = "idx_warranty_alerts_digested_at", columnList = "digested_at, id"))
+@Data
+public class WarrantyAlert {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // Plain id rather than an association so alerts never block deleting the asset
+    @Column(name = "asset_id", nullable = false)
+    private Long assetId;
+    
+    // Snapshot for the digest text, taken when the threshold was crossed
+    @Column(nullable = false)
+    private String assetTag;
+    
+    @Column(nullable = false)
+    private String assetName;
+    
+    // A renewed warranty gets a new expiry date and so fires its thresholds again
+    @Column(name = "warranty_expiry_date", nullable = false)
+    private LocalDate warrantyExpiryDate;
+    
+    @Column(name = "threshold_days", nullable = false)
+    private Integer thresholdDays;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+    
+    @Column(name = "digested_at")
+    private LocalDateTime digestedAt;
+}
@@ -1,12 +1,14 @@
 package com.assetdesk.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.assetdesk.cache.DashboardCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(DashboardCacheInvalidationListener.class)
 @Table(name = "warranty_history")
 @Data
 public class WarrantyHistory {
@@ -0,0 +1,51 @@
+package com.assetdesk.dto;
+
+import com.assetdesk.exception.InvalidOperationException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination position: the sort key of the last row served plus its id as a
+ * tie-breaker. Clients only ever see the encoded form.
+ */
+public record Cursor(String sortKey, Long id) {
+    
+    private static final String SEPARATOR = "|";
+    
+    public String encode() {
+        String raw = (sortKey != null ? sortKey : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime sortKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new InvalidOperationException("Invalid cursor position: " + sortKey);
+        }
+    }
+    
+    public LocalDate sortKeyAsDate() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new InvalidOperationException("Invalid cursor position: " + sortKey);
+        }
+    }
+    
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(raw.substring(0, split), Long.valueOf(raw.substring(split + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidOperationException("Invalid cursor: " + encoded);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.assetdesk.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a keyset-paginated listing. Clients pass {@code nextCursor} back to get the next
+ * page; it is null on the last page. {@code totalElements} is only filled in (and serialized)
+ * when the caller asked for a count.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    
+    public CursorPageDTO(List<T> content, String nextCursor, boolean hasNext, int size) {
+        this(content, nextCursor, hasNext, size, null);
+    }
+    
+    /**
+     * The requested page size, clamped to 1..{@link #MAX_PAGE_SIZE}.
+     */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+    
+    /**
+     * Limit for fetching a page of {@code pageSize} rows. One extra row is fetched to learn
+     * whether another page exists without counting; {@link #fromRows} drops it again.
+     */
+    public static Pageable fetchLimit(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+    
+    /**
+     * Builds a page from rows fetched with {@link #fetchLimit}.
+     */
+    public static <E, T> CursorPageDTO<T> fromRows(List<E> rows, int pageSize,
+                                                   Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        List<T> content = page.stream().map(mapper).toList();
+        return new CursorPageDTO<>(content, nextCursor, hasNext, content.size());
+    }
+}
@@ -0,0 +1,20 @@
+package com.assetdesk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceRecordExportFilter {
+    private String type;
+    private String dateRange;
+    private BigDecimal costMin;
+    private BigDecimal costMax;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+}
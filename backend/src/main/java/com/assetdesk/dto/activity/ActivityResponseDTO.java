@@ -0,0 +1,31 @@
+package com.assetdesk.dto.activity;
+
+import com.assetdesk.domain.ActivityFeedEntry;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class ActivityResponseDTO {
+    
+    private Long id;
+    private ActivityFeedEntry.Type type;
+    private String description;
+    private Long userId;
+    private String userName;
+    private String status;
+    private Long assetId;
+    private LocalDateTime createdAt;
+    
+    public static ActivityResponseDTO fromEntity(ActivityFeedEntry entry) {
+        ActivityResponseDTO dto = new ActivityResponseDTO();
+        dto.setId(entry.getId());
+        dto.setType(entry.getType());
+        dto.setDescription(entry.getDescription());
+        dto.setUserId(entry.getUserId());
+        dto.setUserName(entry.getUserName());
+        dto.setStatus(entry.getStatus());
+        dto.setAssetId(entry.getAssetId());
+        dto.setCreatedAt(entry.getCreatedAt());
+        return dto;
+    }
+}
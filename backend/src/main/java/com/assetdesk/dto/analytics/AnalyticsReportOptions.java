@@ -0,0 +1,15 @@
+package com.assetdesk.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalyticsReportOptions {
+    private boolean includeCharts;
+    private boolean includeDepreciation;
+    private boolean includeWarranty;
+    private boolean includeUtilization;
+}
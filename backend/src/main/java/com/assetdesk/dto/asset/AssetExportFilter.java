@@ -0,0 +1,21 @@
+package com.assetdesk.dto.asset;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssetExportFilter {
+    private String category;
+    private String type;
+    private String status;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private BigDecimal costMin;
+    private BigDecimal costMax;
+}
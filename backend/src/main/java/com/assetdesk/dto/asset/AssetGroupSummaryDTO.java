@@ -13,6 +13,9 @@ public class AssetGroupSummaryDTO {
     private long retired;
     private long lost;
     private List<UserBrief> allocatedUsers;
+    private long allocatedUsersTotal;
+    private int allocatedUsersPage;
+    private int allocatedUsersSize;
 
     @Data
     public static class UserBrief {
@@ -0,0 +1,30 @@
+package com.assetdesk.dto.asset;
+
+import com.assetdesk.domain.Asset;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Slim list-view projection of an asset, selected column by column rather than hydrated
+ * from the entity.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssetSummaryDTO {
+    private Long id;
+    private String assetTag;
+    private String name;
+    private Asset.Category category;
+    private Asset.AssetType type;
+    private Asset.Status status;
+    private String model;
+    private BigDecimal cost;
+    private LocalDate purchaseDate;
+    private LocalDate warrantyExpiryDate;
+    private String vendorName;
+}
@@ -48,6 +48,9 @@ public class DashboardStatsDTO {
     private Long warrantyExpiringCount;
     private Long maintenanceDueCount;
     
+    // True when a section timed out or failed and shows its fallback instead of real data
+    private Boolean degraded;
+    
     @Data
     @Builder
     @NoArgsConstructor
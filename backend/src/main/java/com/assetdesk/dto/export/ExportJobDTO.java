@@ -0,0 +1,26 @@
+package com.assetdesk.dto.export;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ExportJobDTO {
+    
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+    
+    private String id;
+    private ExportKind kind;
+    private Status status;
+    private long rowsWritten;
+    private Long totalRows;
+    private Integer percentComplete;
+    private String error;
+    private String downloadUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+}
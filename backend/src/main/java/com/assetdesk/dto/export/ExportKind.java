@@ -0,0 +1,25 @@
+package com.assetdesk.dto.export;
+
+public enum ExportKind {
+    ASSETS_CSV("assets.csv", "text/csv"),
+    ASSETS_PDF("assets.pdf", "application/pdf"),
+    SERVICE_RECORDS_CSV("service-records.csv", "text/csv"),
+    SERVICE_RECORDS_PDF("service-records.pdf", "application/pdf"),
+    ANALYTICS_PDF("analytics-report.pdf", "application/pdf");
+    
+    private final String fileName;
+    private final String contentType;
+    
+    ExportKind(String fileName, String contentType) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+}
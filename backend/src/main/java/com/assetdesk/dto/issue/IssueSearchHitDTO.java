@@ -0,0 +1,18 @@
+package com.assetdesk.dto.issue;
+
+import lombok.Data;
+
+/**
+ * One ranked full-text match. {@code highlightedTitle} and {@code snippet} are HTML-escaped
+ * with matching words wrapped in {@code <mark>}; {@code snippetField} names the field the
+ * snippet was cut from ({@code description} or {@code resolutionNotes}).
+ */
+@Data
+public class IssueSearchHitDTO {
+    
+    private IssueResponseDTO issue;
+    private double score;
+    private String highlightedTitle;
+    private String snippet;
+    private String snippetField;
+}
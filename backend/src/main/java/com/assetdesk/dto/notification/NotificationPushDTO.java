@@ -0,0 +1,40 @@
+package com.assetdesk.dto.notification;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.NotificationOutboxEvent;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * SSE payload sent once an outbox event has been delivered. Pushes are at least once, so clients
+ * should ignore an {@code eventId} they have already seen.
+ */
+@Data
+public class NotificationPushDTO {
+    
+    private Long eventId;
+    private String dedupKey;
+    private Long userId;
+    private String roles;
+    private int recipients;
+    private String title;
+    private Notification.Type type;
+    private Long relatedIssueId;
+    private Long relatedAssetId;
+    private LocalDateTime createdAt;
+    
+    public static NotificationPushDTO fromEvent(NotificationOutboxEvent event, int recipients) {
+        NotificationPushDTO dto = new NotificationPushDTO();
+        dto.setEventId(event.getId());
+        dto.setDedupKey(event.getDedupKey());
+        dto.setUserId(event.getRecipientUserId());
+        dto.setRoles(event.getRecipientRoles());
+        dto.setRecipients(recipients);
+        dto.setTitle(event.getTitle());
+        dto.setType(event.getType());
+        dto.setRelatedIssueId(event.getRelatedIssueId());
+        dto.setRelatedAssetId(event.getRelatedAssetId());
+        dto.setCreatedAt(event.getCreatedAt());
+        return dto;
+    }
+}
@@ -1,6 +1,7 @@
 package com.assetdesk.dto.notification;
 
 import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.NotificationReceipt;
 import lombok.Data;
 import java.time.LocalDateTime;
 
@@ -16,14 +17,19 @@ public class NotificationResponseDTO {
     private Long relatedIssueId;
     private Long relatedAssetId;
     
-    public static NotificationResponseDTO fromEntity(Notification notification) {
+    /**
+     * One user's notification. The id is the receipt's, which is what marking read and deleting
+     * act on; everything else comes from the shared body.
+     */
+    public static NotificationResponseDTO fromReceipt(NotificationReceipt receipt) {
+        Notification notification = receipt.getNotification();
         NotificationResponseDTO dto = new NotificationResponseDTO();
-        dto.setId(notification.getId());
+        dto.setId(receipt.getId());
         dto.setTitle(notification.getTitle());
         dto.setMessage(notification.getMessage());
         dto.setType(notification.getType());
-        dto.setIsRead(notification.getIsRead());
-        dto.setCreatedAt(notification.getCreatedAt());
+        dto.setIsRead(receipt.getIsRead());
+        dto.setCreatedAt(receipt.getCreatedAt());
         dto.setRelatedIssueId(notification.getRelatedIssueId());
         dto.setRelatedAssetId(notification.getRelatedAssetId());
         return dto;
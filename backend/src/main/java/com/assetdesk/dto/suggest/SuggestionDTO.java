@@ -0,0 +1,21 @@
+package com.assetdesk.dto.suggest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One typeahead match. {@code field} is the matched field ({@code assetTag}, {@code serialNumber},
+ * {@code employeeId} or {@code email}), {@code id} the asset or user it belongs to and
+ * {@code label} that asset's or user's name.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDTO {
+    
+    private String field;
+    private Long id;
+    private String value;
+    private String label;
+}
@@ -0,0 +1,23 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.ActivityFeedEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ActivityFeedRepository extends JpaRepository<ActivityFeedEntry, Long> {
+    
+    List<ActivityFeedEntry> findByOrderByCreatedAtDescIdDesc(Pageable pageable);
+    
+    List<ActivityFeedEntry> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+    
+    @Query("SELECT a FROM ActivityFeedEntry a WHERE a.createdAt < ?1 OR (a.createdAt = ?1 AND a.id < ?2) ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityFeedEntry> findBefore(LocalDateTime createdAt, Long id, Pageable pageable);
+    
+    @Query("SELECT a FROM ActivityFeedEntry a WHERE a.userId = ?1 AND (a.createdAt < ?2 OR (a.createdAt = ?2 AND a.id < ?3)) ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityFeedEntry> findByUserIdBefore(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+}
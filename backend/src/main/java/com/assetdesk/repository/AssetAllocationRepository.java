@@ -1,11 +1,17 @@
 package com.assetdesk.repository;
 
+import com.assetdesk.domain.Asset;
 import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.repository.projection.AllocatedUserRow;
+import com.assetdesk.repository.projection.GroupCount;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +21,47 @@ public interface AssetAllocationRepository extends JpaRepository<AssetAllocation
     List<AssetAllocation> findByAssetId(Long assetId);
     List<AssetAllocation> findByUserId(Long userId);
     
+    // Same rows as above, with the fetch plan of the endpoint that renders them
+    @EntityGraph(AssetAllocation.DETAIL_VIEW)
+    List<AssetAllocation> findWithDetailsByAssetId(Long assetId);
+    
+    @EntityGraph(AssetAllocation.DETAIL_VIEW)
+    List<AssetAllocation> findWithDetailsByUserId(Long userId);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
+    List<AssetAllocation> findWithAssetAndUserByAssetId(Long assetId);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
+    List<AssetAllocation> findWithAssetAndUserByUserId(Long userId);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
     @Query("SELECT aa FROM AssetAllocation aa WHERE aa.asset.id = ?1 AND aa.returnedDate IS NULL ORDER BY aa.allocatedDate DESC")
     List<AssetAllocation> findCurrentAllocationsByAssetId(Long assetId);
     
-    @Query(value = "SELECT * FROM asset_allocations aa WHERE aa.asset_id = ?1 AND aa.returned_date IS NULL ORDER BY aa.allocated_date DESC LIMIT 1", nativeQuery = true)
-    Optional<AssetAllocation> findCurrentAllocationByAssetId(Long assetId);
+    @EntityGraph(AssetAllocation.LIST_VIEW)
+    Optional<AssetAllocation> findFirstByAssetIdAndReturnedDateIsNullOrderByAllocatedDateDesc(Long assetId);
+    
+    // Batched current-allocation lookup for a page of assets
+    @Query("SELECT aa FROM AssetAllocation aa JOIN FETCH aa.asset JOIN FETCH aa.user WHERE aa.asset.id IN ?1 AND aa.returnedDate IS NULL")
+    List<AssetAllocation> findCurrentAllocationsByAssetIdIn(Collection<Long> assetIds);
     
     @Query("SELECT aa FROM AssetAllocation aa WHERE aa.user.id = ?1 AND aa.returnedDate IS NULL")
     List<AssetAllocation> findCurrentAllocationsByUserId(Long userId);
     
+    @EntityGraph(AssetAllocation.DETAIL_VIEW)
     @Query("SELECT aa FROM AssetAllocation aa WHERE aa.returnedDate IS NULL")
     List<AssetAllocation> findCurrentAllocations();
     
+    @Override
+    @EntityGraph(AssetAllocation.LIST_VIEW)
+    Page<AssetAllocation> findAll(Pageable pageable);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
     Page<AssetAllocation> findByReturnedDateIsNull(Pageable pageable);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
     Page<AssetAllocation> findByReturnedDateIsNotNull(Pageable pageable);
+    
     long countByReturnedDateIsNull();
     
     // Dashboard specific queries
@@ -39,13 +72,53 @@ public interface AssetAllocationRepository extends JpaRepository<AssetAllocation
     @Query("SELECT COUNT(aa) FROM AssetAllocation aa WHERE aa.user.id = ?1 AND aa.returnedDate IS NULL")
     Long countCurrentAllocationsByUserId(Long userId);
     
-    @Query("SELECT aa FROM AssetAllocation aa WHERE aa.returnedDate IS NULL ORDER BY aa.allocatedDate DESC")
     List<AssetAllocation> findTop10ByReturnedDateIsNullOrderByAllocatedDateDesc();
     
-    @Query("SELECT aa FROM AssetAllocation aa WHERE aa.user.id = ?1 AND aa.returnedDate IS NULL ORDER BY aa.allocatedDate DESC")
     List<AssetAllocation> findTop10ByUserIdAndReturnedDateIsNullOrderByAllocatedDateDesc(Long userId);
     
+    @EntityGraph(AssetAllocation.LIST_VIEW)
     List<AssetAllocation> findByUserIdAndReturnStatusIn(Long userId, List<AssetAllocation.ReturnStatus> statuses);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
     List<AssetAllocation> findByReturnStatusIn(List<AssetAllocation.ReturnStatus> statuses);
+    
+    @EntityGraph(AssetAllocation.LIST_VIEW)
     Optional<AssetAllocation> findByAssetIdAndUserIdAndReturnedDateIsNull(Long assetId, Long userId);
-}
\ No newline at end of file
+    
+    boolean existsByAssetIdAndUserIdAndReturnedDateIsNull(Long assetId, Long userId);
+    
+    // Aggregate projections
+    @Query("SELECT COALESCE(u.department, 'Unassigned') AS label, COUNT(aa) AS total FROM AssetAllocation aa JOIN aa.user u WHERE aa.returnedDate IS NULL GROUP BY COALESCE(u.department, 'Unassigned')")
+    List<GroupCount> countCurrentGroupByDepartment();
+    
+    @Query("SELECT a.category AS label, COUNT(aa) AS total FROM AssetAllocation aa JOIN aa.asset a WHERE aa.user.id = ?1 AND aa.returnedDate IS NULL AND a.category IS NOT NULL GROUP BY a.category")
+    List<GroupCount> countCurrentGroupByCategoryForUser(Long userId);
+    
+    // Holders of the allocated assets in a group; namePattern is a lowercase LIKE pattern
+    @Query(value = "SELECT u.id AS id, u.name AS name, u.department AS department, u.email AS email " +
+           "FROM AssetAllocation aa JOIN aa.asset a JOIN aa.user u " +
+           "WHERE aa.returnedDate IS NULL AND a.status = ?2 AND LOWER(a.name) LIKE ?1 " +
+           "ORDER BY u.name, u.id, aa.id",
+           countQuery = "SELECT COUNT(aa) FROM AssetAllocation aa JOIN aa.asset a " +
+           "WHERE aa.returnedDate IS NULL AND a.status = ?2 AND LOWER(a.name) LIKE ?1")
+    Page<AllocatedUserRow> findCurrentHoldersByAssetNameLike(String namePattern, Asset.Status status, Pageable pageable);
+    
+    // Keyset pagination, latest allocation first, optionally limited to active or returned ones
+    @Query("SELECT aa FROM AssetAllocation aa JOIN FETCH aa.asset JOIN FETCH aa.user " +
+           "WHERE (?1 = false OR aa.returnedDate IS NULL) AND (?2 = false OR aa.returnedDate IS NOT NULL) " +
+           "ORDER BY aa.allocatedDate DESC, aa.id DESC")
+    List<AssetAllocation> findFirstPage(boolean activeOnly, boolean returnedOnly, Pageable pageable);
+    
+    @Query("SELECT aa FROM AssetAllocation aa JOIN FETCH aa.asset JOIN FETCH aa.user " +
+           "WHERE (?1 = false OR aa.returnedDate IS NULL) AND (?2 = false OR aa.returnedDate IS NOT NULL) " +
+           "AND (aa.allocatedDate < ?3 OR (aa.allocatedDate = ?3 AND aa.id < ?4)) " +
+           "ORDER BY aa.allocatedDate DESC, aa.id DESC")
+    List<AssetAllocation> findPageBefore(boolean activeOnly, boolean returnedOnly, LocalDate allocatedDate, Long id, Pageable pageable);
+    
+    long countByReturnedDateIsNotNull();
+    
+    // Keyset pagination in id order; the first page passes afterId = 0
+    @EntityGraph(AssetAllocation.LIST_VIEW)
+    @Query("SELECT aa FROM AssetAllocation aa WHERE aa.id > ?1 ORDER BY aa.id")
+    List<AssetAllocation> findPageAfter(Long afterId, Pageable pageable);
+}
@@ -1,8 +1,14 @@
 package com.assetdesk.repository;
 
 import com.assetdesk.domain.Asset;
+import com.assetdesk.repository.projection.AssetAggregateRow;
+import com.assetdesk.repository.projection.AssetSearchRow;
+import com.assetdesk.repository.projection.PurchaseCostBucket;
+import com.assetdesk.repository.projection.GroupCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -13,14 +19,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset> {
+public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset>, AssetRepositoryCustom {
     
     Optional<Asset> findByAssetTag(String assetTag);
     List<Asset> findByCategory(Asset.Category category);
+    @EntityGraph(Asset.WITH_VENDOR)
     Page<Asset> findByCategory(Asset.Category category, Pageable pageable);
     List<Asset> findByType(Asset.AssetType type);
     Page<Asset> findByType(Asset.AssetType type, Pageable pageable);
     List<Asset> findByStatus(Asset.Status status);
+    @EntityGraph(Asset.WITH_VENDOR)
     Page<Asset> findByStatus(Asset.Status status, Pageable pageable);
     List<Asset> findByVendorId(Long vendorId);
     Page<Asset> findByVendorId(Long vendorId, Pageable pageable);
@@ -52,13 +60,30 @@ public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecific
            "ORDER BY COUNT(a) DESC")
     List<Object[]> findAssetGroupsWithDetails();
     
+    @EntityGraph(Asset.WITH_VENDOR)
     @Query("SELECT a FROM Asset a WHERE a.name LIKE %?1%")
     Page<Asset> findByName(String name, Pageable pageable);
     
+    // List views render the vendor name, so page queries join it in rather than loading it per row
+    @Override
+    @EntityGraph(Asset.WITH_VENDOR)
     Page<Asset> findAll(Pageable pageable);
+    
+    @Override
+    @EntityGraph(Asset.WITH_VENDOR)
+    Page<Asset> findAll(Specification<Asset> spec, Pageable pageable);
+    
+    @Override
+    @EntityGraph(Asset.WITH_VENDOR)
+    List<Asset> findAllById(Iterable<Long> ids);
 
+    @EntityGraph(Asset.WITH_VENDOR)
     Page<Asset> findByWarrantyExpiryDateBetween(java.time.LocalDate start, java.time.LocalDate end, Pageable pageable);
     
+    // Keyset chunks for the warranty job: ordered by id so a checkpointed id resumes the scan
+    @Query("SELECT a FROM Asset a WHERE a.warrantyExpiryDate BETWEEN ?1 AND ?2 AND a.id > ?3 ORDER BY a.id")
+    List<Asset> findWarrantyExpiringAfterId(LocalDate start, LocalDate end, Long afterId, Pageable pageable);
+    
     @Query("SELECT COUNT(a) FROM Asset a WHERE a.warrantyExpiryDate IS NOT NULL")
     long countAssetsWithWarranty();
     
@@ -68,9 +93,11 @@ public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecific
     @Query("SELECT COUNT(a) FROM Asset a WHERE a.warrantyExpiryDate BETWEEN CURRENT_DATE AND :endDate")
     long countWarrantiesExpiringBefore(java.time.LocalDate endDate);
     
+    @EntityGraph(Asset.WITH_VENDOR)
     @Query("SELECT a FROM Asset a WHERE a.warrantyExpiryDate < CURRENT_DATE ORDER BY a.warrantyExpiryDate DESC")
     Page<Asset> findExpiredWarranties(Pageable pageable);
     
+    @EntityGraph(Asset.WITH_VENDOR)
     @Query("SELECT a FROM Asset a WHERE a.warrantyExpiryDate >= CURRENT_DATE ORDER BY a.warrantyExpiryDate ASC")
     Page<Asset> findValidWarranties(Pageable pageable);
     
@@ -89,4 +116,42 @@ public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecific
     
     @Query("SELECT a FROM Asset a LEFT JOIN FETCH a.vendor WHERE a.id = ?1")
     Optional<Asset> findByIdWithVendor(Long id);
-}
\ No newline at end of file
+    
+    // Aggregate projections
+    @Query("SELECT a.category AS label, COUNT(a) AS total FROM Asset a WHERE a.category IS NOT NULL GROUP BY a.category")
+    List<GroupCount> countGroupByCategory();
+    
+    @Query("SELECT a.status AS label, COUNT(a) AS total FROM Asset a WHERE a.status IS NOT NULL GROUP BY a.status")
+    List<GroupCount> countGroupByStatus();
+    
+    // Status breakdown of an asset group; namePattern is a lowercase LIKE pattern
+    @Query("SELECT a.status AS label, COUNT(a) AS total FROM Asset a WHERE LOWER(a.name) LIKE ?1 AND a.status IS NOT NULL GROUP BY a.status")
+    List<GroupCount> countGroupByStatusForNameLike(String namePattern);
+    
+    @Query("SELECT a.category AS category, a.status AS status, a.type AS type, " +
+           "COUNT(a) AS assetCount, " +
+           "COUNT(a.cost) AS costCount, " +
+           "SUM(a.cost) AS costTotal, " +
+           "MIN(a.cost) AS costMin, " +
+           "MAX(a.cost) AS costMax, " +
+           "SUM(CASE WHEN a.warrantyExpiryDate < ?1 THEN 1 ELSE 0 END) AS warrantyExpired, " +
+           "SUM(CASE WHEN a.warrantyExpiryDate > ?1 AND a.warrantyExpiryDate < ?2 THEN 1 ELSE 0 END) AS warrantyExpiring, " +
+           "SUM(CASE WHEN a.warrantyExpiryDate > ?2 THEN 1 ELSE 0 END) AS warrantyValid " +
+           "FROM Asset a GROUP BY a.category, a.status, a.type")
+    List<AssetAggregateRow> aggregateInventory(LocalDate today, LocalDate expiringBefore);
+    
+    @Query("SELECT a.category AS category, YEAR(a.purchaseDate) AS purchaseYear, MONTH(a.purchaseDate) AS purchaseMonth, " +
+           "COUNT(a) AS assetCount, SUM(a.cost) AS costTotal " +
+           "FROM Asset a WHERE a.cost IS NOT NULL AND a.purchaseDate IS NOT NULL " +
+           "GROUP BY a.category, YEAR(a.purchaseDate), MONTH(a.purchaseDate)")
+    List<PurchaseCostBucket> sumCostByCategoryAndPurchaseMonth();
+    
+    @Query("SELECT a.id AS id, a.name AS name, a.assetTag AS assetTag, a.model AS model, a.serialNumber AS serialNumber, " +
+           "v.id AS vendorId, v.name AS vendorName, a.category AS category, a.type AS type, a.status AS status " +
+           "FROM Asset a LEFT JOIN a.vendor v WHERE a.id > ?1 ORDER BY a.id")
+    List<AssetSearchRow> findSearchRowsAfter(Long afterId, Pageable pageable);
+    
+    // Keyset pagination in id order; the first page passes afterId = 0
+    @Query("SELECT a FROM Asset a LEFT JOIN FETCH a.vendor WHERE a.id > ?1 ORDER BY a.id")
+    List<Asset> findPageAfter(Long afterId, Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.dto.asset.AssetSummaryDTO;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface AssetRepositoryCustom {
+    
+    /**
+     * Keyset page of asset summaries ordered by id. Rows after {@code afterId} (exclusive) are
+     * returned, at most {@code limit} of them.
+     */
+    List<AssetSummaryDTO> findSummaries(Specification<Asset> spec, Long afterId, int limit);
+    
+    /**
+     * Forward-only stream of matching assets, vendor fetched, ordered by id. Must be consumed
+     * inside a transaction; rows are pulled from the database {@code fetchSize} at a time.
+     */
+    Stream<Asset> streamAll(Specification<Asset> spec, int fetchSize);
+}
@@ -0,0 +1,78 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.dto.asset.AssetSummaryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AssetRepositoryImpl implements AssetRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<AssetSummaryDTO> findSummaries(Specification<Asset> spec, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetSummaryDTO> query = cb.createQuery(AssetSummaryDTO.class);
+        Root<Asset> root = query.from(Asset.class);
+        Join<Object, Object> vendor = root.join("vendor", JoinType.LEFT);
+        
+        query.select(cb.construct(AssetSummaryDTO.class,
+            root.get("id"),
+            root.get("assetTag"),
+            root.get("name"),
+            root.get("category"),
+            root.get("type"),
+            root.get("status"),
+            root.get("model"),
+            root.get("cost"),
+            root.get("purchaseDate"),
+            root.get("warrantyExpiryDate"),
+            vendor.get("name")));
+        
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicates.add(filter);
+            }
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.get("id"), afterId));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+    
+    @Override
+    public Stream<Asset> streamAll(Specification<Asset> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> root = query.from(Asset.class);
+        root.fetch("vendor", JoinType.LEFT);
+        
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                query.where(filter);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
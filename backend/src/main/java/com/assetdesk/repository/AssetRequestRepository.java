@@ -4,6 +4,7 @@ import com.assetdesk.domain.AssetRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -21,6 +22,10 @@ public interface AssetRequestRepository extends JpaRepository<AssetRequest, Long
     List<AssetRequest> findTop5ByOrderByRequestedDateDesc();
     
     List<AssetRequest> findTop5ByRequestedByIdOrderByRequestedDateDesc(Long userId);
+    
+    // Keyset pagination in id order; the first page passes afterId = 0
+    @Query("SELECT ar FROM AssetRequest ar LEFT JOIN FETCH ar.requestedBy WHERE ar.id > ?1 ORDER BY ar.id")
+    List<AssetRequest> findPageAfter(Long afterId, Pageable pageable);
 }
 
 
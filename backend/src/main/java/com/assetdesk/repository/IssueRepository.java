@@ -1,28 +1,48 @@
 package com.assetdesk.repository;
 
 import com.assetdesk.domain.Issue;
+import com.assetdesk.repository.projection.GroupCount;
+import com.assetdesk.repository.projection.IssueSearchRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 import java.time.LocalDateTime;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue>, IssueRepositoryCustom {
+    
+    // Page queries feed IssueResponseDTO, so they join in the asset and users it renders
+    @Override
+    @EntityGraph(Issue.LIST_VIEW)
+    Page<Issue> findAll(Pageable pageable);
+    
+    @Override
+    @EntityGraph(Issue.LIST_VIEW)
+    List<Issue> findAllById(Iterable<Long> ids);
+    
+    @EntityGraph(Issue.LIST_VIEW)
+    Optional<Issue> findWithDetailsById(Long id);
     
     List<Issue> findByReportedById(Long userId);
+    @EntityGraph(Issue.LIST_VIEW)
     Page<Issue> findByReportedById(Long userId, Pageable pageable);
     
     List<Issue> findByAssignedToId(Long userId);
+    @EntityGraph(Issue.LIST_VIEW)
     Page<Issue> findByAssignedToId(Long userId, Pageable pageable);
     
     List<Issue> findByAssetId(Long assetId);
+    @EntityGraph(Issue.LIST_VIEW)
     Page<Issue> findByAssetId(Long assetId, Pageable pageable);
     
     List<Issue> findByStatus(Issue.Status status);
+    @EntityGraph(Issue.LIST_VIEW)
     Page<Issue> findByStatus(Issue.Status status, Pageable pageable);
     
     List<Issue> findByPriority(Issue.Priority priority);
@@ -30,25 +50,31 @@ public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecific
     @Query("SELECT i FROM Issue i WHERE i.status IN ('OPEN', 'IN_PROGRESS')")
     List<Issue> findActiveIssues();
     
+    @EntityGraph(Issue.LIST_VIEW)
     @Query("SELECT i FROM Issue i WHERE i.status IN ('OPEN', 'IN_PROGRESS')")
     Page<Issue> findActiveIssues(Pageable pageable);
     
     @Query("SELECT i FROM Issue i WHERE i.assignedTo IS NULL AND i.status = 'OPEN'")
     List<Issue> findUnassignedIssues();
     
+    @EntityGraph(Issue.LIST_VIEW)
     @Query("SELECT i FROM Issue i WHERE i.assignedTo IS NULL AND i.status = 'OPEN'")
     Page<Issue> findUnassignedIssues(Pageable pageable);
     
     // Exclude closed issues by default
+    @EntityGraph(Issue.LIST_VIEW)
     @Query("SELECT i FROM Issue i WHERE i.status != 'CLOSED'")
     Page<Issue> findAllExcludingClosed(Pageable pageable);
     
+    @EntityGraph(Issue.LIST_VIEW)
     @Query("SELECT i FROM Issue i WHERE i.reportedBy.id = ?1 AND i.status != 'CLOSED'")
     Page<Issue> findByReportedByIdExcludingClosed(Long userId, Pageable pageable);
     
+    @EntityGraph(Issue.LIST_VIEW)
     @Query("SELECT i FROM Issue i WHERE i.assignedTo.id = ?1 AND i.status != 'CLOSED'")
     Page<Issue> findByAssignedToIdExcludingClosed(Long userId, Pageable pageable);
     
+    @EntityGraph(Issue.LIST_VIEW)
     @Query("SELECT i FROM Issue i WHERE i.asset.id = ?1 AND i.status != 'CLOSED'")
     Page<Issue> findByAssetIdExcludingClosed(Long assetId, Pageable pageable);
     
@@ -76,4 +102,48 @@ public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecific
     
     @Query("SELECT i FROM Issue i WHERE i.reportedBy.id = ?1 AND i.status IN ('OPEN', 'IN_PROGRESS') ORDER BY i.priority DESC, i.createdAt DESC")
     List<Issue> findTop10ByReportedByIdAndOpenStatusOrderByPriorityDesc(Long userId);
-}
\ No newline at end of file
+    
+    // Aggregate projections
+    @Query("SELECT i.priority AS label, COUNT(i) AS total FROM Issue i WHERE i.priority IS NOT NULL GROUP BY i.priority")
+    List<GroupCount> countGroupByPriority();
+    
+    @Query("SELECT i.status AS label, COUNT(i) AS total FROM Issue i WHERE i.status IS NOT NULL GROUP BY i.status")
+    List<GroupCount> countGroupByStatus();
+    
+    @Query("SELECT i.status AS label, COUNT(i) AS total FROM Issue i WHERE i.reportedBy.id = ?1 AND i.status IS NOT NULL GROUP BY i.status")
+    List<GroupCount> countGroupByStatusForReporter(Long userId);
+    
+    @Query("SELECT i.id AS id, i.title AS title, i.description AS description, i.resolutionNotes AS resolutionNotes, " +
+           "i.status AS status, i.priority AS priority, i.type AS type, i.asset.id AS assetId, " +
+           "i.reportedBy.id AS reportedById, u.id AS assignedToId " +
+           "FROM Issue i LEFT JOIN i.assignedTo u WHERE i.id > ?1 ORDER BY i.id")
+    List<IssueSearchRow> findSearchRowsAfter(Long afterId, Pageable pageable);
+    
+    // Up to ?2 issues whose asset name or tag, reporter name or assignee name contains the lower-cased
+    // pattern. One UNION branch per foreign key, so each reaches issues through that key's index
+    // (idx_issues_asset, idx_issues_reported_by, idx_issues_assigned_to) instead of scanning issues.
+    @Query(value = "SELECT i.id FROM issues i JOIN assets a ON a.id = i.asset_id " +
+                   "WHERE LOWER(a.name) LIKE ?1 OR LOWER(a.asset_tag) LIKE ?1 " +
+                   "UNION SELECT i.id FROM issues i JOIN users r ON r.id = i.reported_by WHERE LOWER(r.name) LIKE ?1 " +
+                   "UNION SELECT i.id FROM issues i JOIN users u ON u.id = i.assigned_to WHERE LOWER(u.name) LIKE ?1 " +
+                   "LIMIT ?2", nativeQuery = true)
+    List<Long> findIdsByRelatedNameLike(String pattern, int limit);
+    
+    // Keyset pagination over non-closed issues, newest first, served by idx_issues_created_at
+    @Query("SELECT i FROM Issue i JOIN FETCH i.asset JOIN FETCH i.reportedBy LEFT JOIN FETCH i.assignedTo " +
+           "WHERE i.status <> 'CLOSED' ORDER BY i.createdAt DESC, i.id DESC")
+    List<Issue> findFirstPageExcludingClosed(Pageable pageable);
+    
+    @Query("SELECT i FROM Issue i JOIN FETCH i.asset JOIN FETCH i.reportedBy LEFT JOIN FETCH i.assignedTo " +
+           "WHERE i.status <> 'CLOSED' AND (i.createdAt < ?1 OR (i.createdAt = ?1 AND i.id < ?2)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Issue> findPageExcludingClosedBefore(LocalDateTime createdAt, Long id, Pageable pageable);
+    
+    @Query("SELECT COUNT(i) FROM Issue i WHERE i.status <> 'CLOSED'")
+    long countExcludingClosed();
+    
+    // Keyset pagination in id order; the first page passes afterId = 0
+    @EntityGraph(Issue.LIST_VIEW)
+    @Query("SELECT i FROM Issue i WHERE i.id > ?1 ORDER BY i.id")
+    List<Issue> findPageAfter(Long afterId, Pageable pageable);
+}
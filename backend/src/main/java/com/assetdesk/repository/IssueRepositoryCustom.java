@@ -0,0 +1,16 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.Issue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface IssueRepositoryCustom {
+    
+    /**
+     * First phase of a two-phase page: the ids of the matching issues in page order, plus the
+     * total. The requested sort is applied with the id as tie-breaker, so pages never overlap.
+     * Hydrate the rows with {@link IssueRepository#findAllById}, which joins in the associations.
+     */
+    Page<Long> findIds(Specification<Issue> spec, Pageable pageable);
+}
@@ -0,0 +1,62 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.Issue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IssueRepositoryImpl implements IssueRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Long> findIds(Specification<Issue> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Issue> root = query.from(Issue.class);
+        query.select(root.get("id"));
+        Predicate filter = toPredicate(spec, root, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        if (pageable.getSort().getOrderFor("id") == null) {
+            orders.add(cb.asc(root.get("id")));
+        }
+        query.orderBy(orders);
+        
+        TypedQuery<Long> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typed.getResultList(), pageable, () -> count(spec));
+    }
+    
+    private long count(Specification<Issue> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Issue> root = query.from(Issue.class);
+        query.select(cb.count(root));
+        Predicate filter = toPredicate(spec, root, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    private static Predicate toPredicate(Specification<Issue> spec, Root<Issue> root, CriteriaQuery<?> query,
+                                         CriteriaBuilder cb) {
+        return spec != null ? spec.toPredicate(root, query, cb) : null;
+    }
+}
@@ -2,11 +2,13 @@ package com.assetdesk.repository;
 
 import com.assetdesk.domain.Message;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -26,4 +28,13 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     
     @Query("SELECT COUNT(m) FROM Message m WHERE m.issue.assignedTo.id = :userId AND m.isRead = false")
     Long countUnreadMessages(@Param("userId") Long userId);
+    
+    // Bulk read-state changes: one UPDATE each, returning how many messages flipped to read
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.id = :id AND m.isRead = false")
+    int markReadById(@Param("id") Long id);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.issue.id = :issueId AND m.timestamp <= :upTo AND m.isRead = false")
+    int markIssueMessagesReadUpTo(@Param("issueId") Long issueId, @Param("upTo") LocalDateTime upTo);
 }
\ No newline at end of file
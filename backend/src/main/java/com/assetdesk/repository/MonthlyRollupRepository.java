@@ -0,0 +1,37 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+    
+    List<MonthlyRollup> findByMetricAndDimensionAndMonthBetweenOrderByMonth(
+        MonthlyRollup.Metric metric, String dimension, LocalDate from, LocalDate to);
+    
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (rollup_month, metric, dimension, total) VALUES (?1, ?2, ?3, ?4) " +
+                   "ON CONFLICT (rollup_month, metric, dimension) DO UPDATE SET total = monthly_rollups.total + EXCLUDED.total",
+           nativeQuery = true)
+    void increment(LocalDate month, String metric, String dimension, long delta);
+    
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.metric = ?1")
+    int deleteByMetric(MonthlyRollup.Metric metric);
+    
+    // Backfill sources: one row per (year, month, dimension)
+    @Query("SELECT YEAR(a.purchaseDate), MONTH(a.purchaseDate), a.category, COUNT(a) FROM Asset a " +
+           "WHERE a.purchaseDate IS NOT NULL " +
+           "GROUP BY YEAR(a.purchaseDate), MONTH(a.purchaseDate), a.category")
+    List<Object[]> countAssetPurchasesByMonthAndCategory();
+    
+    @Query("SELECT YEAR(i.createdAt), MONTH(i.createdAt), i.priority, COUNT(i) FROM Issue i " +
+           "WHERE i.createdAt IS NOT NULL " +
+           "GROUP BY YEAR(i.createdAt), MONTH(i.createdAt), i.priority")
+    List<Object[]> countIssuesCreatedByMonthAndPriority();
+}
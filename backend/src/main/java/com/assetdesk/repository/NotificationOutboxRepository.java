@@ -0,0 +1,39 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.NotificationOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEvent, Long> {
+    
+    // Oldest first, served by idx_notification_outbox_pending
+    @Query("SELECT e FROM NotificationOutboxEvent e WHERE e.dispatchedAt IS NULL AND e.attempts < ?1 ORDER BY e.id")
+    List<NotificationOutboxEvent> findPending(int maxAttempts, Pageable pageable);
+    
+    @Query("SELECT COUNT(e) FROM NotificationOutboxEvent e WHERE e.dispatchedAt IS NULL AND e.attempts < ?1")
+    long countPending(int maxAttempts);
+    
+    @Query("SELECT MIN(e.createdAt) FROM NotificationOutboxEvent e WHERE e.dispatchedAt IS NULL AND e.attempts < ?1")
+    LocalDateTime findOldestPendingCreatedAt(int maxAttempts);
+    
+    boolean existsByDedupKeyAndIdNotAndDispatchedAtIsNotNull(String dedupKey, Long id);
+    
+    // Claims the event for the calling transaction; 0 means another dispatcher already delivered it
+    @Modifying
+    @Query("UPDATE NotificationOutboxEvent e SET e.dispatchedAt = ?2 WHERE e.id = ?1 AND e.dispatchedAt IS NULL")
+    int markDispatched(Long id, LocalDateTime dispatchedAt);
+    
+    @Modifying
+    @Query("UPDATE NotificationOutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = ?2 WHERE e.id = ?1")
+    int recordFailure(Long id, String error);
+    
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEvent e WHERE e.dispatchedAt < ?1")
+    int deleteDispatchedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,63 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.NotificationReceipt;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationReceiptRepository extends JpaRepository<NotificationReceipt, Long> {
+    
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    List<NotificationReceipt> findByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    Page<NotificationReceipt> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    @Query("SELECT r FROM NotificationReceipt r WHERE r.user.id = ?1 AND r.isRead = false ORDER BY r.createdAt DESC")
+    List<NotificationReceipt> findUnreadByUserId(Long userId);
+    
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    @Query(value = "SELECT r FROM NotificationReceipt r WHERE r.user.id = ?1 AND r.isRead = false ORDER BY r.createdAt DESC",
+        countQuery = "SELECT COUNT(r) FROM NotificationReceipt r WHERE r.user.id = ?1 AND r.isRead = false")
+    Page<NotificationReceipt> findUnreadByUserId(Long userId, Pageable pageable);
+    
+    // Served by idx_notification_receipts_user_unread without touching the bodies
+    @Query("SELECT COUNT(r) FROM NotificationReceipt r WHERE r.user.id = ?1 AND r.isRead = false")
+    long countUnreadByUserId(Long userId);
+    
+    // Keyset pagination per user, newest first, served by idx_notification_receipts_user_created_at
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    List<NotificationReceipt> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+    
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    @Query("SELECT r FROM NotificationReceipt r WHERE r.user.id = ?1 AND (r.createdAt < ?2 OR (r.createdAt = ?2 AND r.id < ?3)) ORDER BY r.createdAt DESC, r.id DESC")
+    List<NotificationReceipt> findByUserIdBefore(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+    
+    long countByUserId(Long userId);
+    
+    // Bulk read-state changes: one UPDATE each, returning how many receipts flipped to read
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationReceipt r SET r.isRead = true WHERE r.user.id = ?1 AND r.isRead = false")
+    int markAllReadByUserId(Long userId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationReceipt r SET r.isRead = true WHERE r.user.id = ?1 AND r.id IN ?2 AND r.isRead = false")
+    int markReadByUserIdAndIdIn(Long userId, Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationReceipt r SET r.isRead = true WHERE r.id = ?1 AND r.isRead = false")
+    int markReadById(Long id);
+    
+    @Override
+    @EntityGraph(NotificationReceipt.WITH_NOTIFICATION)
+    Page<NotificationReceipt> findAll(Pageable pageable);
+}
@@ -2,27 +2,15 @@ package com.assetdesk.repository;
 
 import com.assetdesk.domain.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
     
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
-    List<Notification> findByUserIdAndIsReadOrderByCreatedAtDesc(Long userId, Boolean isRead);
-    List<Notification> findByType(Notification.Type type);
-    
-    @Query("SELECT n FROM Notification n WHERE n.user.id = ?1 AND n.isRead = false")
-    List<Notification> findUnreadNotificationsByUserId(Long userId);
-    
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = ?1 AND n.isRead = false")
-    Long countUnreadNotificationsByUserId(Long userId);
-    
-    Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
-    
-    @Query("SELECT n FROM Notification n WHERE n.user.id = ?1 AND n.isRead = false ORDER BY n.createdAt DESC")
-    Page<Notification> findUnreadNotificationsByUserId(Long userId, Pageable pageable);
-}
\ No newline at end of file
+    // Drops a body once its last receipt is gone
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id = ?1 AND NOT EXISTS (SELECT r FROM NotificationReceipt r WHERE r.notification.id = n.id)")
+    int deleteIfUnreferenced(Long id);
+}
@@ -0,0 +1,29 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.User;
+import java.util.Collection;
+
+public interface NotificationRepositoryCustom {
+    
+    /**
+     * Stores {@code content} (title, message, type, related ids, created time) once and gives
+     * each listed user a receipt for it, inserted as a single JDBC batch. Ids with no matching
+     * user are skipped. Users are never loaded. Returns the number of receipts inserted.
+     */
+    int insertForUsers(Notification content, Collection<Long> userIds);
+    
+    /**
+     * Stores {@code content} once and gives every user holding one of {@code roles} a receipt
+     * for it in one INSERT ... SELECT statement. Returns the number of receipts inserted.
+     */
+    int insertForRoles(Notification content, Collection<User.Role> roles);
+    
+    /**
+     * Copies every row of the pre-split {@code notifications} table into a body and a receipt,
+     * keeping the recipient, read flag and timestamps, with two INSERT ... SELECT statements.
+     * Rows already copied are skipped. Returns the number of receipts copied, or 0 when the
+     * legacy table does not exist.
+     */
+    int copyLegacyNotifications();
+}
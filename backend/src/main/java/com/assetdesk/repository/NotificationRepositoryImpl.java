@@ -0,0 +1,139 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.User;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.List;
+
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+    
+    // Rows per JDBC batch when fanning out to an explicit id list
+    private static final int BATCH_SIZE = 500;
+    
+    private static final String INSERT_CONTENT =
+        "INSERT INTO notification_contents (title, message, type, created_at, related_issue_id, related_asset_id) "
+            + "VALUES (:title, :message, :type, :createdAt, :relatedIssueId, :relatedAssetId)";
+    private static final String INSERT_RECEIPTS =
+        "INSERT INTO notification_receipts (user_id, notification_id, is_read, created_at) "
+            + "SELECT u.id, :notificationId, FALSE, :createdAt FROM users u ";
+    private static final String DELETE_CONTENT = "DELETE FROM notification_contents WHERE id = :notificationId";
+    private static final String LEGACY_TABLE = "notifications";
+    private static final String COPY_LEGACY_CONTENTS =
+        "INSERT INTO notification_contents (title, message, type, created_at, related_issue_id, related_asset_id, legacy_notification_id) "
+            + "SELECT n.title, n.message, n.type, n.created_at, n.related_issue_id, n.related_asset_id, n.id FROM notifications n "
+            + "WHERE NOT EXISTS (SELECT 1 FROM notification_contents c WHERE c.legacy_notification_id = n.id)";
+    private static final String COPY_LEGACY_RECEIPTS =
+        "INSERT INTO notification_receipts (user_id, notification_id, is_read, created_at) "
+            + "SELECT n.user_id, c.id, COALESCE(n.is_read, FALSE), n.created_at FROM notifications n "
+            + "JOIN notification_contents c ON c.legacy_notification_id = n.id "
+            + "WHERE NOT EXISTS (SELECT 1 FROM notification_receipts r WHERE r.notification_id = c.id)";
+    
+    private final NamedParameterJdbcTemplate jdbc;
+    
+    public NotificationRepositoryImpl(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+    
+    @Override
+    public int insertForUsers(Notification content, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        long notificationId = insertContent(content);
+        String sql = INSERT_RECEIPTS + "WHERE u.id = :userId";
+        List<Long> ids = List.copyOf(userIds);
+        int inserted = 0;
+        boolean counted = true;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            SqlParameterSource[] batch = new SqlParameterSource[chunk.size()];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = receiptParameters(notificationId, content).addValue("userId", chunk.get(i));
+            }
+            for (int rows : jdbc.batchUpdate(sql, batch)) {
+                // Drivers that rewrite batches report SUCCESS_NO_INFO rather than a count
+                if (rows == Statement.SUCCESS_NO_INFO) {
+                    counted = false;
+                }
+                inserted += Math.max(rows, 0);
+            }
+        }
+        return counted ? dropIfUnreceived(notificationId, inserted) : inserted;
+    }
+    
+    @Override
+    public int insertForRoles(Notification content, Collection<User.Role> roles) {
+        if (roles.isEmpty()) {
+            return 0;
+        }
+        long notificationId = insertContent(content);
+        String sql = INSERT_RECEIPTS + "WHERE u.role IN (:roles)";
+        int inserted = jdbc.update(sql, receiptParameters(notificationId, content)
+            .addValue("roles", roles.stream().map(Enum::name).toList()));
+        return dropIfUnreceived(notificationId, inserted);
+    }
+    
+    @Override
+    public int copyLegacyNotifications() {
+        if (!legacyTableExists()) {
+            return 0;
+        }
+        jdbc.update(COPY_LEGACY_CONTENTS, new MapSqlParameterSource());
+        return jdbc.update(COPY_LEGACY_RECEIPTS, new MapSqlParameterSource());
+    }
+    
+    // Checked through metadata: a failed query would abort the surrounding Postgres transaction
+    private boolean legacyTableExists() {
+        return Boolean.TRUE.equals(jdbc.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : new String[] {LEGACY_TABLE, LEGACY_TABLE.toUpperCase()}) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[] {"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+    
+    private long insertContent(Notification content) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("title", content.getTitle())
+            .addValue("message", content.getMessage())
+            .addValue("type", content.getType() != null ? content.getType().name() : null)
+            .addValue("createdAt", Timestamp.valueOf(content.getCreatedAt()))
+            .addValue("relatedIssueId", content.getRelatedIssueId(), Types.BIGINT)
+            .addValue("relatedAssetId", content.getRelatedAssetId(), Types.BIGINT);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbc.update(INSERT_CONTENT, parameters, keyHolder, new String[] {"id"});
+        long notificationId = keyHolder.getKey().longValue();
+        content.setId(notificationId);
+        return notificationId;
+    }
+    
+    private int dropIfUnreceived(long notificationId, int receipts) {
+        if (receipts == 0) {
+            jdbc.update(DELETE_CONTENT, new MapSqlParameterSource("notificationId", notificationId));
+        }
+        return receipts;
+    }
+    
+    private static MapSqlParameterSource receiptParameters(long notificationId, Notification content) {
+        return new MapSqlParameterSource()
+            .addValue("notificationId", notificationId)
+            .addValue("createdAt", Timestamp.valueOf(content.getCreatedAt()));
+    }
+}
@@ -3,18 +3,26 @@ package com.assetdesk.repository;
 import com.assetdesk.domain.ServiceRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.math.BigDecimal;
 
 @Repository
-public interface ServiceRecordRepository extends JpaRepository<ServiceRecord, Long> {
+public interface ServiceRecordRepository extends JpaRepository<ServiceRecord, Long>, JpaSpecificationExecutor<ServiceRecord>, ServiceRecordRepositoryCustom {
     
+    @EntityGraph(ServiceRecord.DETAIL_VIEW)
     List<ServiceRecord> findByAssetIdOrderByServiceDateDesc(Long assetId);
     
-
+    @EntityGraph(ServiceRecord.DETAIL_VIEW)
+    java.util.Optional<ServiceRecord> findWithDetailsById(Long id);
+    
+    @Override
+    @EntityGraph(ServiceRecord.LIST_VIEW)
+    Page<ServiceRecord> findAll(Pageable pageable);
     
     @Query("SELECT COALESCE(SUM(COALESCE(sr.serviceCost, sr.cost)), 0) FROM ServiceRecord sr WHERE sr.asset.id = ?1")
     BigDecimal getTotalServiceCostByAssetId(Long assetId);
@@ -49,4 +57,9 @@ public interface ServiceRecordRepository extends JpaRepository<ServiceRecord, Lo
            "sr.serviceDescription NOT LIKE '%Asset allocated%' AND " +
            "sr.serviceDescription NOT LIKE '%Asset returned%')")
     Page<ServiceRecord> findAllServiceRecordsExcludingAllocations(Pageable pageable);
+    
+    // Keyset pagination in id order; the first page passes afterId = 0
+    @EntityGraph(ServiceRecord.LIST_VIEW)
+    @Query("SELECT sr FROM ServiceRecord sr WHERE sr.id > ?1 ORDER BY sr.id")
+    List<ServiceRecord> findPageAfter(Long afterId, Pageable pageable);
 }
\ No newline at end of file
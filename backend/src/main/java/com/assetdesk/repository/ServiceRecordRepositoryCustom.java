@@ -0,0 +1,15 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.ServiceRecord;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.stream.Stream;
+
+public interface ServiceRecordRepositoryCustom {
+    
+    /**
+     * Forward-only stream of matching service records with asset and vendor fetch-joined,
+     * ordered by id. Must be consumed inside a transaction; rows are pulled from
+     * the database {@code fetchSize} at a time.
+     */
+    Stream<ServiceRecord> streamAll(Specification<ServiceRecord> spec, int fetchSize);
+}
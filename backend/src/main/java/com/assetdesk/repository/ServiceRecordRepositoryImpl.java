@@ -0,0 +1,39 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.ServiceRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public class ServiceRecordRepositoryImpl implements ServiceRecordRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Stream<ServiceRecord> streamAll(Specification<ServiceRecord> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ServiceRecord> query = cb.createQuery(ServiceRecord.class);
+        Root<ServiceRecord> root = query.from(ServiceRecord.class);
+        // Exports only print the asset's tag and name, so its vendor stays unloaded
+        root.fetch("asset", JoinType.LEFT);
+        root.fetch("vendor", JoinType.LEFT);
+        
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                query.where(filter);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
@@ -1,10 +1,12 @@
 package com.assetdesk.repository;
 
 import com.assetdesk.domain.User;
+import com.assetdesk.repository.projection.UserSuggestRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
@@ -22,4 +24,8 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     Page<User> findByDepartment(String department, Pageable pageable);
     
     Page<User> findAll(Pageable pageable);
+    
+    @Query("SELECT u.id AS id, u.name AS name, u.employeeId AS employeeId, u.email AS email " +
+           "FROM User u WHERE u.id > ?1 ORDER BY u.id")
+    List<UserSuggestRow> findSuggestRowsAfter(Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.assetdesk.repository;
+
+import com.assetdesk.domain.WarrantyAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WarrantyAlertRepository extends JpaRepository<WarrantyAlert, Long> {
+    
+    List<WarrantyAlert> findByAssetIdIn(Collection<Long> assetIds);
+    
+    // Undigested alerts, most urgent first, served by idx_warranty_alerts_digested_at
+    @Query("SELECT a FROM WarrantyAlert a WHERE a.digestedAt IS NULL ORDER BY a.thresholdDays, a.warrantyExpiryDate, a.id")
+    List<WarrantyAlert> findUndigested(Pageable pageable);
+    
+    @Query("SELECT COUNT(a) FROM WarrantyAlert a WHERE a.digestedAt IS NULL")
+    long countUndigested();
+    
+    @Query("SELECT MAX(a.id) FROM WarrantyAlert a WHERE a.digestedAt IS NULL")
+    Long findMaxUndigestedId();
+    
+    // Bounded by id so alerts recorded after the digest was built wait for the next one
+    @Modifying
+    @Query("UPDATE WarrantyAlert a SET a.digestedAt = ?1 WHERE a.digestedAt IS NULL AND a.id <= ?2")
+    int markDigested(LocalDateTime digestedAt, Long upToId);
+}
@@ -0,0 +1,11 @@
+package com.assetdesk.repository.projection;
+
+/**
+ * The user holding one currently allocated asset, as shown in an asset group summary.
+ */
+public interface AllocatedUserRow {
+    Long getId();
+    String getName();
+    String getDepartment();
+    String getEmail();
+}
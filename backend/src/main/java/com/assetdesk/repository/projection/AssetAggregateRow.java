@@ -0,0 +1,22 @@
+package com.assetdesk.repository.projection;
+
+import com.assetdesk.domain.Asset;
+import java.math.BigDecimal;
+
+/**
+ * Per (category, status, type) aggregate over the asset table. The groups are bounded by the
+ * enum sizes, so callers can fold them into inventory-wide figures regardless of row count.
+ */
+public interface AssetAggregateRow {
+    Asset.Category getCategory();
+    Asset.Status getStatus();
+    Asset.AssetType getType();
+    Long getAssetCount();
+    Long getCostCount();
+    BigDecimal getCostTotal();
+    BigDecimal getCostMin();
+    BigDecimal getCostMax();
+    Long getWarrantyExpired();
+    Long getWarrantyExpiring();
+    Long getWarrantyValid();
+}
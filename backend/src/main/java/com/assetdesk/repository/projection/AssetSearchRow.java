@@ -0,0 +1,19 @@
+package com.assetdesk.repository.projection;
+
+import com.assetdesk.domain.Asset;
+
+/**
+ * The searchable columns of one asset, used to build the in-memory search index.
+ */
+public interface AssetSearchRow {
+    Long getId();
+    String getName();
+    String getAssetTag();
+    String getModel();
+    String getSerialNumber();
+    Long getVendorId();
+    String getVendorName();
+    Asset.Category getCategory();
+    Asset.AssetType getType();
+    Asset.Status getStatus();
+}
@@ -0,0 +1,10 @@
+package com.assetdesk.repository.projection;
+
+/**
+ * Row of a GROUP BY aggregate: the grouping value and how many rows fall into it.
+ * Queries alias their columns as {@code label} and {@code total}.
+ */
+public interface GroupCount {
+    Object getLabel();
+    Long getTotal();
+}
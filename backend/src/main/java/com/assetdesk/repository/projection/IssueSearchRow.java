@@ -0,0 +1,19 @@
+package com.assetdesk.repository.projection;
+
+import com.assetdesk.domain.Issue;
+
+/**
+ * The searchable text and filter columns of one issue, used to build the in-memory search index.
+ */
+public interface IssueSearchRow {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getResolutionNotes();
+    Issue.Status getStatus();
+    Issue.Priority getPriority();
+    Issue.IssueType getType();
+    Long getAssetId();
+    Long getReportedById();
+    Long getAssignedToId();
+}
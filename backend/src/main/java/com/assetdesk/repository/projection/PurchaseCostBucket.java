@@ -0,0 +1,17 @@
+package com.assetdesk.repository.projection;
+
+import com.assetdesk.domain.Asset;
+import java.math.BigDecimal;
+
+/**
+ * Total cost of the assets of one category bought in one calendar month. At most
+ * categories x months rows, which is enough to approximate straight-line depreciation
+ * without reading individual assets.
+ */
+public interface PurchaseCostBucket {
+    Asset.Category getCategory();
+    Integer getPurchaseYear();
+    Integer getPurchaseMonth();
+    Long getAssetCount();
+    BigDecimal getCostTotal();
+}
@@ -0,0 +1,11 @@
+package com.assetdesk.repository.projection;
+
+/**
+ * The typeahead columns of one user, used to build the in-memory suggestion index.
+ */
+public interface UserSuggestRow {
+    Long getId();
+    String getName();
+    String getEmployeeId();
+    String getEmail();
+}
@@ -0,0 +1,399 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.projection.AssetSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over asset name, tag, model, serial number and vendor name.
+ * Substring lookups intersect the posting lists of the term's trigrams and then confirm the
+ * remaining candidates, instead of LIKE-scanning every row. Terms shorter than three
+ * characters have no trigrams and fall back to checking every document in memory.
+ *
+ * Built once at startup and kept current by {@link AssetSearchIndexListener}; until the
+ * initial build finishes {@link #isReady()} is false and callers use the database.
+ */
+@Component
+@Slf4j
+public class AssetSearchIndex {
+    
+    private static final int BUILD_CHUNK = 5000;
+    
+    enum Field {
+        NAME(3), ASSET_TAG(5), MODEL(2), SERIAL_NUMBER(4), VENDOR(1);
+        
+        private final int weight;
+        
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+    
+    /**
+     * Normalised searchable values of one asset, detached from the entity.
+     */
+    record Document(long id, String[] fields, Long vendorId,
+                    Asset.Category category, Asset.AssetType type, Asset.Status status) {}
+    
+    /**
+     * One page of ranked asset ids and the total number of matches.
+     */
+    public record Result(List<Long> ids, int total) {}
+    
+    private final AssetRepository assetRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Documents live in slots addressed by a dense int ordinal so posting lists stay int[]
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private Document[] slots = new Document[1024];
+    private int nextOrdinal;
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final BuildWriteLog buildWrites = new BuildWriteLog();
+    private volatile boolean ready;
+    
+    public AssetSearchIndex(AssetRepository assetRepository) {
+        this.assetRepository = assetRepository;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        int indexed = 0;
+        startBuild();
+        try {
+            while (true) {
+                List<AssetSearchRow> rows = assetRepository.findSearchRowsAfter(afterId, PageRequest.of(0, BUILD_CHUNK));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (AssetSearchRow row : rows) {
+                        put(toDocument(row.getId(), row.getName(), row.getAssetTag(), row.getModel(), row.getSerialNumber(),
+                            row.getVendorId(), row.getVendorName(), row.getCategory(), row.getType(), row.getStatus()));
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                indexed += rows.size();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } finally {
+            finishBuild();
+        }
+        ready = true;
+        log.info("Asset search index built: {} assets, {} trigrams in {} ms",
+            indexed, postings.size(), System.currentTimeMillis() - started);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Matching asset ids ranked best first, from {@code offset} up to {@code limit} of them.
+     * A hit on a more specific field (asset tag, serial number) ranks above one on a descriptive
+     * field, and exact or prefix hits rank above plain substring hits; ties keep index order.
+     */
+    public Result search(AssetSearchQuery query, int offset, int limit) {
+        Map<Field, String> fieldTerms = new EnumMap<>(Field.class);
+        putTerm(fieldTerms, Field.NAME, query.name());
+        putTerm(fieldTerms, Field.ASSET_TAG, query.assetTag());
+        putTerm(fieldTerms, Field.MODEL, query.model());
+        putTerm(fieldTerms, Field.SERIAL_NUMBER, query.serialNumber());
+        putTerm(fieldTerms, Field.VENDOR, query.vendor());
+        String term = normalize(query.term());
+        String category = normalize(query.category());
+        String type = normalize(query.type());
+        String status = normalize(query.status());
+        
+        List<String> terms = new ArrayList<>(fieldTerms.values());
+        if (term != null) {
+            terms.add(term);
+        }
+        long[] trigrams = trigrams(terms.toArray(new String[0]));
+        
+        // Min-heap of packed (score, ordinal) keys holding the best offset + limit matches
+        int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<Long> best = new PriorityQueue<>();
+        int total = 0;
+        
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(trigrams);
+            for (int ordinal : candidates) {
+                Document d = slots[ordinal];
+                if (d == null || !matches(d.category(), category) || !matches(d.type(), type) || !matches(d.status(), status)) {
+                    continue;
+                }
+                int score = score(d, term, fieldTerms);
+                if (score == 0) {
+                    continue;
+                }
+                total++;
+                long key = ((long) score << 32) | (Integer.MAX_VALUE - ordinal);
+                if (best.size() < wanted) {
+                    best.add(key);
+                } else if (wanted > 0 && key > best.peek()) {
+                    best.poll();
+                    best.add(key);
+                }
+            }
+            
+            long[] ranked = best.stream().mapToLong(Long::longValue).sorted().toArray();
+            List<Long> ids = new ArrayList<>(Math.max(0, ranked.length - offset));
+            for (int i = ranked.length - 1 - offset; i >= 0; i--) {
+                ids.add(slots[Integer.MAX_VALUE - (int) ranked[i]].id());
+            }
+            return new Result(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    static Document snapshot(Asset asset) {
+        return toDocument(asset.getId(), asset.getName(), asset.getAssetTag(), asset.getModel(),
+            asset.getSerialNumber(), asset.getVendor() != null ? asset.getVendor().getId() : null,
+            asset.getVendor() != null ? asset.getVendor().getName() : null,
+            asset.getCategory(), asset.getType(), asset.getStatus());
+    }
+    
+    void index(Document document) {
+        lock.writeLock().lock();
+        try {
+            put(document);
+            buildWrites.record(() -> put(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void remove(Long assetId) {
+        lock.writeLock().lock();
+        try {
+            buildWrites.record(() -> remove(assetId));
+            Integer ordinal = ordinals.remove(assetId);
+            if (ordinal != null) {
+                unlink(ordinal, slots[ordinal]);
+                slots[ordinal] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void renameVendor(Long vendorId, String vendorName) {
+        String normalized = normalize(vendorName);
+        lock.writeLock().lock();
+        try {
+            buildWrites.record(() -> renameVendor(vendorId, vendorName));
+            for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+                Document d = slots[ordinal];
+                if (d != null && vendorId.equals(d.vendorId())) {
+                    String[] fields = d.fields().clone();
+                    fields[Field.VENDOR.ordinal()] = normalized;
+                    put(new Document(d.id(), fields, d.vendorId(), d.category(), d.type(), d.status()));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void startBuild() {
+        lock.writeLock().lock();
+        try {
+            buildWrites.start();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Re-applies writes committed during the build, which an older chunk may have overwritten
+    private void finishBuild() {
+        lock.writeLock().lock();
+        try {
+            buildWrites.replay();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Ordinals holding every requested trigram, or every slot when there are none.
+     */
+    private int[] candidates(long[] trigrams) {
+        if (trigrams.length == 0) {
+            int[] all = new int[nextOrdinal];
+            for (int i = 0; i < nextOrdinal; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        List<PostingList> lists = new ArrayList<>(trigrams.length);
+        for (long trigram : trigrams) {
+            PostingList list = postings.get(trigram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        int[] result = lists.get(0).toArray();
+        int count = result.length;
+        for (int j = 1; j < lists.size() && count > 0; j++) {
+            count = lists.get(j).retainAll(result, count);
+        }
+        return Arrays.copyOf(result, count);
+    }
+    
+    /**
+     * Zero when the document does not actually match; trigram candidates can be false positives.
+     */
+    private static int score(Document d, String term, Map<Field, String> fieldTerms) {
+        int score = 0;
+        for (Map.Entry<Field, String> entry : fieldTerms.entrySet()) {
+            int fieldScore = fieldScore(d.fields()[entry.getKey().ordinal()], entry.getValue(), entry.getKey());
+            if (fieldScore == 0) {
+                return 0;
+            }
+            score += fieldScore;
+        }
+        if (term != null) {
+            int best = 0;
+            for (Field field : Field.values()) {
+                best = Math.max(best, fieldScore(d.fields()[field.ordinal()], term, field));
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        return Math.max(score, 1);
+    }
+    
+    private static int fieldScore(String value, String term, Field field) {
+        if (value == null || !value.contains(term)) {
+            return 0;
+        }
+        int quality = value.equals(term) ? 3 : value.startsWith(term) ? 2 : 1;
+        return quality * field.weight;
+    }
+    
+    private void put(Document document) {
+        Integer existing = ordinals.get(document.id());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            unlink(ordinal, slots[ordinal]);
+        } else {
+            ordinal = nextOrdinal++;
+            if (ordinal == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+            ordinals.put(document.id(), ordinal);
+        }
+        slots[ordinal] = document;
+        for (long trigram : trigrams(document.fields())) {
+            postings.computeIfAbsent(trigram, t -> new PostingList()).add(ordinal);
+        }
+    }
+    
+    private void unlink(int ordinal, Document document) {
+        for (long trigram : trigrams(document.fields())) {
+            PostingList list = postings.get(trigram);
+            if (list != null) {
+                list.remove(ordinal);
+                if (list.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Distinct trigrams of the given values, sorted. Trigrams never span two values.
+     */
+    private static long[] trigrams(String[] values) {
+        int capacity = 0;
+        for (String value : values) {
+            if (value != null) {
+                capacity += Math.max(0, value.length() - 2);
+            }
+        }
+        long[] trigrams = new long[capacity];
+        int count = 0;
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            for (int i = 0; i + 3 <= value.length(); i++) {
+                trigrams[count++] = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+            }
+        }
+        Arrays.sort(trigrams, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || trigrams[distinct - 1] != trigrams[i]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+    
+    private static Document toDocument(Long id, String name, String assetTag, String model, String serialNumber,
+                                       Long vendorId, String vendorName,
+                                       Asset.Category category, Asset.AssetType type, Asset.Status status) {
+        String[] fields = new String[Field.values().length];
+        fields[Field.NAME.ordinal()] = normalize(name);
+        fields[Field.ASSET_TAG.ordinal()] = normalize(assetTag);
+        fields[Field.MODEL.ordinal()] = normalize(model);
+        fields[Field.SERIAL_NUMBER.ordinal()] = normalize(serialNumber);
+        fields[Field.VENDOR.ordinal()] = normalize(vendorName);
+        return new Document(id, fields, vendorId, category, type, status);
+    }
+    
+    private static boolean matches(Enum<?> value, String filter) {
+        return filter == null || (value != null && value.name().equalsIgnoreCase(filter));
+    }
+    
+    private static void putTerm(Map<Field, String> terms, Field field, String value) {
+        String normalized = normalize(value);
+        if (normalized != null) {
+            terms.put(field, normalized);
+        }
+    }
+    
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
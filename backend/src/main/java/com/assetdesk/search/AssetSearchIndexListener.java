@@ -0,0 +1,50 @@
+package com.assetdesk.search;
+
+import com.assetdesk.config.AfterCommit;
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Vendor;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps {@link AssetSearchIndex} in step with asset and vendor writes.
+ * Values are read while the entity is still attached and applied once the transaction commits.
+ */
+@Component
+public class AssetSearchIndexListener {
+    
+    private final ObjectProvider<AssetSearchIndex> indexProvider;
+    
+    public AssetSearchIndexListener(ObjectProvider<AssetSearchIndex> indexProvider) {
+        this.indexProvider = indexProvider;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        AssetSearchIndex index = indexProvider.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof Asset asset) {
+            AssetSearchIndex.Document document = AssetSearchIndex.snapshot(asset);
+            AfterCommit.run(() -> index.index(document));
+        } else if (entity instanceof Vendor vendor) {
+            Long vendorId = vendor.getId();
+            String vendorName = vendor.getName();
+            AfterCommit.run(() -> index.renameVendor(vendorId, vendorName));
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Object entity) {
+        AssetSearchIndex index = indexProvider.getIfAvailable();
+        if (index != null && entity instanceof Asset asset) {
+            Long assetId = asset.getId();
+            AfterCommit.run(() -> index.remove(assetId));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.assetdesk.search;
+
+/**
+ * Asset search criteria. {@code term} matches any indexed field; the per-field terms must
+ * each match their own field. All matching is case-insensitive substring matching, like the
+ * LIKE-based specifications it replaces. Blank values are ignored.
+ */
+public record AssetSearchQuery(String term, String name, String assetTag, String model, String serialNumber,
+                               String vendor, String category, String type, String status) {
+    
+    public static AssetSearchQuery global(String term, String category, String type, String status) {
+        return new AssetSearchQuery(term, null, null, null, null, null, category, type, status);
+    }
+}
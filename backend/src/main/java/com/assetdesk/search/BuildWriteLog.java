@@ -0,0 +1,42 @@
+package com.assetdesk.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener writes that arrive while an index is being built from the database. A chunk read
+ * before some commit can be applied after that commit's listener update and undo it, so while
+ * a build runs every write is applied as usual and also recorded, then applied again once the
+ * build has finished. Each write carries the complete new state of its row, so applying it
+ * twice is harmless.
+ *
+ * Not thread-safe; the owning index calls it with its write lock held, and replayed writes run
+ * under that same (reentrant) lock.
+ */
+final class BuildWriteLog {
+    
+    private List<Runnable> pending;
+    
+    void start() {
+        pending = new ArrayList<>();
+    }
+    
+    void record(Runnable write) {
+        if (pending != null) {
+            pending.add(write);
+        }
+    }
+    
+    /**
+     * Applies the recorded writes in arrival order and stops recording.
+     */
+    int replay() {
+        List<Runnable> writes = pending;
+        pending = null;
+        if (writes == null) {
+            return 0;
+        }
+        writes.forEach(Runnable::run);
+        return writes.size();
+    }
+}
@@ -0,0 +1,574 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Issue;
+import com.assetdesk.repository.IssueRepository;
+import com.assetdesk.repository.projection.IssueSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory inverted word index over issue title, description and resolution notes, ranked
+ * with BM25. Each query word matches the same word or, at a lower weight, words it is a prefix
+ * of; all query words must match. Status, priority, type, reporter, assignee and asset are kept
+ * alongside each document so filters are applied while ranking rather than afterwards.
+ * Asset, reporter and assignee names live in other tables and are not indexed; callers look
+ * those matches up by id and pass them to {@link #search(IssueSearchQuery, Set, int, int)}.
+ *
+ * Only term statistics are held in memory, not the text itself; snippets are cut from the
+ * loaded page by {@link SearchHighlighter}. Built once at startup and kept current by
+ * {@link IssueSearchIndexListener}; until then {@link #isReady()} is false and callers use the
+ * database.
+ */
+@Component
+@Slf4j
+public class IssueSearchIndex {
+    
+    private static final int BUILD_CHUNK = 2000;
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final float PREFIX_MATCH_FACTOR = 0.6f;
+    // Score of a match on the asset or people names, roughly one ordinary description word
+    private static final float RELATED_MATCH_SCORE = 1f;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    
+    enum Field {
+        TITLE(3), DESCRIPTION(1), RESOLUTION_NOTES(1);
+        
+        private final int weight;
+        
+        Field(int weight) {
+            this.weight = weight;
+        }
+        
+        int bit() {
+            return 1 << ordinal();
+        }
+    }
+    
+    /**
+     * Term statistics and filter values of one issue, detached from the entity. {@code terms}
+     * are sorted term strings; {@code stats} packs each term's field-weighted frequency above
+     * the bit mask of the fields it occurs in.
+     */
+    record Document(long id, String[] terms, int[] stats, int length,
+                    Issue.Status status, Issue.Priority priority, Issue.IssueType type,
+                    Long reportedById, Long assignedToId, Long assetId) {}
+    
+    /**
+     * An indexed document with its terms replaced by sorted term ids, so that documents share
+     * the dictionary's strings.
+     */
+    private record Slot(long id, int[] termIds, int[] stats, int length,
+                        Issue.Status status, Issue.Priority priority, Issue.IssueType type,
+                        Long reportedById, Long assignedToId, Long assetId) {}
+    
+    public record Hit(long id, float score) {}
+    
+    /**
+     * One page of ranked hits and the total number of matches.
+     */
+    public record Result(List<Hit> hits, int total) {
+        
+        public List<Long> ids() {
+            return hits.stream().map(Hit::id).toList();
+        }
+    }
+    
+    /**
+     * One query word and the indexed terms it expands to, with the fields it is restricted to.
+     */
+    private record QueryTerm(String word, int fieldMask, int[] termIds, boolean[] exact) {}
+    
+    private final IssueRepository issueRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private Slot[] slots = new Slot[1024];
+    private int nextOrdinal;
+    // Term ids address the posting lists; the sorted copy makes prefix expansion a range scan
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final NavigableMap<String, Integer> sortedTermIds = new TreeMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+    private long totalLength;
+    private final BuildWriteLog buildWrites = new BuildWriteLog();
+    private volatile boolean ready;
+    
+    public IssueSearchIndex(IssueRepository issueRepository) {
+        this.issueRepository = issueRepository;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        int indexed = 0;
+        startBuild();
+        try {
+            while (true) {
+                List<IssueSearchRow> rows = issueRepository.findSearchRowsAfter(afterId, PageRequest.of(0, BUILD_CHUNK));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Document> documents = new ArrayList<>(rows.size());
+                for (IssueSearchRow row : rows) {
+                    documents.add(toDocument(row.getId(), row.getTitle(), row.getDescription(), row.getResolutionNotes(),
+                        row.getStatus(), row.getPriority(), row.getType(),
+                        row.getReportedById(), row.getAssignedToId(), row.getAssetId()));
+                }
+                lock.writeLock().lock();
+                try {
+                    documents.forEach(this::put);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                indexed += rows.size();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } finally {
+            finishBuild();
+        }
+        ready = true;
+        log.info("Issue search index built: {} issues, {} terms in {} ms",
+            indexed, termIds.size(), System.currentTimeMillis() - started);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Whether the query has at least one word the index can look up; queries made only of
+     * filters or one-letter words are left to the database. So are queries with a word that
+     * is the prefix of more than {@value #MAX_PREFIX_EXPANSIONS} terms, which the index would
+     * otherwise have to cut short and miss matches.
+     */
+    public boolean canSearch(IssueSearchQuery query) {
+        List<String> words = query.words();
+        if (words.isEmpty()) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                if (expansions(word) > MAX_PREFIX_EXPANSIONS) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Matching issues ranked best first, from {@code offset} up to {@code limit} of them.
+     * Ties rank the newer issue first.
+     */
+    public Result search(IssueSearchQuery query, int offset, int limit) {
+        return search(query, Set.of(), offset, limit);
+    }
+    
+    /**
+     * As {@link #search(IssueSearchQuery, int, int)}, where issues in {@code relatedMatches}
+     * also match through their asset or people names. Filters still apply to them, and a text
+     * match on top ranks them higher.
+     */
+    public Result search(IssueSearchQuery query, Set<Long> relatedMatches, int offset, int limit) {
+        String status = normalize(query.status());
+        String priority = normalize(query.priority());
+        String type = normalize(query.type());
+        int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        
+        lock.readLock().lock();
+        try {
+            List<QueryTerm> queryTerms = new ArrayList<>();
+            int anyField = Field.TITLE.bit() | Field.DESCRIPTION.bit() | Field.RESOLUTION_NOTES.bit();
+            addQueryTerms(queryTerms, query.text(), anyField);
+            addQueryTerms(queryTerms, query.title(), Field.TITLE.bit());
+            addQueryTerms(queryTerms, query.description(), Field.DESCRIPTION.bit());
+            if (queryTerms.isEmpty()) {
+                return new Result(List.of(), 0);
+            }
+            
+            int documents = ordinals.size();
+            float avgLength = documents == 0 ? 1f : Math.max(1f, (float) totalLength / documents);
+            float[][] idf = new float[queryTerms.size()][];
+            for (int q = 0; q < queryTerms.size(); q++) {
+                int[] ids = queryTerms.get(q).termIds();
+                idf[q] = new float[ids.length];
+                for (int e = 0; e < ids.length; e++) {
+                    int df = postings.get(ids[e]).size();
+                    idf[q][e] = (float) Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+                }
+            }
+            
+            int[] textMatches = candidates(queryTerms);
+            int[] candidates = textMatches;
+            if (!relatedMatches.isEmpty()) {
+                candidates = IntStream.concat(Arrays.stream(textMatches),
+                        relatedMatches.stream().map(ordinals::get).filter(Objects::nonNull).mapToInt(Integer::intValue))
+                    .sorted().distinct().toArray();
+            }
+            
+            // Min-heap of packed (score, ordinal) keys holding the best offset + limit matches
+            PriorityQueue<Long> best = new PriorityQueue<>();
+            int total = 0;
+            for (int ordinal : candidates) {
+                Slot slot = slots[ordinal];
+                if (slot == null || !matches(slot.status(), status) || !matches(slot.priority(), priority)
+                        || !matches(slot.type(), type) || !matches(slot.reportedById(), query.reportedById())
+                        || !matches(slot.assignedToId(), query.assignedToId()) || !matches(slot.assetId(), query.assetId())) {
+                    continue;
+                }
+                float score = Arrays.binarySearch(textMatches, ordinal) >= 0 ? score(slot, queryTerms, idf, avgLength) : 0;
+                if (relatedMatches.contains(slot.id())) {
+                    score += RELATED_MATCH_SCORE;
+                }
+                if (score <= 0) {
+                    continue;
+                }
+                total++;
+                long key = ((long) Float.floatToIntBits(score) << 32) | ordinal;
+                if (best.size() < wanted) {
+                    best.add(key);
+                } else if (wanted > 0 && key > best.peek()) {
+                    best.poll();
+                    best.add(key);
+                }
+            }
+            
+            long[] ranked = best.stream().mapToLong(Long::longValue).sorted().toArray();
+            List<Hit> hits = new ArrayList<>(Math.max(0, ranked.length - offset));
+            for (int i = ranked.length - 1 - offset; i >= 0; i--) {
+                hits.add(new Hit(slots[(int) ranked[i]].id(), Float.intBitsToFloat((int) (ranked[i] >>> 32))));
+            }
+            return new Result(hits, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    static Document snapshot(Issue issue) {
+        return toDocument(issue.getId(), issue.getTitle(), issue.getDescription(), issue.getResolutionNotes(),
+            issue.getStatus(), issue.getPriority(), issue.getType(),
+            issue.getReportedBy() != null ? issue.getReportedBy().getId() : null,
+            issue.getAssignedTo() != null ? issue.getAssignedTo().getId() : null,
+            issue.getAsset() != null ? issue.getAsset().getId() : null);
+    }
+    
+    void index(Document document) {
+        lock.writeLock().lock();
+        try {
+            put(document);
+            buildWrites.record(() -> put(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void remove(Long issueId) {
+        lock.writeLock().lock();
+        try {
+            buildWrites.record(() -> remove(issueId));
+            Integer ordinal = ordinals.remove(issueId);
+            if (ordinal != null) {
+                unlink(ordinal, slots[ordinal]);
+                slots[ordinal] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Lower-cased words of the text that are long enough to index, in order of appearance.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TERM_LENGTH) {
+                    tokens.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * Number of live terms starting with {@code word}, counting no further than one past the cap.
+     */
+    private int expansions(String word) {
+        int count = 0;
+        for (Map.Entry<String, Integer> entry : sortedTermIds.tailMap(word, true).entrySet()) {
+            if (!entry.getKey().startsWith(word) || count > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            if (!postings.get(entry.getValue()).isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private void addQueryTerms(List<QueryTerm> queryTerms, String text, int fieldMask) {
+        for (String word : tokenize(text)) {
+            List<Integer> ids = new ArrayList<>();
+            List<Boolean> exact = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : sortedTermIds.tailMap(word, true).entrySet()) {
+                if (!entry.getKey().startsWith(word) || ids.size() == MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                if (!postings.get(entry.getValue()).isEmpty()) {
+                    ids.add(entry.getValue());
+                    exact.add(entry.getKey().equals(word));
+                }
+            }
+            boolean[] exactFlags = new boolean[exact.size()];
+            for (int i = 0; i < exactFlags.length; i++) {
+                exactFlags[i] = exact.get(i);
+            }
+            queryTerms.add(new QueryTerm(word, fieldMask, ids.stream().mapToInt(Integer::intValue).toArray(), exactFlags));
+        }
+    }
+    
+    /**
+     * Ordinals containing some expansion of every query word. Field restrictions are checked
+     * while scoring.
+     */
+    private int[] candidates(List<QueryTerm> queryTerms) {
+        List<int[]> perWord = new ArrayList<>(queryTerms.size());
+        for (QueryTerm queryTerm : queryTerms) {
+            if (queryTerm.termIds().length == 0) {
+                return new int[0];
+            }
+            perWord.add(union(queryTerm.termIds()));
+        }
+        perWord.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = perWord.get(0);
+        int count = result.length;
+        for (int j = 1; j < perWord.size() && count > 0; j++) {
+            count = intersect(result, count, perWord.get(j));
+        }
+        return Arrays.copyOf(result, count);
+    }
+    
+    private int[] union(int[] ids) {
+        if (ids.length == 1) {
+            return postings.get(ids[0]).toArray();
+        }
+        int size = 0;
+        for (int id : ids) {
+            size += postings.get(id).size();
+        }
+        int[] merged = new int[size];
+        int pos = 0;
+        for (int id : ids) {
+            int[] list = postings.get(id).toArray();
+            System.arraycopy(list, 0, merged, pos, list.length);
+            pos += list.length;
+        }
+        Arrays.sort(merged);
+        int distinct = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (distinct == 0 || merged[distinct - 1] != merged[i]) {
+                merged[distinct++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, distinct);
+    }
+    
+    /**
+     * Keeps the first {@code count} entries of sorted {@code target} that also occur in sorted
+     * {@code other}, compacted to the front, and returns the new count.
+     */
+    private static int intersect(int[] target, int count, int[] other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < count && j < other.length; i++) {
+            while (j < other.length && other[j] < target[i]) {
+                j++;
+            }
+            if (j < other.length && other[j] == target[i]) {
+                target[kept++] = target[i];
+            }
+        }
+        return kept;
+    }
+    
+    /**
+     * BM25 over field-weighted term frequencies. Each query word contributes its best
+     * expansion; a prefix expansion counts for less than the word itself. Zero when a word
+     * only occurs outside the fields it is restricted to.
+     */
+    private static float score(Slot slot, List<QueryTerm> queryTerms, float[][] idf, float avgLength) {
+        float lengthNorm = K1 * (1 - B + B * slot.length() / avgLength);
+        float score = 0;
+        for (int q = 0; q < queryTerms.size(); q++) {
+            QueryTerm queryTerm = queryTerms.get(q);
+            float best = 0;
+            for (int e = 0; e < queryTerm.termIds().length; e++) {
+                int i = Arrays.binarySearch(slot.termIds(), queryTerm.termIds()[e]);
+                if (i < 0) {
+                    continue;
+                }
+                int stat = slot.stats()[i];
+                if ((stat & queryTerm.fieldMask()) == 0) {
+                    continue;
+                }
+                float tf = stat >>> Field.values().length;
+                float contribution = idf[q][e] * tf * (K1 + 1) / (tf + lengthNorm);
+                if (!queryTerm.exact()[e]) {
+                    contribution *= PREFIX_MATCH_FACTOR;
+                }
+                best = Math.max(best, contribution);
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        return score;
+    }
+    
+    private void startBuild() {
+        lock.writeLock().lock();
+        try {
+            buildWrites.start();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Re-applies writes committed during the build, which an older chunk may have overwritten
+    private void finishBuild() {
+        lock.writeLock().lock();
+        try {
+            buildWrites.replay();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void put(Document document) {
+        Integer existing = ordinals.get(document.id());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            unlink(ordinal, slots[ordinal]);
+        } else {
+            ordinal = nextOrdinal++;
+            if (ordinal == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+            ordinals.put(document.id(), ordinal);
+        }
+        String[] terms = document.terms();
+        long[] packed = new long[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            Integer termId = termIds.get(terms[i]);
+            if (termId == null) {
+                termId = postings.size();
+                termIds.put(terms[i], termId);
+                sortedTermIds.put(terms[i], termId);
+                postings.add(new PostingList());
+            }
+            postings.get(termId).add(ordinal);
+            packed[i] = ((long) termId << 32) | (document.stats()[i] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+        int[] ids = new int[packed.length];
+        int[] stats = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            ids[i] = (int) (packed[i] >>> 32);
+            stats[i] = (int) packed[i];
+        }
+        slots[ordinal] = new Slot(document.id(), ids, stats, document.length(),
+            document.status(), document.priority(), document.type(),
+            document.reportedById(), document.assignedToId(), document.assetId());
+        totalLength += document.length();
+    }
+    
+    private void unlink(int ordinal, Slot slot) {
+        totalLength -= slot.length();
+        // Emptied terms keep their id; they are skipped during prefix expansion
+        for (int termId : slot.termIds()) {
+            postings.get(termId).remove(ordinal);
+        }
+    }
+    
+    private static Document toDocument(Long id, String title, String description, String resolutionNotes,
+                                       Issue.Status status, Issue.Priority priority, Issue.IssueType type,
+                                       Long reportedById, Long assignedToId, Long assetId) {
+        Map<String, int[]> counts = new HashMap<>();
+        int length = 0;
+        String[] texts = {title, description, resolutionNotes};
+        for (Field field : Field.values()) {
+            for (String token : tokenize(texts[field.ordinal()])) {
+                int[] stat = counts.computeIfAbsent(token, t -> new int[2]);
+                stat[0] += field.weight;
+                stat[1] |= field.bit();
+                length += field.weight;
+            }
+        }
+        String[] terms = counts.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        int[] stats = new int[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            int[] stat = counts.get(terms[i]);
+            stats[i] = (stat[0] << Field.values().length) | stat[1];
+        }
+        return new Document(id, terms, stats, length, status, priority, type, reportedById, assignedToId, assetId);
+    }
+    
+    private static boolean matches(Enum<?> value, String filter) {
+        return filter == null || (value != null && value.name().equalsIgnoreCase(filter));
+    }
+    
+    private static boolean matches(Long value, Long filter) {
+        return filter == null || Objects.equals(value, filter);
+    }
+    
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,43 @@
+package com.assetdesk.search;
+
+import com.assetdesk.config.AfterCommit;
+import com.assetdesk.domain.Issue;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps {@link IssueSearchIndex} in step with issue writes. The
+ * document is tokenized while the entity is still attached and applied once the transaction
+ * commits.
+ */
+@Component
+public class IssueSearchIndexListener {
+    
+    private final ObjectProvider<IssueSearchIndex> indexProvider;
+    
+    public IssueSearchIndexListener(ObjectProvider<IssueSearchIndex> indexProvider) {
+        this.indexProvider = indexProvider;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    public void onSave(Issue issue) {
+        IssueSearchIndex index = indexProvider.getIfAvailable();
+        if (index != null) {
+            IssueSearchIndex.Document document = IssueSearchIndex.snapshot(issue);
+            AfterCommit.run(() -> index.index(document));
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Issue issue) {
+        IssueSearchIndex index = indexProvider.getIfAvailable();
+        if (index != null) {
+            Long issueId = issue.getId();
+            AfterCommit.run(() -> index.remove(issueId));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.assetdesk.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Issue full-text search criteria. Words of {@code text} may match title, description or
+ * resolution notes; words of {@code title} and {@code description} must match that field.
+ * Every word has to match (as a whole word or a word prefix). The remaining values are
+ * exact filters; blank or null values are ignored.
+ */
+public record IssueSearchQuery(String text, String title, String description,
+                               String status, String priority, String type,
+                               Long reportedById, Long assignedToId, Long assetId) {
+    
+    /**
+     * The lower-cased query words of all three text criteria, as used for highlighting.
+     */
+    public List<String> words() {
+        List<String> words = new ArrayList<>(IssueSearchIndex.tokenize(text));
+        words.addAll(IssueSearchIndex.tokenize(title));
+        words.addAll(IssueSearchIndex.tokenize(description));
+        return words;
+    }
+}
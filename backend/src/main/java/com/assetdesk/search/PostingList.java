@@ -0,0 +1,90 @@
+package com.assetdesk.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of document ordinals backed by a primitive array. Ordinals are
+ * handed out in increasing order, so adds are usually appends.
+ */
+final class PostingList {
+    
+    private int[] ordinals = new int[4];
+    private int size;
+    
+    void add(int ordinal) {
+        if (size > 0 && ordinals[size - 1] >= ordinal) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos >= 0) {
+                return;
+            }
+            insertAt(-pos - 1, ordinal);
+            return;
+        }
+        insertAt(size, ordinal);
+    }
+    
+    void remove(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos >= 0) {
+            System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+            size--;
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Keeps only the first {@code count} entries of the sorted {@code candidates} that are also
+     * in this list, compacting them to the front. Returns the new count. Merges when both sides
+     * are of similar size and gallops through this list when it is much larger.
+     */
+    int retainAll(int[] candidates, int count) {
+        int kept = 0;
+        int from = 0;
+        boolean gallop = size > 8L * count;
+        for (int i = 0; i < count && from < size; i++) {
+            int candidate = candidates[i];
+            if (gallop) {
+                int pos = Arrays.binarySearch(ordinals, from, size, candidate);
+                if (pos >= 0) {
+                    candidates[kept++] = candidate;
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            } else {
+                while (from < size && ordinals[from] < candidate) {
+                    from++;
+                }
+                if (from < size && ordinals[from] == candidate) {
+                    candidates[kept++] = candidate;
+                    from++;
+                }
+            }
+        }
+        return kept;
+    }
+    
+    int[] toArray() {
+        return Arrays.copyOf(ordinals, size);
+    }
+    
+    long sizeInBytes() {
+        return 16L + 4L * ordinals.length;
+    }
+    
+    private void insertAt(int pos, int ordinal) {
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ordinals, pos, ordinals, pos + 1, size - pos);
+        ordinals[pos] = ordinal;
+        size++;
+    }
+}
@@ -0,0 +1,125 @@
+package com.assetdesk.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Cuts highlighted snippets out of matched text. Words starting with one of the query words
+ * are wrapped in {@code <mark>}; everything else is HTML-escaped, so the result can be rendered
+ * as markup as-is.
+ */
+public final class SearchHighlighter {
+    
+    public static final String MARK_OPEN = "<mark>";
+    public static final String MARK_CLOSE = "</mark>";
+    private static final String ELLIPSIS = "…";
+    
+    private SearchHighlighter() {
+    }
+    
+    /**
+     * The whole text, HTML-escaped, with matching words marked. A text without matches (an
+     * issue found through its description or asset, say) is returned escaped but unmarked, so
+     * the result is always safe to render in place of the text. Null only for null text.
+     */
+    public static String highlight(String text, Collection<String> words) {
+        if (text == null) {
+            return null;
+        }
+        return mark(text, 0, text.length(), words);
+    }
+    
+    /**
+     * A window of about {@code maxLength} characters around the first matching word, with
+     * matches marked and ellipses where the text was cut. Null when nothing matches.
+     */
+    public static String snippet(String text, Collection<String> words, int maxLength) {
+        if (text == null) {
+            return null;
+        }
+        int match = firstMatch(text, words);
+        if (match < 0) {
+            return null;
+        }
+        int start = Math.max(0, match - maxLength / 4);
+        int end = Math.min(text.length(), start + maxLength);
+        start = Math.max(0, Math.min(start, end - maxLength));
+        // Do not cut words in half
+        while (start > 0 && start < match && Character.isLetterOrDigit(text.charAt(start - 1))) {
+            start++;
+        }
+        while (end < text.length() && end > match && Character.isLetterOrDigit(text.charAt(end))) {
+            end--;
+        }
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        snippet.append(mark(text, start, end, words).strip());
+        if (end < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString();
+    }
+    
+    private static String mark(String text, int from, int to, Collection<String> words) {
+        StringBuilder out = new StringBuilder(to - from + 16);
+        int i = from;
+        while (i < to) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                int next = i;
+                while (next < to && !Character.isLetterOrDigit(text.charAt(next))) {
+                    next++;
+                }
+                out.append(HtmlUtils.htmlEscape(text.substring(i, next)));
+                i = next;
+                continue;
+            }
+            int end = wordEnd(text, i, to);
+            String word = text.substring(i, end);
+            if (matches(word, words)) {
+                out.append(MARK_OPEN).append(HtmlUtils.htmlEscape(word)).append(MARK_CLOSE);
+            } else {
+                out.append(HtmlUtils.htmlEscape(word));
+            }
+            i = end;
+        }
+        return out.toString();
+    }
+    
+    private static int firstMatch(String text, Collection<String> words) {
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = wordEnd(text, i, text.length());
+            if (matches(text.substring(i, end), words)) {
+                return i;
+            }
+            i = end;
+        }
+        return -1;
+    }
+    
+    private static int wordEnd(String text, int start, int limit) {
+        int end = start;
+        while (end < limit && Character.isLetterOrDigit(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+    
+    private static boolean matches(String word, Collection<String> words) {
+        String lower = word.toLowerCase(Locale.ROOT);
+        for (String candidate : words) {
+            if (lower.startsWith(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package com.assetdesk.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Prefix lookup table kept in parallel sorted arrays, ordered case-insensitively by value and
+ * then by owner id. A prefix match is a binary search followed by a forward scan that stops after
+ * the requested number of entries, so the results are the first matches in that lexicographic
+ * order: an exact match comes first, but "AB10" comes before the shorter "AB2". Only the
+ * original value is stored; there is no lower-cased copy and no id-to-key map, so a write
+ * locates the owner's row with a scan of the id array before shifting the arrays. The table
+ * holds one value per owner.
+ *
+ * Not thread-safe; {@link SuggestIndex} guards it.
+ */
+final class SortedKeyTable {
+    
+    // Rough sizes on a 64-bit JVM with compressed oops and compact (Latin-1) strings
+    private static final int STRING_OVERHEAD = 24 + 16;
+    private static final int SLOT_BYTES = 4 * 2 + 8;
+    
+    record Entry(long id, String value, String label) {}
+    
+    private String[] values = new String[16];
+    private long[] ids = new long[16];
+    private String[] labels = new String[16];
+    private int size;
+    private long stringBytes;
+    
+    /**
+     * Replaces the contents with the given entries, sorting once instead of inserting one by one.
+     * Owner ids are expected to be unique.
+     */
+    void load(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, (a, b) -> compare(a.value(), a.id(), b.value(), b.id()));
+        int capacity = Math.max(16, sorted.length);
+        values = new String[capacity];
+        ids = new long[capacity];
+        labels = new String[capacity];
+        size = 0;
+        stringBytes = 0;
+        for (Entry entry : sorted) {
+            set(size++, entry);
+            stringBytes += stringBytes(entry.value()) + stringBytes(entry.label());
+        }
+    }
+    
+    void put(Entry entry) {
+        remove(entry.id());
+        if (size == values.length) {
+            int capacity = values.length * 2;
+            values = Arrays.copyOf(values, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+        }
+        int pos = lowerBound(entry.value(), entry.id());
+        shift(pos, pos + 1, size - pos);
+        set(pos, entry);
+        size++;
+        stringBytes += stringBytes(entry.value()) + stringBytes(entry.label());
+    }
+    
+    void remove(long id) {
+        for (int pos = 0; pos < size; pos++) {
+            if (ids[pos] == id) {
+                stringBytes -= stringBytes(values[pos]) + stringBytes(labels[pos]);
+                shift(pos + 1, pos, size - pos - 1);
+                size--;
+                values[size] = null;
+                labels[size] = null;
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Passes the first {@code limit} entries, in table order, whose value starts with
+     * {@code prefix}, ignoring case.
+     */
+    void scan(String prefix, int limit, Consumer<Entry> consumer) {
+        int emitted = 0;
+        for (int pos = lowerBound(prefix, Long.MIN_VALUE);
+             pos < size && emitted < limit && values[pos].regionMatches(true, 0, prefix, 0, prefix.length());
+             pos++) {
+            consumer.accept(new Entry(ids[pos], values[pos], labels[pos]));
+            emitted++;
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Approximate retained heap: the arrays and the strings they reference.
+     */
+    long estimatedBytes() {
+        return (long) values.length * SLOT_BYTES + stringBytes;
+    }
+    
+    private int lowerBound(String value, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(values[mid], ids[mid], value, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private void shift(int from, int to, int length) {
+        System.arraycopy(values, from, values, to, length);
+        System.arraycopy(ids, from, ids, to, length);
+        System.arraycopy(labels, from, labels, to, length);
+    }
+    
+    private void set(int pos, Entry entry) {
+        values[pos] = entry.value();
+        ids[pos] = entry.id();
+        labels[pos] = entry.label();
+    }
+    
+    private static int compare(String value1, long id1, String value2, long id2) {
+        int byValue = String.CASE_INSENSITIVE_ORDER.compare(value1, value2);
+        return byValue != 0 ? byValue : Long.compare(id1, id2);
+    }
+    
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+}
@@ -0,0 +1,254 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.suggest.SuggestionDTO;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.UserRepository;
+import com.assetdesk.repository.projection.AssetSearchRow;
+import com.assetdesk.repository.projection.UserSuggestRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over asset tags, serial numbers, employee ids and email addresses. Each field is a
+ * {@link SortedKeyTable}, so a lookup is a binary search plus a scan of at most the requested
+ * number of entries. Built once at startup and kept current by {@link SuggestIndexListener}.
+ * Retained size and entry count are published as {@code suggest.index.memory} and
+ * {@code suggest.index.entries}, tagged by field.
+ */
+@Component
+@Slf4j
+public class SuggestIndex {
+    
+    private static final int BUILD_CHUNK = 5000;
+    
+    public enum Field {
+        ASSET_TAG("assetTag"), SERIAL_NUMBER("serialNumber"), EMPLOYEE_ID("employeeId"), EMAIL("email");
+        
+        private final String paramName;
+        
+        Field(String paramName) {
+            this.paramName = paramName;
+        }
+        
+        public String paramName() {
+            return paramName;
+        }
+        
+        public static Field fromParamName(String name) {
+            for (Field field : values()) {
+                if (field.paramName.equalsIgnoreCase(name) || field.name().equalsIgnoreCase(name)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+    
+    private final AssetRepository assetRepository;
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Field, SortedKeyTable> tables = new EnumMap<>(Field.class);
+    private final BuildWriteLog buildWrites = new BuildWriteLog();
+    private volatile boolean ready;
+    
+    public SuggestIndex(AssetRepository assetRepository, UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.assetRepository = assetRepository;
+        this.userRepository = userRepository;
+        for (Field field : Field.values()) {
+            tables.put(field, new SortedKeyTable());
+            Gauge.builder("suggest.index.memory", this, index -> index.estimatedBytes(field))
+                .tag("field", field.paramName())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+            Gauge.builder("suggest.index.entries", this, index -> index.entries(field))
+                .tag("field", field.paramName())
+                .register(meterRegistry);
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        Map<Field, List<SortedKeyTable.Entry>> entries = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            entries.put(field, new ArrayList<>());
+        }
+        lock.writeLock().lock();
+        try {
+            buildWrites.start();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        boolean complete = false;
+        try {
+            long afterId = 0;
+            while (true) {
+                List<AssetSearchRow> rows = assetRepository.findSearchRowsAfter(afterId, PageRequest.of(0, BUILD_CHUNK));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (AssetSearchRow row : rows) {
+                    addEntry(entries, Field.ASSET_TAG, row.getId(), row.getAssetTag(), row.getName());
+                    addEntry(entries, Field.SERIAL_NUMBER, row.getId(), row.getSerialNumber(), row.getName());
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            afterId = 0;
+            while (true) {
+                List<UserSuggestRow> rows = userRepository.findSuggestRowsAfter(afterId, PageRequest.of(0, BUILD_CHUNK));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (UserSuggestRow row : rows) {
+                    addEntry(entries, Field.EMPLOYEE_ID, row.getId(), row.getEmployeeId(), row.getName());
+                    addEntry(entries, Field.EMAIL, row.getId(), row.getEmail(), row.getName());
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            complete = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (complete) {
+                    entries.forEach((field, fieldEntries) -> tables.get(field).load(fieldEntries));
+                }
+                // load() replaces the tables, so writes committed while the rows were read go back on top
+                buildWrites.replay();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        ready = true;
+        log.info("Suggest index built: {} keys in {} ms",
+            entries.values().stream().mapToInt(List::size).sum(), System.currentTimeMillis() - started);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * The first {@code limit} values of the given fields starting with {@code prefix}, in
+     * case-insensitive lexicographic order, so exact matches come first. Only that many entries
+     * are read per field; a shorter value later in the order (AB2 after AB10) can be left out.
+     */
+    public List<SuggestionDTO> suggest(String prefix, Set<Field> fields, int limit) {
+        String normalized = prefix == null ? "" : prefix.trim();
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Field field : fields) {
+                tables.get(field).scan(normalized, limit, entry -> candidates.add(new Candidate(field, entry)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Merges the per-field scans into the same order the tables use
+        candidates.sort(Comparator
+            .comparing((Candidate c) -> c.entry().value(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Candidate::field));
+        List<SuggestionDTO> suggestions = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            Candidate c = candidates.get(i);
+            suggestions.add(new SuggestionDTO(c.field().paramName(), c.entry().id(), c.entry().value(), c.entry().label()));
+        }
+        return suggestions;
+    }
+    
+    void indexAsset(Long id, String assetTag, String serialNumber, String name) {
+        lock.writeLock().lock();
+        try {
+            put(Field.ASSET_TAG, id, assetTag, name);
+            put(Field.SERIAL_NUMBER, id, serialNumber, name);
+            buildWrites.record(() -> indexAsset(id, assetTag, serialNumber, name));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void indexUser(Long id, String employeeId, String email, String name) {
+        lock.writeLock().lock();
+        try {
+            put(Field.EMPLOYEE_ID, id, employeeId, name);
+            put(Field.EMAIL, id, email, name);
+            buildWrites.record(() -> indexUser(id, employeeId, email, name));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void removeAsset(Long id) {
+        remove(id, Field.ASSET_TAG, Field.SERIAL_NUMBER);
+    }
+    
+    void removeUser(Long id) {
+        remove(id, Field.EMPLOYEE_ID, Field.EMAIL);
+    }
+    
+    private long estimatedBytes(Field field) {
+        lock.readLock().lock();
+        try {
+            return tables.get(field).estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private int entries(Field field) {
+        lock.readLock().lock();
+        try {
+            return tables.get(field).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void put(Field field, Long id, String value, String label) {
+        if (value == null || value.isBlank()) {
+            tables.get(field).remove(id);
+        } else {
+            tables.get(field).put(new SortedKeyTable.Entry(id, value.trim(), label));
+        }
+    }
+    
+    private void remove(Long id, Field... fields) {
+        lock.writeLock().lock();
+        try {
+            for (Field field : fields) {
+                tables.get(field).remove(id);
+            }
+            buildWrites.record(() -> remove(id, fields));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private static void addEntry(Map<Field, List<SortedKeyTable.Entry>> entries, Field field,
+                                 Long id, String value, String label) {
+        if (value != null && !value.isBlank()) {
+            entries.get(field).add(new SortedKeyTable.Entry(id, value.trim(), label));
+        }
+    }
+    
+    private record Candidate(Field field, SortedKeyTable.Entry entry) {}
+}
@@ -0,0 +1,61 @@
+package com.assetdesk.search;
+
+import com.assetdesk.config.AfterCommit;
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps {@link SuggestIndex} in step with asset and user writes.
+ * Values are read while the entity is still attached and applied once the transaction commits.
+ */
+@Component
+public class SuggestIndexListener {
+    
+    private final ObjectProvider<SuggestIndex> indexProvider;
+    
+    public SuggestIndexListener(ObjectProvider<SuggestIndex> indexProvider) {
+        this.indexProvider = indexProvider;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        SuggestIndex index = indexProvider.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof Asset asset) {
+            Long id = asset.getId();
+            String assetTag = asset.getAssetTag();
+            String serialNumber = asset.getSerialNumber();
+            String name = asset.getName();
+            AfterCommit.run(() -> index.indexAsset(id, assetTag, serialNumber, name));
+        } else if (entity instanceof User user) {
+            Long id = user.getId();
+            String employeeId = user.getEmployeeId();
+            String email = user.getEmail();
+            String name = user.getName();
+            AfterCommit.run(() -> index.indexUser(id, employeeId, email, name));
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Object entity) {
+        SuggestIndex index = indexProvider.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof Asset asset) {
+            Long id = asset.getId();
+            AfterCommit.run(() -> index.removeAsset(id));
+        } else if (entity instanceof User user) {
+            Long id = user.getId();
+            AfterCommit.run(() -> index.removeUser(id));
+        }
+    }
+}
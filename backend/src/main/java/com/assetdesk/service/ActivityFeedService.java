@@ -0,0 +1,22 @@
+package com.assetdesk.service;
+
+import com.assetdesk.domain.ActivityFeedEntry;
+import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.domain.AssetRequest;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.ServiceRecord;
+import com.assetdesk.dto.CursorPageDTO;
+import com.assetdesk.dto.activity.ActivityResponseDTO;
+import java.util.List;
+
+public interface ActivityFeedService {
+    void recordAllocation(AssetAllocation allocation);
+    void recordReturn(AssetAllocation allocation);
+    void recordIssue(Issue issue);
+    void recordRequest(AssetRequest request);
+    void recordService(ServiceRecord record);
+    List<ActivityFeedEntry> getRecent(int limit);
+    List<ActivityFeedEntry> getRecentForUser(Long userId, int limit);
+    CursorPageDTO<ActivityResponseDTO> getTimeline(Long userId, String cursor, int size);
+    int backfill();
+}
@@ -0,0 +1,13 @@
+package com.assetdesk.service;
+
+import com.assetdesk.dto.analytics.AnalyticsReportOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+public interface AnalyticsService {
+    Map<String, Object> getDashboardAnalytics();
+    Map<String, Object> getAssetAnalytics(String category, String type, String status, String cursor, int size, boolean summaryOnly);
+    void writeReportPdf(AnalyticsReportOptions options, OutputStream out) throws IOException;
+}
@@ -1,6 +1,8 @@
 package com.assetdesk.service;
 
 import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.dto.AssetAllocationResponseDTO;
+import com.assetdesk.dto.CursorPageDTO;
 import java.util.List;
 import java.time.LocalDate;
 import org.springframework.data.domain.Page;
@@ -15,6 +17,7 @@ public interface AssetAllocationService {
     List<AssetAllocation> getUserAllocations(Long userId);
     Page<AssetAllocation> getAllAllocations(Pageable pageable);
     Page<AssetAllocation> getAllAllocations(Pageable pageable, String status, String search);
+    CursorPageDTO<AssetAllocationResponseDTO> getAllAllocations(String status, String cursor, int size, boolean includeTotal);
     Object getAnalytics();
     List<AssetAllocation> getCurrentAllocations();
     AssetAllocation getCurrentAllocation(Long assetId);
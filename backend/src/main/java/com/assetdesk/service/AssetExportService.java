@@ -0,0 +1,33 @@
+package com.assetdesk.service;
+
+import com.assetdesk.dto.asset.AssetExportFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.LongConsumer;
+
+public interface AssetExportService {
+    
+    /**
+     * Writes matching assets as CSV straight to {@code out}, reading them through a
+     * forward-only cursor so memory stays flat regardless of inventory size.
+     * Returns the number of data rows written.
+     */
+    long writeCsv(AssetExportFilter filter, OutputStream out) throws IOException;
+    
+    /**
+     * As {@link #writeCsv(AssetExportFilter, OutputStream)}, reporting the running row count to
+     * {@code progress} after every chunk.
+     */
+    long writeCsv(AssetExportFilter filter, OutputStream out, LongConsumer progress) throws IOException;
+    
+    /**
+     * Writes matching assets as a PDF report straight to {@code out}, adding table rows one
+     * chunk at a time. Returns the number of data rows written.
+     */
+    long writePdf(AssetExportFilter filter, OutputStream out);
+    
+    long writePdf(AssetExportFilter filter, OutputStream out, LongConsumer progress);
+    
+    long count(AssetExportFilter filter);
+}
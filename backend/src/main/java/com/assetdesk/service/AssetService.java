@@ -1,5 +1,6 @@
 package com.assetdesk.service;
 
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.asset.AssetRequestDTO;
 import com.assetdesk.dto.asset.AssetResponseDTO;
 import com.assetdesk.dto.asset.AssetGroupResponseDTO;
@@ -13,6 +14,7 @@ public interface AssetService {
     AssetResponseDTO getAssetById(Long id);
     AssetResponseDTO getAssetByTag(String assetTag);
     Page<AssetResponseDTO> getAllAssets(Pageable pageable);
+    CursorPageDTO<AssetResponseDTO> getAllAssets(String cursor, int size, boolean includeTotal);
     Page<AssetResponseDTO> getAssetsByCategory(String category, Pageable pageable);
     Page<AssetResponseDTO> getAssetsByStatus(String status, Pageable pageable);
     Page<AssetResponseDTO> getAvailableAssets(Pageable pageable);
@@ -29,6 +31,7 @@ public interface AssetService {
     Page<AssetResponseDTO> searchAdvanced(String name, String category, String type, String status, 
         String assetTag, String model, String serialNumber, String vendor, Pageable pageable);
     com.assetdesk.dto.asset.AssetGroupSummaryDTO getGroupSummary(String name);
+    com.assetdesk.dto.asset.AssetGroupSummaryDTO getGroupSummary(String name, Pageable usersPageable);
     com.assetdesk.dto.asset.AssetResponseDTO allocateFromGroup(String name, Long userId, String remarks);
     com.assetdesk.dto.asset.AssetResponseDTO allocateFromGroupByEmployeeId(String name, String employeeId, String remarks);
     com.assetdesk.dto.asset.WarrantyStatsDTO getWarrantyStats();
@@ -0,0 +1,37 @@
+package com.assetdesk.service;
+
+import com.assetdesk.dto.ServiceRecordExportFilter;
+import com.assetdesk.dto.analytics.AnalyticsReportOptions;
+import com.assetdesk.dto.asset.AssetExportFilter;
+import com.assetdesk.dto.export.ExportJobDTO;
+import com.assetdesk.dto.export.ExportKind;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.file.Path;
+
+/**
+ * Runs exports in the background on a bounded worker pool. Each job writes to a temp file that
+ * can be downloaded until it expires. Submitting the same kind and filter while an identical job
+ * is still queued or running returns that job instead of starting another.
+ */
+public interface ExportJobService {
+    
+    ExportJobDTO submitAssetExport(ExportKind kind, AssetExportFilter filter);
+    
+    ExportJobDTO submitServiceRecordExport(ExportKind kind, ServiceRecordExportFilter filter);
+    
+    ExportJobDTO submitAnalyticsReport(AnalyticsReportOptions options);
+    
+    ExportJobDTO getJob(String jobId);
+    
+    /**
+     * Streams "progress" events while the job runs and a final "completed" or "failed" event,
+     * each carrying the job state.
+     */
+    SseEmitter subscribe(String jobId);
+    
+    /**
+     * The finished result file. Throws if the job is unknown, expired or not completed.
+     */
+    Path getResult(String jobId);
+}
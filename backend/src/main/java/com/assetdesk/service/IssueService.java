@@ -1,7 +1,9 @@
 package com.assetdesk.service;
 
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.issue.IssueRequestDTO;
 import com.assetdesk.dto.issue.IssueResponseDTO;
+import com.assetdesk.dto.issue.IssueSearchHitDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,6 +12,7 @@ public interface IssueService {
     IssueResponseDTO createIssue(IssueRequestDTO issueRequestDTO, Long reportedById);
     IssueResponseDTO getIssueById(Long id);
     Page<IssueResponseDTO> getAllIssues(Pageable pageable);
+    CursorPageDTO<IssueResponseDTO> getAllIssues(String cursor, int size, boolean includeTotal);
     Page<IssueResponseDTO> getAllIssuesIncludingClosed(Pageable pageable);
     Page<IssueResponseDTO> getIssuesByReportedBy(Long userId, Pageable pageable);
     Page<IssueResponseDTO> getIssuesByAssignedTo(Long userId, Pageable pageable);
@@ -29,4 +32,6 @@ public interface IssueService {
     void sendIssueNotification(Long issueId, String title, String message, String type);
     Page<IssueResponseDTO> searchIssues(String title, String description, String status, 
         String priority, String type, Long reportedById, Long assignedToId, Long assetId, Pageable pageable);
+    Page<IssueSearchHitDTO> searchIssuesRanked(String text, String status, String priority, String type,
+        Long reportedById, Long assignedToId, Long assetId, Pageable pageable);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.assetdesk.service;
 
 import com.assetdesk.dto.message.MessageRequestDTO;
 import com.assetdesk.dto.message.MessageResponseDTO;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,5 +21,11 @@ public interface MessageService {
     Page<MessageResponseDTO> getUnreadMessages(Long userId, Pageable pageable);
     Long getUnreadMessageCount(Long userId);
     void markAsRead(Long id);
+    
+    /**
+     * Marks every message of the issue sent at or before {@code upTo} as read in a single
+     * statement. Returns the number of messages that changed.
+     */
+    int markIssueMessagesAsRead(Long issueId, LocalDateTime upTo);
     void deleteMessage(Long id);
 }
\ No newline at end of file
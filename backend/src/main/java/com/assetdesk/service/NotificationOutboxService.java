@@ -0,0 +1,29 @@
+package com.assetdesk.service;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.User;
+
+import java.util.Collection;
+
+/**
+ * Transactional outbox for notifications. Business operations publish lightweight events inside
+ * their own transaction; a background dispatcher turns committed events into notifications and
+ * SSE pushes, so recipients are never resolved on the request path. Delivery is at least once:
+ * an event is retried until it is delivered or runs out of attempts. Events that share a dedup
+ * key are delivered only once, so a key should name the business occurrence (for example
+ * "allocation:42:returned"), not just the resulting state. When the same transition can
+ * legitimately happen again, add the event time so only retries of one event share a key.
+ * Pass {@code null} when there is no natural key.
+ */
+public interface NotificationOutboxService {
+    
+    void publish(String dedupKey, Long userId, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId);
+    
+    void publishToRoles(String dedupKey, Collection<User.Role> roles, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId);
+    
+    /**
+     * Delivers pending events in batches until none are left or a batch had failures. Returns
+     * the number of events delivered.
+     */
+    int dispatchPending();
+}
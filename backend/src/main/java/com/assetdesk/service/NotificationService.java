@@ -1,7 +1,10 @@
 package com.assetdesk.service;
 
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.notification.NotificationResponseDTO;
 import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.User;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,13 +13,39 @@ public interface NotificationService {
     
     void createNotification(Long userId, String title, String message, Notification.Type type);
     void createNotification(Long userId, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId);
+    
+    /**
+     * Sends the same notification to every listed user in one batched insert, without loading
+     * the users. The body is stored once with a receipt per user; unknown ids are skipped. Returns
+     * the number of recipients.
+     */
+    int notifyUsers(Collection<Long> userIds, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId);
+    
+    /**
+     * Sends the same notification to every user holding one of the roles in a single statement.
+     * Returns the number of recipients.
+     */
+    int notifyRoles(Collection<User.Role> roles, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId);
+    
     Page<NotificationResponseDTO> getAllNotifications(Pageable pageable);
     List<NotificationResponseDTO> getNotificationsByUser(Long userId);
     Page<NotificationResponseDTO> getNotificationsByUserPaged(Long userId, Pageable pageable);
+    CursorPageDTO<NotificationResponseDTO> getNotificationsByUser(Long userId, String cursor, int size, boolean includeTotal);
     List<NotificationResponseDTO> getUnreadNotificationsByUser(Long userId);
     Long getUnreadNotificationCount(Long userId);
     void markAsRead(Long notificationId);
-    void markAllAsRead(Long userId);
+    
+    /**
+     * Marks every unread notification of the user as read in a single statement. Returns the
+     * number of notifications that changed.
+     */
+    int markAllAsRead(Long userId);
+    
+    /**
+     * Marks the listed notifications of the user as read in a single statement. Ids belonging to
+     * other users or already read are left alone. Returns the number that changed.
+     */
+    int markAsRead(Long userId, Collection<Long> notificationIds);
     void deleteNotification(Long id);
     Page<NotificationResponseDTO> getUnreadNotificationsByUserPaged(Long userId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.assetdesk.service;
+
+import com.assetdesk.dto.ServiceRecordExportFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.LongConsumer;
+
+public interface ServiceRecordExportService {
+    
+    /**
+     * Writes matching service records as CSV straight to {@code out}. Returns the number of
+     * data rows written.
+     */
+    long writeCsv(ServiceRecordExportFilter filter, OutputStream out) throws IOException;
+    
+    /**
+     * As {@link #writeCsv(ServiceRecordExportFilter, OutputStream)}, reporting the running row
+     * count to {@code progress} after every chunk.
+     */
+    long writeCsv(ServiceRecordExportFilter filter, OutputStream out, LongConsumer progress) throws IOException;
+    
+    /**
+     * Writes matching service records as a PDF report straight to {@code out}, adding table
+     * rows one chunk at a time. Returns the number of data rows written.
+     */
+    long writePdf(ServiceRecordExportFilter filter, OutputStream out);
+    
+    long writePdf(ServiceRecordExportFilter filter, OutputStream out, LongConsumer progress);
+    
+    long count(ServiceRecordExportFilter filter);
+}
@@ -0,0 +1,19 @@
+package com.assetdesk.service;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.MonthlyRollup;
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface TrendRollupService {
+    void recordAssetPurchase(Asset asset);
+    void recordAssetPurchaseChange(LocalDate oldPurchaseDate, Asset.Category oldCategory, Asset asset);
+    void removeAssetPurchase(Asset asset);
+    void recordIssueCreated(Issue issue);
+    void recordIssuePriorityChange(Issue.Priority oldPriority, Issue issue);
+    void removeIssueCreated(Issue issue);
+    Map<String, Long> getMonthlyTrend(MonthlyRollup.Metric metric, int months);
+    Map<String, Long> getMonthlyTrend(MonthlyRollup.Metric metric, String dimension, int months);
+    int backfill();
+}
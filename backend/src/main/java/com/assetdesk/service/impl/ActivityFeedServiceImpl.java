@@ -0,0 +1,218 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.*;
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.CursorPageDTO;
+import com.assetdesk.dto.activity.ActivityResponseDTO;
+import com.assetdesk.repository.*;
+import com.assetdesk.service.ActivityFeedService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class ActivityFeedServiceImpl implements ActivityFeedService {
+    
+    private static final int BACKFILL_CHUNK = 500;
+    
+    private final ActivityFeedRepository activityFeedRepository;
+    private final AssetAllocationRepository allocationRepository;
+    private final IssueRepository issueRepository;
+    private final AssetRequestRepository requestRepository;
+    private final ServiceRecordRepository serviceRecordRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // Entries are written inside the caller's transaction, so they commit or roll back with the event itself
+    
+    @Override
+    public void recordAllocation(AssetAllocation allocation) {
+        activityFeedRepository.save(allocationEntry(allocation, LocalDateTime.now()));
+    }
+    
+    @Override
+    public void recordReturn(AssetAllocation allocation) {
+        activityFeedRepository.save(returnEntry(allocation, LocalDateTime.now()));
+    }
+    
+    @Override
+    public void recordIssue(Issue issue) {
+        activityFeedRepository.save(issueEntry(issue, LocalDateTime.now()));
+    }
+    
+    @Override
+    public void recordRequest(AssetRequest request) {
+        activityFeedRepository.save(requestEntry(request, LocalDateTime.now()));
+    }
+    
+    @Override
+    public void recordService(ServiceRecord record) {
+        activityFeedRepository.save(serviceEntry(record, LocalDateTime.now()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActivityFeedEntry> getRecent(int limit) {
+        return activityFeedRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.of(0, limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActivityFeedEntry> getRecentForUser(Long userId, int limit) {
+        return activityFeedRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, PageRequest.of(0, limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ActivityResponseDTO> getTimeline(Long userId, String cursor, int size) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Pageable limit = CursorPageDTO.fetchLimit(pageSize);
+        Cursor position = Cursor.decode(cursor);
+        
+        List<ActivityFeedEntry> rows;
+        if (position == null) {
+            rows = userId != null
+                ? activityFeedRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : activityFeedRepository.findByOrderByCreatedAtDescIdDesc(limit);
+        } else {
+            LocalDateTime createdAt = position.sortKeyAsDateTime();
+            rows = userId != null
+                ? activityFeedRepository.findByUserIdBefore(userId, createdAt, position.id(), limit)
+                : activityFeedRepository.findBefore(createdAt, position.id(), limit);
+        }
+        return CursorPageDTO.fromRows(rows, pageSize,
+            entry -> new Cursor(entry.getCreatedAt().toString(), entry.getId()), ActivityResponseDTO::fromEntity);
+    }
+    
+    @Override
+    public int backfill() {
+        activityFeedRepository.deleteAllInBatch();
+        int written = 0;
+        written += backfillFrom(allocationRepository::findPageAfter, AssetAllocation::getId, this::allocationEntries);
+        written += backfillFrom(issueRepository::findPageAfter, Issue::getId, issue -> List.of(issueEntry(issue, issue.getCreatedAt())));
+        written += backfillFrom(requestRepository::findPageAfter, AssetRequest::getId, request -> List.of(requestEntry(request, request.getRequestedDate())));
+        written += backfillFrom(serviceRecordRepository::findPageAfter, ServiceRecord::getId, this::serviceEntries);
+        return written;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (activityFeedRepository.count() == 0) {
+            int rows = backfill();
+            log.info("Backfilled {} activity feed entries", rows);
+        }
+    }
+    
+    // Keyset pages on id, so each chunk is an index range scan rather than a growing OFFSET; the
+    // persistence context is flushed and cleared per chunk so the whole history is never held at once
+    private <T> int backfillFrom(BiFunction<Long, Pageable, List<T>> source, Function<T, Long> idOf,
+                                 Function<T, List<ActivityFeedEntry>> mapper) {
+        int written = 0;
+        long afterId = 0;
+        while (true) {
+            List<T> rows = source.apply(afterId, PageRequest.of(0, BACKFILL_CHUNK));
+            if (rows.isEmpty()) {
+                return written;
+            }
+            List<ActivityFeedEntry> entries = new ArrayList<>();
+            rows.forEach(row -> entries.addAll(mapper.apply(row)));
+            activityFeedRepository.saveAll(entries);
+            written += entries.size();
+            afterId = idOf.apply(rows.get(rows.size() - 1));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+    
+    private List<ActivityFeedEntry> allocationEntries(AssetAllocation allocation) {
+        List<ActivityFeedEntry> entries = new ArrayList<>();
+        if (allocation.getAllocatedDate() != null) {
+            entries.add(allocationEntry(allocation, allocation.getAllocatedDate().atStartOfDay()));
+        }
+        if (allocation.getReturnedDate() != null) {
+            entries.add(returnEntry(allocation, allocation.getReturnedDate().atStartOfDay()));
+        }
+        return entries;
+    }
+    
+    private ActivityFeedEntry allocationEntry(AssetAllocation allocation, LocalDateTime createdAt) {
+        User user = allocation.getUser();
+        Asset asset = allocation.getAsset();
+        return newEntry(ActivityFeedEntry.Type.ALLOCATION,
+            "Asset " + asset.getAssetTag() + " allocated to " + user.getName(),
+            user.getId(), user.getName(), "COMPLETED", asset.getId(), createdAt);
+    }
+    
+    private ActivityFeedEntry returnEntry(AssetAllocation allocation, LocalDateTime createdAt) {
+        User user = allocation.getUser();
+        Asset asset = allocation.getAsset();
+        return newEntry(ActivityFeedEntry.Type.RETURN,
+            "Asset " + asset.getAssetTag() + " returned by " + user.getName(),
+            user.getId(), user.getName(), "COMPLETED", asset.getId(), createdAt);
+    }
+    
+    private ActivityFeedEntry issueEntry(Issue issue, LocalDateTime createdAt) {
+        User reporter = issue.getReportedBy();
+        return newEntry(ActivityFeedEntry.Type.ISSUE,
+            "Issue reported: " + issue.getTitle(),
+            reporter.getId(), reporter.getName(),
+            issue.getStatus() != null ? issue.getStatus().toString() : "UNKNOWN",
+            issue.getAsset() != null ? issue.getAsset().getId() : null,
+            createdAt != null ? createdAt : LocalDateTime.now());
+    }
+    
+    private ActivityFeedEntry requestEntry(AssetRequest request, LocalDateTime createdAt) {
+        User requester = request.getRequestedBy();
+        return newEntry(ActivityFeedEntry.Type.REQUEST,
+            "Asset request: " + (request.getRequestType() != null ? request.getRequestType().toString() : "Unknown"),
+            requester.getId(), requester.getName(),
+            request.getStatus() != null ? request.getStatus().toString() : "UNKNOWN",
+            null,
+            createdAt != null ? createdAt : LocalDateTime.now());
+    }
+    
+    private List<ActivityFeedEntry> serviceEntries(ServiceRecord record) {
+        // Allocation and return bookkeeping records have no service type and are already covered above
+        if (record.getServiceType() == null || record.getServiceDate() == null) {
+            return List.of();
+        }
+        return List.of(serviceEntry(record, record.getServiceDate().atStartOfDay()));
+    }
+    
+    private ActivityFeedEntry serviceEntry(ServiceRecord record, LocalDateTime createdAt) {
+        Asset asset = record.getAsset();
+        return newEntry(ActivityFeedEntry.Type.SERVICE,
+            "Service recorded for asset " + asset.getAssetTag() + (record.getServiceType() != null ? ": " + record.getServiceType() : ""),
+            null, record.getPerformedBy(), record.getStatus(), asset.getId(), createdAt);
+    }
+    
+    private ActivityFeedEntry newEntry(ActivityFeedEntry.Type type, String description, Long userId, String userName,
+                                       String status, Long assetId, LocalDateTime createdAt) {
+        ActivityFeedEntry entry = new ActivityFeedEntry();
+        entry.setType(type);
+        entry.setDescription(description);
+        entry.setUserId(userId);
+        entry.setUserName(userName);
+        entry.setStatus(status);
+        entry.setAssetId(assetId);
+        entry.setCreatedAt(createdAt);
+        return entry;
+    }
+}
@@ -0,0 +1,261 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.repository.projection.AssetAggregateRow;
+import com.assetdesk.repository.projection.PurchaseCostBucket;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+
+import java.awt.Color;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds the sections of the analytics PDF from already aggregated rows. Each method only
+ * creates detached elements, so sections can be built concurrently and added to the document
+ * afterwards in a fixed order.
+ */
+final class AnalyticsPdfSections {
+    
+    private static final Font SECTION_FONT = new Font(Font.HELVETICA, 13, Font.BOLD);
+    private static final Font SUBSECTION_FONT = new Font(Font.HELVETICA, 11, Font.BOLD);
+    private static final Font HEADER_FONT = new Font(Font.HELVETICA, 10, Font.BOLD);
+    private static final Font CELL_FONT = new Font(Font.HELVETICA, 10);
+    private static final Color HEADER_BACKGROUND = new Color(230, 230, 230);
+    private static final Color BAR_COLOR = new Color(66, 133, 244);
+    
+    private AnalyticsPdfSections() {
+    }
+    
+    static List<Element> overview(List<AssetAggregateRow> rows) {
+        long totalAssets = 0;
+        long costCount = 0;
+        BigDecimal totalValue = BigDecimal.ZERO;
+        for (AssetAggregateRow row : rows) {
+            totalAssets += row.getAssetCount();
+            if (row.getCostCount() != null && row.getCostCount() > 0) {
+                costCount += row.getCostCount();
+                totalValue = totalValue.add(row.getCostTotal());
+            }
+        }
+        
+        PdfPTable table = table(2, "Metric", "Value");
+        addRow(table, "Total assets", String.valueOf(totalAssets));
+        addRow(table, "Total value", money(totalValue));
+        addRow(table, "Average value", costCount > 0
+            ? money(totalValue.divide(BigDecimal.valueOf(costCount), 2, RoundingMode.HALF_UP)) : "-");
+        return section("Overview", table);
+    }
+    
+    static List<Element> distribution(List<AssetAggregateRow> rows) {
+        List<Element> elements = section("Asset Distribution");
+        elements.add(subsection("By category"));
+        elements.add(barTable(countBy(rows, AssetAggregateRow::getCategory, Asset.Category.class)));
+        elements.add(subsection("By status"));
+        elements.add(barTable(countBy(rows, AssetAggregateRow::getStatus, Asset.Status.class)));
+        elements.add(subsection("By type"));
+        elements.add(barTable(countBy(rows, AssetAggregateRow::getType, Asset.AssetType.class)));
+        return elements;
+    }
+    
+    /**
+     * Straight-line depreciation per category (software over one year, everything else over
+     * three), taking the middle of each purchase month as the purchase date.
+     */
+    static List<Element> depreciation(List<PurchaseCostBucket> buckets, LocalDate asOf) {
+        Map<Asset.Category, BigDecimal[]> byCategory = new EnumMap<>(Asset.Category.class);
+        for (PurchaseCostBucket bucket : buckets) {
+            if (bucket.getCategory() == null) {
+                continue;
+            }
+            LocalDate purchased = YearMonth.of(bucket.getPurchaseYear(), bucket.getPurchaseMonth()).atDay(15);
+            long days = Math.max(0, ChronoUnit.DAYS.between(purchased, asOf));
+            int periodDays = bucket.getCategory() == Asset.Category.SOFTWARE ? 365 : 1095;
+            BigDecimal rate = BigDecimal.valueOf(Math.min(1.0, (double) days / periodDays));
+            
+            BigDecimal[] totals = byCategory.computeIfAbsent(bucket.getCategory(),
+                c -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            totals[0] = totals[0].add(bucket.getCostTotal());
+            totals[1] = totals[1].add(bucket.getCostTotal().multiply(rate));
+        }
+        
+        PdfPTable table = table(4, "Category", "Purchase Cost", "Depreciation", "Book Value");
+        BigDecimal totalCost = BigDecimal.ZERO;
+        BigDecimal totalDepreciation = BigDecimal.ZERO;
+        for (Map.Entry<Asset.Category, BigDecimal[]> entry : byCategory.entrySet()) {
+            BigDecimal cost = entry.getValue()[0];
+            BigDecimal depreciation = entry.getValue()[1];
+            addRow(table, entry.getKey().name(), money(cost), money(depreciation), money(cost.subtract(depreciation)));
+            totalCost = totalCost.add(cost);
+            totalDepreciation = totalDepreciation.add(depreciation);
+        }
+        addRow(table, "TOTAL", money(totalCost), money(totalDepreciation), money(totalCost.subtract(totalDepreciation)));
+        
+        return section("Depreciation (as of " + asOf + ")", table);
+    }
+    
+    static List<Element> warranty(List<AssetAggregateRow> rows) {
+        long expired = 0;
+        long expiring = 0;
+        long valid = 0;
+        long total = 0;
+        for (AssetAggregateRow row : rows) {
+            expired += valueOf(row.getWarrantyExpired());
+            expiring += valueOf(row.getWarrantyExpiring());
+            valid += valueOf(row.getWarrantyValid());
+            total += row.getAssetCount();
+        }
+        
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("Expired", expired);
+        counts.put("Expiring within 30 days", expiring);
+        counts.put("Valid", valid);
+        counts.put("Not recorded", Math.max(0, total - expired - expiring - valid));
+        return section("Warranty Status", barTable(counts));
+    }
+    
+    static List<Element> utilization(List<AssetAggregateRow> rows) {
+        Asset.Status[] statuses = Asset.Status.values();
+        Map<Asset.Category, long[]> matrix = new EnumMap<>(Asset.Category.class);
+        long total = 0;
+        long allocated = 0;
+        for (AssetAggregateRow row : rows) {
+            total += row.getAssetCount();
+            if (row.getStatus() == Asset.Status.ALLOCATED) {
+                allocated += row.getAssetCount();
+            }
+            if (row.getCategory() != null && row.getStatus() != null) {
+                matrix.computeIfAbsent(row.getCategory(), c -> new long[statuses.length])[row.getStatus().ordinal()] += row.getAssetCount();
+            }
+        }
+        
+        String[] headers = new String[statuses.length + 2];
+        headers[0] = "Category";
+        for (int i = 0; i < statuses.length; i++) {
+            headers[i + 1] = statuses[i].name();
+        }
+        headers[headers.length - 1] = "Allocated %";
+        PdfPTable table = table(headers.length, headers);
+        for (Map.Entry<Asset.Category, long[]> entry : matrix.entrySet()) {
+            long[] counts = entry.getValue();
+            String[] cells = new String[headers.length];
+            cells[0] = entry.getKey().name();
+            long categoryTotal = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cells[i + 1] = String.valueOf(counts[i]);
+                categoryTotal += counts[i];
+            }
+            cells[cells.length - 1] = percent(counts[Asset.Status.ALLOCATED.ordinal()], categoryTotal);
+            addRow(table, cells);
+        }
+        
+        List<Element> elements = section("Utilization", table);
+        elements.add(new Paragraph("Overall allocation rate: " + percent(allocated, total), CELL_FONT));
+        return elements;
+    }
+    
+    private static <E extends Enum<E>> Map<String, Long> countBy(List<AssetAggregateRow> rows,
+                                                                  Function<AssetAggregateRow, E> key, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (AssetAggregateRow row : rows) {
+            E value = key.apply(row);
+            if (value != null) {
+                counts.merge(value, row.getAssetCount(), Long::sum);
+            }
+        }
+        Map<String, Long> labelled = new LinkedHashMap<>();
+        counts.forEach((value, count) -> labelled.put(value.name(), count));
+        return labelled;
+    }
+    
+    /**
+     * Label, count, share and a horizontal bar whose filled width is the share of the total.
+     */
+    private static PdfPTable barTable(Map<String, Long> counts) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        PdfPTable table = table(4, "", "Count", "Share", "");
+        table.setWidths(new float[] {3, 1.2f, 1.2f, 6});
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            long count = entry.getValue();
+            float share = total > 0 ? (float) count / total : 0f;
+            addRow(table, entry.getKey(), String.valueOf(count), percent(count, total));
+            
+            PdfPTable bar = new PdfPTable(2);
+            bar.setWidthPercentage(100);
+            // Relative widths must be positive, so an empty bar still gets a hairline
+            bar.setWidths(new float[] {Math.max(share, 0.001f), Math.max(1 - share, 0.001f)});
+            PdfPCell filled = new PdfPCell();
+            filled.setBackgroundColor(BAR_COLOR);
+            filled.setBorder(PdfPCell.NO_BORDER);
+            filled.setFixedHeight(10);
+            PdfPCell empty = new PdfPCell();
+            empty.setBorder(PdfPCell.NO_BORDER);
+            bar.addCell(filled);
+            bar.addCell(empty);
+            PdfPCell barCell = new PdfPCell(bar);
+            barCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+            table.addCell(barCell);
+        }
+        return table;
+    }
+    
+    private static List<Element> section(String title, Element... content) {
+        List<Element> elements = new ArrayList<>();
+        Paragraph heading = new Paragraph(title, SECTION_FONT);
+        heading.setSpacingBefore(12);
+        heading.setSpacingAfter(6);
+        elements.add(heading);
+        elements.addAll(List.of(content));
+        return elements;
+    }
+    
+    private static Paragraph subsection(String title) {
+        Paragraph heading = new Paragraph(title, SUBSECTION_FONT);
+        heading.setSpacingBefore(6);
+        heading.setSpacingAfter(4);
+        return heading;
+    }
+    
+    private static PdfPTable table(int columns, String... headers) {
+        PdfPTable table = new PdfPTable(columns);
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        for (String header : headers) {
+            PdfPCell cell = new PdfPCell(new Phrase(header, HEADER_FONT));
+            cell.setBackgroundColor(HEADER_BACKGROUND);
+            table.addCell(cell);
+        }
+        return table;
+    }
+    
+    private static void addRow(PdfPTable table, String... cells) {
+        for (String cell : cells) {
+            table.addCell(new Phrase(cell, CELL_FONT));
+        }
+    }
+    
+    private static String money(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+    
+    private static String percent(long part, long total) {
+        return total > 0 ? String.format("%.1f%%", (double) part / total * 100) : "-";
+    }
+    
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,240 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.cache.ExpiringValue;
+import com.assetdesk.domain.Asset;
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.analytics.AnalyticsReportOptions;
+import com.assetdesk.dto.asset.AssetSummaryDTO;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.projection.AssetAggregateRow;
+import com.assetdesk.repository.projection.PurchaseCostBucket;
+import com.assetdesk.service.AnalyticsService;
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static com.assetdesk.spec.AssetSpecifications.*;
+
+@Service
+@Transactional(readOnly = true)
+public class AnalyticsServiceImpl implements AnalyticsService {
+    
+    private static final int MAX_ASSET_PAGE_SIZE = 500;
+    
+    private final AssetRepository assetRepository;
+    private final ExpiringValue<Map<String, Object>> dashboardAnalytics;
+    private final ExpiringValue<List<AssetAggregateRow>> inventory;
+    private final ExpiringValue<List<PurchaseCostBucket>> purchaseCosts;
+    private final ForkJoinPool reportPool;
+    
+    public AnalyticsServiceImpl(AssetRepository assetRepository,
+                                @Value("${app.analytics.cache-ttl-seconds:30}") long cacheTtlSeconds,
+                                @Value("${app.analytics.report-parallelism:4}") int reportParallelism) {
+        this.assetRepository = assetRepository;
+        Duration ttl = Duration.ofSeconds(cacheTtlSeconds);
+        this.dashboardAnalytics = new ExpiringValue<>(ttl);
+        this.inventory = new ExpiringValue<>(ttl);
+        this.purchaseCosts = new ExpiringValue<>(ttl);
+        this.reportPool = new ForkJoinPool(reportParallelism);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        reportPool.shutdownNow();
+    }
+    
+    @Override
+    public Map<String, Object> getDashboardAnalytics() {
+        return dashboardAnalytics.get(this::computeDashboardAnalytics);
+    }
+    
+    @Override
+    public Map<String, Object> getAssetAnalytics(String category, String type, String status, String cursor, int size, boolean summaryOnly) {
+        Specification<Asset> spec = Specification.where(hasCategory(category))
+            .and(hasType(type))
+            .and(hasStatus(status));
+        
+        Map<String, Object> analytics = new HashMap<>();
+        Cursor position = Cursor.decode(cursor);
+        // Counting is only worth it once per listing, not on every following page
+        if (summaryOnly || position == null) {
+            analytics.put("totalAssets", assetRepository.count(spec));
+        }
+        if (summaryOnly) {
+            return analytics;
+        }
+        
+        int pageSize = Math.max(1, Math.min(size, MAX_ASSET_PAGE_SIZE));
+        List<AssetSummaryDTO> rows = assetRepository.findSummaries(spec, position != null ? position.id() : null, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<AssetSummaryDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        
+        analytics.put("filteredAssets", page);
+        analytics.put("size", page.size());
+        analytics.put("hasNext", hasNext);
+        analytics.put("nextCursor", hasNext ? new Cursor("id", page.get(page.size() - 1).getId()).encode() : null);
+        return analytics;
+    }
+    
+    private Map<String, Object> computeDashboardAnalytics() {
+        List<AssetAggregateRow> rows = inventoryRows();
+        
+        Map<String, Long> assetsByCategory = new HashMap<>();
+        Map<String, Long> assetsByStatus = new HashMap<>();
+        Map<String, Long> assetsByType = new HashMap<>();
+        Map<Asset.Status, Long> statusCounts = new EnumMap<>(Asset.Status.class);
+        long totalAssets = 0;
+        long costCount = 0;
+        BigDecimal totalValue = BigDecimal.ZERO;
+        BigDecimal highestValue = null;
+        BigDecimal lowestValue = null;
+        long expiredCount = 0;
+        long expiringCount = 0;
+        long validCount = 0;
+        
+        // One pass over the grouped rows; each row already summarises many assets
+        for (AssetAggregateRow row : rows) {
+            long count = row.getAssetCount();
+            totalAssets += count;
+            if (row.getCategory() != null) {
+                assetsByCategory.merge(row.getCategory().name(), count, Long::sum);
+            }
+            if (row.getStatus() != null) {
+                assetsByStatus.merge(row.getStatus().name(), count, Long::sum);
+                statusCounts.merge(row.getStatus(), count, Long::sum);
+            }
+            if (row.getType() != null) {
+                assetsByType.merge(row.getType().name(), count, Long::sum);
+            }
+            if (row.getCostCount() != null && row.getCostCount() > 0) {
+                costCount += row.getCostCount();
+                totalValue = totalValue.add(row.getCostTotal());
+                highestValue = highestValue == null || row.getCostMax().compareTo(highestValue) > 0 ? row.getCostMax() : highestValue;
+                lowestValue = lowestValue == null || row.getCostMin().compareTo(lowestValue) < 0 ? row.getCostMin() : lowestValue;
+            }
+            expiredCount += valueOf(row.getWarrantyExpired());
+            expiringCount += valueOf(row.getWarrantyExpiring());
+            validCount += valueOf(row.getWarrantyValid());
+        }
+        
+        Map<String, Object> costAnalysis = new HashMap<>();
+        if (costCount > 0) {
+            costAnalysis.put("totalValue", totalValue);
+            costAnalysis.put("averageValue", totalValue.divide(BigDecimal.valueOf(costCount), 2, RoundingMode.HALF_UP));
+            costAnalysis.put("highestValue", highestValue);
+            costAnalysis.put("lowestValue", lowestValue);
+        }
+        
+        Map<String, Object> warrantyAnalysis = new HashMap<>();
+        warrantyAnalysis.put("expiredCount", expiredCount);
+        warrantyAnalysis.put("expiringCount", expiringCount);
+        warrantyAnalysis.put("validCount", validCount);
+        
+        Map<String, Object> utilizationMetrics = new HashMap<>();
+        if (totalAssets > 0) {
+            utilizationMetrics.put("allocationRate", rate(statusCounts, Asset.Status.ALLOCATED, totalAssets));
+            utilizationMetrics.put("availabilityRate", rate(statusCounts, Asset.Status.AVAILABLE, totalAssets));
+            utilizationMetrics.put("maintenanceRate", rate(statusCounts, Asset.Status.MAINTENANCE, totalAssets));
+            utilizationMetrics.put("retiredRate", rate(statusCounts, Asset.Status.RETIRED, totalAssets));
+        }
+        
+        Map<String, Object> analytics = new HashMap<>();
+        analytics.put("assetsByCategory", assetsByCategory);
+        analytics.put("assetsByStatus", assetsByStatus);
+        analytics.put("assetsByType", assetsByType);
+        analytics.put("costAnalysis", costAnalysis);
+        analytics.put("warrantyAnalysis", warrantyAnalysis);
+        analytics.put("utilizationMetrics", utilizationMetrics);
+        return analytics;
+    }
+    
+    private static double rate(Map<Asset.Status, Long> statusCounts, Asset.Status status, long total) {
+        return (double) statusCounts.getOrDefault(status, 0L) / total * 100;
+    }
+    
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+    
+    private List<AssetAggregateRow> inventoryRows() {
+        return inventory.get(() -> {
+            LocalDate now = LocalDate.now();
+            return assetRepository.aggregateInventory(now, now.plusDays(30));
+        });
+    }
+    
+    /**
+     * Sections are built concurrently on the report pool from the cached aggregates (at most
+     * two grouped queries when the cache is cold), then written in a fixed order. With no
+     * section selected the full report is produced.
+     */
+    @Override
+    public void writeReportPdf(AnalyticsReportOptions options, OutputStream out) throws IOException {
+        boolean all = !options.isIncludeCharts() && !options.isIncludeDepreciation()
+            && !options.isIncludeWarranty() && !options.isIncludeUtilization();
+        LocalDate today = LocalDate.now();
+        
+        List<CompletableFuture<List<Element>>> sections = new ArrayList<>();
+        sections.add(renderSection(() -> AnalyticsPdfSections.overview(inventoryRows())));
+        if (all || options.isIncludeCharts()) {
+            sections.add(renderSection(() -> AnalyticsPdfSections.distribution(inventoryRows())));
+        }
+        if (all || options.isIncludeDepreciation()) {
+            sections.add(renderSection(() -> AnalyticsPdfSections.depreciation(
+                purchaseCosts.get(assetRepository::sumCostByCategoryAndPurchaseMonth), today)));
+        }
+        if (all || options.isIncludeWarranty()) {
+            sections.add(renderSection(() -> AnalyticsPdfSections.warranty(inventoryRows())));
+        }
+        if (all || options.isIncludeUtilization()) {
+            sections.add(renderSection(() -> AnalyticsPdfSections.utilization(inventoryRows())));
+        }
+        
+        Document document = new Document(PageSize.A4);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.open();
+        
+        Paragraph title = new Paragraph("Analytics Report", new Font(Font.HELVETICA, 16, Font.BOLD));
+        title.setAlignment(Element.ALIGN_CENTER);
+        document.add(title);
+        Paragraph generated = new Paragraph("Generated on: " + today, new Font(Font.HELVETICA, 10));
+        generated.setAlignment(Element.ALIGN_CENTER);
+        document.add(generated);
+        
+        for (CompletableFuture<List<Element>> section : sections) {
+            for (Element element : section.join()) {
+                document.add(element);
+            }
+        }
+        document.close();
+        out.flush();
+    }
+    
+    private CompletableFuture<List<Element>> renderSection(Supplier<List<Element>> section) {
+        return CompletableFuture.supplyAsync(section, reportPool);
+    }
+}
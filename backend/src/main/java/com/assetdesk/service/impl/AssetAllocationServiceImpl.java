@@ -2,18 +2,23 @@ package com.assetdesk.service.impl;
 
 import com.assetdesk.domain.Asset;
 import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.dto.AssetAllocationResponseDTO;
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.repository.AssetAllocationRepository;
 import com.assetdesk.repository.AssetRepository;
 import com.assetdesk.repository.UserRepository;
 import com.assetdesk.repository.ServiceRecordRepository;
 import com.assetdesk.service.AssetAllocationService;
-import com.assetdesk.service.NotificationService;
+import com.assetdesk.service.NotificationOutboxService;
 import com.assetdesk.domain.ServiceRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import com.assetdesk.exception.ResourceNotFoundException;
 import com.assetdesk.exception.InvalidOperationException;
@@ -28,8 +33,9 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
     private final AssetAllocationRepository assetAllocationRepository;
     private final AssetRepository assetRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutbox;
     private final ServiceRecordRepository serviceRecordRepository;
+    private final com.assetdesk.service.ActivityFeedService activityFeedService;
     
     @Override
     public AssetAllocation allocateAsset(Long assetId, Long userId, LocalDate allocatedDate, String remarks) {
@@ -43,7 +49,7 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
             int totalLicenses = asset.getTotalLicenses() != null ? asset.getTotalLicenses() : 1;
             
             // Check if user already has this asset allocated
-            boolean userAlreadyHasAsset = assetAllocationRepository.findByAssetIdAndUserIdAndReturnedDateIsNull(assetId, userId).isPresent();
+            boolean userAlreadyHasAsset = assetAllocationRepository.existsByAssetIdAndUserIdAndReturnedDateIsNull(assetId, userId);
             if (userAlreadyHasAsset) {
                 throw new InvalidOperationException("User already has this asset allocated.");
             }
@@ -81,6 +87,7 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         allocation.setRemarks(remarks);
         
         AssetAllocation savedAllocation = assetAllocationRepository.save(allocation);
+        activityFeedService.recordAllocation(savedAllocation);
         
         // Create service record for allocation
         try {
@@ -96,7 +103,8 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         
         // Create notification for asset allocation
         try {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                "allocation:" + savedAllocation.getId() + ":allocated",
                 userId,
                 "Asset Allocated",
                 "Asset '" + asset.getName() + "' has been allocated to you",
@@ -123,6 +131,7 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         allocation.setRemarks(existingRemarks + " | Return: " + remarks);
         
         AssetAllocation savedAllocation = assetAllocationRepository.save(allocation);
+        activityFeedService.recordReturn(savedAllocation);
         
         // Update asset license count for shareable assets
         Asset asset = allocation.getAsset();
@@ -145,7 +154,7 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
     
     @Override
     public AssetAllocation returnAsset(Long assetId, LocalDate returnedDate, String remarks) {
-        AssetAllocation currentAllocation = assetAllocationRepository.findCurrentAllocationByAssetId(assetId)
+        AssetAllocation currentAllocation = assetAllocationRepository.findFirstByAssetIdAndReturnedDateIsNullOrderByAllocatedDateDesc(assetId)
             .orElseThrow(() -> new ResourceNotFoundException("Current allocation not found for asset", "assetId", assetId));
         
         Asset asset = currentAllocation.getAsset();
@@ -177,6 +186,7 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         currentAllocation.setRemarks(existingRemarks + " | Return: " + remarks);
         
         AssetAllocation savedAllocation = assetAllocationRepository.save(currentAllocation);
+        activityFeedService.recordReturn(savedAllocation);
         
         // Create service record for return
         try {
@@ -193,7 +203,8 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         // Create notification for asset return
         try {
             if (currentAllocation.getUser() != null) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "allocation:" + savedAllocation.getId() + ":returned",
                     currentAllocation.getUser().getId(),
                     "Asset Returned",
                     "Asset '" + asset.getName() + "' has been returned successfully",
@@ -208,17 +219,15 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         
         // Notify IT_SUPPORT about asset return
         try {
-            List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-            for (com.assetdesk.domain.User itUser : itUsers) {
-                notificationService.createNotification(
-                    itUser.getId(),
-                    "Asset Returned",
-                    "Asset '" + asset.getName() + "' has been returned by " + currentAllocation.getUser().getName(),
-                    com.assetdesk.domain.Notification.Type.SUCCESS,
-                    null,
-                    asset.getId()
-                );
-            }
+            notificationOutbox.publishToRoles(
+                "allocation:" + savedAllocation.getId() + ":returned:it",
+                Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                "Asset Returned",
+                "Asset '" + asset.getName() + "' has been returned by " + currentAllocation.getUser().getName(),
+                com.assetdesk.domain.Notification.Type.SUCCESS,
+                null,
+                asset.getId()
+            );
         } catch (Exception e) {
             System.out.println("Failed to create IT return notification: " + e.getMessage());
         }
@@ -229,13 +238,13 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
     @Override
     @Transactional(readOnly = true)
     public List<AssetAllocation> getAllocationHistory(Long assetId) {
-        return assetAllocationRepository.findByAssetId(assetId);
+        return assetAllocationRepository.findWithDetailsByAssetId(assetId);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<AssetAllocation> getUserAllocations(Long userId) {
-        return assetAllocationRepository.findByUserId(userId);
+        return assetAllocationRepository.findWithDetailsByUserId(userId);
     }
     
     @Override
@@ -255,6 +264,28 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         return assetAllocationRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AssetAllocationResponseDTO> getAllAllocations(String status, String cursor, int size, boolean includeTotal) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        boolean activeOnly = "ACTIVE".equals(status);
+        boolean returnedOnly = "RETURNED".equals(status);
+        Cursor position = Cursor.decode(cursor);
+        Pageable limit = CursorPageDTO.fetchLimit(pageSize);
+        List<AssetAllocation> rows = position == null
+            ? assetAllocationRepository.findFirstPage(activeOnly, returnedOnly, limit)
+            : assetAllocationRepository.findPageBefore(activeOnly, returnedOnly, position.sortKeyAsDate(), position.id(), limit);
+        CursorPageDTO<AssetAllocationResponseDTO> page = CursorPageDTO.fromRows(rows, pageSize,
+            allocation -> new Cursor(allocation.getAllocatedDate().toString(), allocation.getId()),
+            AssetAllocationResponseDTO::fromEntity);
+        if (includeTotal) {
+            page.setTotalElements(activeOnly ? assetAllocationRepository.countByReturnedDateIsNull()
+                : returnedOnly ? assetAllocationRepository.countByReturnedDateIsNotNull()
+                : assetAllocationRepository.count());
+        }
+        return page;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Object getAnalytics() {
@@ -291,10 +322,12 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
     
     @Override
     public AssetAllocation requestReturn(Long assetId, String remarks) {
-        AssetAllocation currentAllocation = assetAllocationRepository.findCurrentAllocationByAssetId(assetId)
+        AssetAllocation currentAllocation = assetAllocationRepository.findFirstByAssetIdAndReturnedDateIsNullOrderByAllocatedDateDesc(assetId)
             .orElseThrow(() -> new ResourceNotFoundException("Current allocation not found for asset", "assetId", assetId));
         
-        currentAllocation.setReturnRequestDate(LocalDate.now());
+        // Identifies this request, so a second request on the same day notifies again
+        LocalDateTime requestedAt = LocalDateTime.now();
+        currentAllocation.setReturnRequestDate(requestedAt.toLocalDate());
         currentAllocation.setReturnRequestRemarks(remarks);
         currentAllocation.setReturnStatus(AssetAllocation.ReturnStatus.REQUESTED);
         
@@ -302,7 +335,8 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         
         // Send notification to user about return request
         try {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                "allocation:" + savedAllocation.getId() + ":return-requested:" + requestedAt,
                 currentAllocation.getUser().getId(),
                 "Asset Return Requested",
                 "Please return asset '" + currentAllocation.getAsset().getName() + "' at your earliest convenience." + 
@@ -321,18 +355,18 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
     @Override
     @Transactional(readOnly = true)
     public List<AssetAllocation> getUserAllocationsWithHistory(Long userId) {
-        return assetAllocationRepository.findByUserId(userId);
+        return assetAllocationRepository.findWithAssetAndUserByUserId(userId);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<AssetAllocation> getAssetAllocationsWithHistory(Long assetId) {
-        return assetAllocationRepository.findByAssetId(assetId);
+        return assetAllocationRepository.findWithAssetAndUserByAssetId(assetId);
     }
     
     @Override
     public AssetAllocation acknowledgeReturnRequest(Long assetId, Long userId) {
-        AssetAllocation allocation = assetAllocationRepository.findCurrentAllocationByAssetId(assetId)
+        AssetAllocation allocation = assetAllocationRepository.findFirstByAssetIdAndReturnedDateIsNullOrderByAllocatedDateDesc(assetId)
             .orElseThrow(() -> new ResourceNotFoundException("Current allocation not found for asset", "assetId", assetId));
         
         if (!allocation.getUser().getId().equals(userId)) {
@@ -344,21 +378,20 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
         }
         
         allocation.setReturnStatus(AssetAllocation.ReturnStatus.ACKNOWLEDGED);
+        LocalDateTime acknowledgedAt = LocalDateTime.now();
         AssetAllocation savedAllocation = assetAllocationRepository.save(allocation);
         
         // Notify IT_SUPPORT that user acknowledged return request
         try {
-            List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-            for (com.assetdesk.domain.User itUser : itUsers) {
-                notificationService.createNotification(
-                    itUser.getId(),
-                    "Return Request Acknowledged",
-                    "User " + allocation.getUser().getName() + " acknowledged return request for asset '" + allocation.getAsset().getName() + "'",
-                    com.assetdesk.domain.Notification.Type.INFO,
-                    null,
-                    allocation.getAsset().getId()
-                );
-            }
+            notificationOutbox.publishToRoles(
+                "allocation:" + savedAllocation.getId() + ":return-acknowledged:" + acknowledgedAt,
+                Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                "Return Request Acknowledged",
+                "User " + allocation.getUser().getName() + " acknowledged return request for asset '" + allocation.getAsset().getName() + "'",
+                com.assetdesk.domain.Notification.Type.INFO,
+                null,
+                allocation.getAsset().getId()
+            );
         } catch (Exception e) {
             System.out.println("Failed to create IT notification: " + e.getMessage());
         }
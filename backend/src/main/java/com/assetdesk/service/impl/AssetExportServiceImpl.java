@@ -0,0 +1,140 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.dto.asset.AssetExportFilter;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.service.AssetExportService;
+import com.assetdesk.spec.AssetSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class AssetExportServiceImpl implements AssetExportService {
+    
+    private static final String CSV_HEADER =
+        "ID,AssetTag,Name,Category,Type,Model,SerialNumber,PurchaseDate,WarrantyExpiryDate,Cost,Status\n";
+    
+    private final AssetRepository assetRepository;
+    private final int fetchSize;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public AssetExportServiceImpl(AssetRepository assetRepository,
+                                  @Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.assetRepository = assetRepository;
+        this.fetchSize = fetchSize;
+    }
+    
+    @Override
+    public long count(AssetExportFilter filter) {
+        return assetRepository.count(AssetSpecifications.matchesExportFilter(filter));
+    }
+    
+    // Overridden here rather than defaulted on the interface so the class-level transaction applies
+    @Override
+    public long writeCsv(AssetExportFilter filter, OutputStream out) throws IOException {
+        return writeCsv(filter, out, rows -> { });
+    }
+    
+    @Override
+    public long writeCsv(AssetExportFilter filter, OutputStream out, LongConsumer progress) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        
+        long rows = 0;
+        try (Stream<Asset> assets = assetRepository.streamAll(AssetSpecifications.matchesExportFilter(filter), fetchSize)) {
+            Iterator<Asset> it = assets.iterator();
+            while (it.hasNext()) {
+                writeRow(writer, it.next());
+                rows++;
+                // Drop everything loaded so far once per fetch, so the persistence context
+                // never holds more than one chunk of assets and vendors
+                if (rows % fetchSize == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                    progress.accept(rows);
+                }
+            }
+        }
+        writer.flush();
+        progress.accept(rows);
+        return rows;
+    }
+    
+    @Override
+    public long writePdf(AssetExportFilter filter, OutputStream out) {
+        return writePdf(filter, out, rows -> { });
+    }
+    
+    @Override
+    public long writePdf(AssetExportFilter filter, OutputStream out, LongConsumer progress) {
+        ChunkedPdfTable pdf = new ChunkedPdfTable(out, "Assets Report", fetchSize,
+            "Asset Tag", "Name", "Category", "Type", "Purchase Date", "Cost", "Status");
+        
+        try (Stream<Asset> assets = assetRepository.streamAll(AssetSpecifications.matchesExportFilter(filter), fetchSize)) {
+            Iterator<Asset> it = assets.iterator();
+            while (it.hasNext()) {
+                Asset a = it.next();
+                boolean flushed = pdf.addRow(
+                    a.getAssetTag(),
+                    a.getName(),
+                    a.getCategory() != null ? a.getCategory().name() : "",
+                    a.getType() != null ? a.getType().name() : "",
+                    a.getPurchaseDate() != null ? a.getPurchaseDate().toString() : "",
+                    a.getCost() != null ? a.getCost().toString() : "",
+                    a.getStatus() != null ? a.getStatus().name() : "");
+                if (flushed) {
+                    entityManager.clear();
+                    progress.accept(pdf.getRows());
+                }
+            }
+        }
+        long rows = pdf.finish();
+        progress.accept(rows);
+        return rows;
+    }
+    
+    private static void writeRow(Writer writer, Asset a) throws IOException {
+        writer.write(String.join(",",
+            String.valueOf(a.getId()),
+            safe(a.getAssetTag()),
+            safe(a.getName()),
+            safe(enumName(a.getCategory())),
+            safe(enumName(a.getType())),
+            safe(a.getModel()),
+            safe(a.getSerialNumber()),
+            safe(String.valueOf(a.getPurchaseDate())),
+            safe(String.valueOf(a.getWarrantyExpiryDate())),
+            safe(String.valueOf(a.getCost())),
+            safe(enumName(a.getStatus()))));
+        writer.write('\n');
+    }
+    
+    private static String safe(String s) {
+        if (s == null) return "";
+        String escaped = s.replace("\"", "\"\"");
+        if (escaped.contains(",") || escaped.contains("\n") || escaped.contains("\"")) {
+            return "\"" + escaped + "\"";
+        }
+        return escaped;
+    }
+    
+    private static String enumName(Enum<?> e) {
+        return e != null ? e.name() : null;
+    }
+}
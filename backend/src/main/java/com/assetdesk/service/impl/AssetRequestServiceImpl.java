@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +30,8 @@ public class AssetRequestServiceImpl implements AssetRequestService {
     private final UserRepository userRepository;
     private final AssetRepository assetRepository;
     private final AssetAllocationService assetAllocationService;
-    private final com.assetdesk.service.NotificationService notificationService;
+    private final com.assetdesk.service.NotificationOutboxService notificationOutbox;
+    private final com.assetdesk.service.ActivityFeedService activityFeedService;
 
     @Override
     public AssetRequestResponseDTO createRequest(Long requesterId, AssetRequestCreateDTO dto) {
@@ -53,18 +55,19 @@ public class AssetRequestServiceImpl implements AssetRequestService {
         ar.setRequestedDate(LocalDateTime.now());
 
         AssetRequest savedRequest = assetRequestRepository.save(ar);
+        activityFeedService.recordRequest(savedRequest);
         
         // Create notification for new request to admins
         try {
-            List<com.assetdesk.domain.User> admins = userRepository.findByRole(com.assetdesk.domain.User.Role.ADMIN);
-            for (com.assetdesk.domain.User admin : admins) {
-                notificationService.createNotification(
-                    admin.getId(),
-                    "New Asset Request",
-                    "New asset request for '" + ar.getAssetName() + "' submitted by " + requester.getName(),
-                    com.assetdesk.domain.Notification.Type.INFO
-                );
-            }
+            notificationOutbox.publishToRoles(
+                "asset-request:" + savedRequest.getId() + ":created",
+                Set.of(com.assetdesk.domain.User.Role.ADMIN),
+                "New Asset Request",
+                "New asset request for '" + ar.getAssetName() + "' submitted by " + requester.getName(),
+                com.assetdesk.domain.Notification.Type.INFO,
+                null,
+                null
+            );
         } catch (Exception e) {
             System.out.println("Failed to create request notification: " + e.getMessage());
         }
@@ -130,11 +133,14 @@ public class AssetRequestServiceImpl implements AssetRequestService {
         
         // Create notification for approval
         try {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                "asset-request:" + ar.getId() + ":approved",
                 ar.getRequestedBy().getId(),
                 "Request Approved",
                 "Your asset request for '" + ar.getAssetName() + "' has been approved",
-                com.assetdesk.domain.Notification.Type.SUCCESS
+                com.assetdesk.domain.Notification.Type.SUCCESS,
+                null,
+                null
             );
         } catch (Exception e) {
             System.out.println("Failed to create approval notification: " + e.getMessage());
@@ -157,11 +163,14 @@ public class AssetRequestServiceImpl implements AssetRequestService {
         
         // Create notification for rejection
         try {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                "asset-request:" + ar.getId() + ":rejected",
                 ar.getRequestedBy().getId(),
                 "Request Rejected",
                 "Your asset request for '" + ar.getAssetName() + "' has been rejected. Reason: " + remarks,
-                com.assetdesk.domain.Notification.Type.WARNING
+                com.assetdesk.domain.Notification.Type.WARNING,
+                null,
+                null
             );
         } catch (Exception e) {
             System.out.println("Failed to create rejection notification: " + e.getMessage());
@@ -202,7 +211,8 @@ public class AssetRequestServiceImpl implements AssetRequestService {
         
         // Create notification for fulfillment
         try {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                "asset-request:" + ar.getId() + ":fulfilled",
                 ar.getRequestedBy().getId(),
                 "Request Fulfilled",
                 "Your asset request for '" + ar.getAssetName() + "' has been fulfilled with asset: " + asset.getName(),
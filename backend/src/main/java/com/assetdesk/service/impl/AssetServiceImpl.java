@@ -1,5 +1,7 @@
 package com.assetdesk.service.impl;
 
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.asset.AssetRequestDTO;
 import com.assetdesk.dto.asset.AssetResponseDTO;
 import com.assetdesk.dto.asset.AssetGroupResponseDTO;
@@ -13,7 +15,11 @@ import com.assetdesk.repository.VendorRepository;
 import com.assetdesk.service.AssetService;
 import com.assetdesk.service.AssetAllocationService;
 import lombok.RequiredArgsConstructor;
+import com.assetdesk.search.AssetSearchIndex;
+import com.assetdesk.search.AssetSearchQuery;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,13 +40,21 @@ import com.assetdesk.domain.AssetAllocation;
 @Transactional
 public class AssetServiceImpl implements AssetService {
     
+    // Largest match set handed to the database as an id filter when the caller asks for a sort
+    private static final int MAX_SORTED_SEARCH_IDS = 10_000;
+    // Allocated users are paged so summaries of very large groups stay bounded
+    private static final int DEFAULT_GROUP_USERS_PAGE_SIZE = 100;
+    private static final int MAX_GROUP_USERS_PAGE_SIZE = 500;
+    
     private final AssetRepository assetRepository;
     private final AssetAllocationRepository allocationRepository;
     private final VendorRepository vendorRepository;
     private final UserRepository userRepository;
     private final AssetAllocationService assetAllocationService;
     private final com.assetdesk.service.WarrantyHistoryService warrantyHistoryService;
-    private final com.assetdesk.service.NotificationService notificationService;
+    private final com.assetdesk.service.NotificationOutboxService notificationOutbox;
+    private final com.assetdesk.service.TrendRollupService trendRollupService;
+    private final AssetSearchIndex assetSearchIndex;
     
     @Override
     public AssetResponseDTO createAsset(AssetRequestDTO assetRequestDTO) {
@@ -73,6 +87,7 @@ public class AssetServiceImpl implements AssetService {
         }
         
         Asset savedAsset = assetRepository.save(asset);
+        trendRollupService.recordAssetPurchase(savedAsset);
         if (savedAsset.getWarrantyExpiryDate() != null) {
             warrantyHistoryService.record(savedAsset, null, savedAsset.getWarrantyExpiryDate(), "Initial creation");
             
@@ -83,17 +98,15 @@ public class AssetServiceImpl implements AssetService {
             
             if (daysUntilExpiry <= 30 && daysUntilExpiry > 0) {
                 try {
-                    List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-                    for (com.assetdesk.domain.User itUser : itUsers) {
-                        notificationService.createNotification(
-                            itUser.getId(),
-                            "Warranty Expiring Soon",
-                            "Asset '" + savedAsset.getName() + "' warranty expires in " + daysUntilExpiry + " days",
-                            com.assetdesk.domain.Notification.Type.WARNING,
-                            null,
-                            savedAsset.getId()
-                        );
-                    }
+                    notificationOutbox.publishToRoles(
+                        "asset:" + savedAsset.getId() + ":warranty-expiring:" + expiryDate,
+                        Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                        "Warranty Expiring Soon",
+                        "Asset '" + savedAsset.getName() + "' warranty expires in " + daysUntilExpiry + " days",
+                        com.assetdesk.domain.Notification.Type.WARNING,
+                        null,
+                        savedAsset.getId()
+                    );
                 } catch (Exception e) {
                     System.out.println("Failed to create warranty expiry notification: " + e.getMessage());
                 }
@@ -102,17 +115,15 @@ public class AssetServiceImpl implements AssetService {
         
         // Notify IT support about new asset creation
         try {
-            List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-            for (com.assetdesk.domain.User itUser : itUsers) {
-                notificationService.createNotification(
-                    itUser.getId(),
-                    "New Asset Created",
-                    "New asset '" + savedAsset.getName() + "' has been added to inventory",
-                    com.assetdesk.domain.Notification.Type.INFO,
-                    null,
-                    savedAsset.getId()
-                );
-            }
+            notificationOutbox.publishToRoles(
+                "asset:" + savedAsset.getId() + ":created",
+                Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                "New Asset Created",
+                "New asset '" + savedAsset.getName() + "' has been added to inventory",
+                com.assetdesk.domain.Notification.Type.INFO,
+                null,
+                savedAsset.getId()
+            );
         } catch (Exception e) {
             System.out.println("Failed to create asset creation notification: " + e.getMessage());
         }
@@ -123,7 +134,7 @@ public class AssetServiceImpl implements AssetService {
     @Override
     @Transactional(readOnly = true)
     public AssetResponseDTO getAssetById(Long id) {
-        Asset asset = assetRepository.findById(id)
+        Asset asset = assetRepository.findByIdWithVendor(id)
             .orElseThrow(() -> new ResourceNotFoundException("Asset", "id", id));
         return AssetResponseDTO.fromEntity(asset);
     }
@@ -139,22 +150,30 @@ public class AssetServiceImpl implements AssetService {
     @Override
     @Transactional(readOnly = true)
     public Page<AssetResponseDTO> getAllAssets(Pageable pageable) {
-        return assetRepository.findAll(pageable)
-            .map(asset -> {
-                AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(asset.getId()).orElse(null);
-                return AssetResponseDTO.fromEntityWithAllocation(asset, currentAllocation);
-            });
+        return withCurrentAllocations(assetRepository.findAll(pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AssetResponseDTO> getAllAssets(String cursor, int size, boolean includeTotal) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor position = Cursor.decode(cursor);
+        List<Asset> rows = assetRepository.findPageAfter(position != null ? position.id() : 0L, CursorPageDTO.fetchLimit(pageSize));
+        Map<Long, AssetAllocation> allocations = currentAllocationsByAssetId(rows);
+        CursorPageDTO<AssetResponseDTO> page = CursorPageDTO.fromRows(rows, pageSize,
+            asset -> new Cursor(null, asset.getId()),
+            asset -> AssetResponseDTO.fromEntityWithAllocation(asset, allocations.get(asset.getId())));
+        if (includeTotal) {
+            page.setTotalElements(assetRepository.count());
+        }
+        return page;
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<AssetResponseDTO> getAssetsByCategory(String category, Pageable pageable) {
         Asset.Category assetCategory = Asset.Category.valueOf(category.toUpperCase(Locale.ROOT));
-        return assetRepository.findByCategory(assetCategory, pageable)
-            .map(asset -> {
-                AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(asset.getId()).orElse(null);
-                return AssetResponseDTO.fromEntityWithAllocation(asset, currentAllocation);
-            });
+        return withCurrentAllocations(assetRepository.findByCategory(assetCategory, pageable));
     }
     
     @Override
@@ -189,6 +208,8 @@ public class AssetServiceImpl implements AssetService {
             throw new DuplicateResourceException("Asset", "assetTag", assetRequestDTO.getAssetTag());
         }
         
+        var oldPurchaseDate = existingAsset.getPurchaseDate();
+        var oldCategory = existingAsset.getCategory();
         existingAsset.setAssetTag(assetRequestDTO.getAssetTag());
         existingAsset.setName(assetRequestDTO.getName());
         existingAsset.setCategory(assetRequestDTO.getCategory());
@@ -227,6 +248,7 @@ public class AssetServiceImpl implements AssetService {
         }
         
         Asset updatedAsset = assetRepository.save(existingAsset);
+        trendRollupService.recordAssetPurchaseChange(oldPurchaseDate, oldCategory, updatedAsset);
         if (oldWarranty == null || (assetRequestDTO.getWarrantyExpiryDate() != null && !assetRequestDTO.getWarrantyExpiryDate().equals(oldWarranty))) {
             warrantyHistoryService.record(updatedAsset, oldWarranty, assetRequestDTO.getWarrantyExpiryDate(), "Manual update");
         }
@@ -236,9 +258,10 @@ public class AssetServiceImpl implements AssetService {
             try {
                 if (assetRequestDTO.getStatus() == Asset.Status.MAINTENANCE) {
                     // Find current allocation and notify user
-                    AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(id).orElse(null);
+                    AssetAllocation currentAllocation = allocationRepository.findFirstByAssetIdAndReturnedDateIsNullOrderByAllocatedDateDesc(id).orElse(null);
                     if (currentAllocation != null) {
-                        notificationService.createNotification(
+                        notificationOutbox.publish(
+                            null,
                             currentAllocation.getUser().getId(),
                             "Asset Under Maintenance",
                             "Your asset '" + updatedAsset.getName() + "' is now under maintenance",
@@ -249,17 +272,15 @@ public class AssetServiceImpl implements AssetService {
                     }
                 } else if (assetRequestDTO.getStatus() == Asset.Status.AVAILABLE && existingAsset.getStatus() == Asset.Status.MAINTENANCE) {
                     // Notify IT support that asset is back from maintenance
-                    List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-                    for (com.assetdesk.domain.User itUser : itUsers) {
-                        notificationService.createNotification(
-                            itUser.getId(),
-                            "Asset Available",
-                            "Asset '" + updatedAsset.getName() + "' is now available after maintenance",
-                            com.assetdesk.domain.Notification.Type.SUCCESS,
-                            null,
-                            updatedAsset.getId()
-                        );
-                    }
+                    notificationOutbox.publishToRoles(
+                        null,
+                        Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                        "Asset Available",
+                        "Asset '" + updatedAsset.getName() + "' is now available after maintenance",
+                        com.assetdesk.domain.Notification.Type.SUCCESS,
+                        null,
+                        updatedAsset.getId()
+                    );
                 }
             } catch (Exception e) {
                 System.out.println("Failed to create status change notification: " + e.getMessage());
@@ -283,7 +304,8 @@ public class AssetServiceImpl implements AssetService {
             throw new InvalidOperationException("Cannot delete asset with active allocation history.");
         }
         
-        assetRepository.deleteById(id);
+        assetRepository.delete(asset);
+        trendRollupService.removeAssetPurchase(asset);
     }
     
     @Override
@@ -391,11 +413,7 @@ public class AssetServiceImpl implements AssetService {
     @Override
     @Transactional(readOnly = true)
     public Page<AssetResponseDTO> getAssetsByName(String name, Pageable pageable) {
-        return assetRepository.findByName(name, pageable)
-            .map(asset -> {
-                AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(asset.getId()).orElse(null);
-                return AssetResponseDTO.fromEntityWithAllocation(asset, currentAllocation);
-            });
+        return withCurrentAllocations(assetRepository.findByName(name, pageable));
     }
 
     @Override
@@ -410,6 +428,13 @@ public class AssetServiceImpl implements AssetService {
     @Override
     @Transactional(readOnly = true)
     public Page<AssetResponseDTO> search(String name, String category, String type, String status, Pageable pageable) {
+        if (name != null && !name.trim().isEmpty()) {
+            Page<AssetResponseDTO> indexed = searchIndexed(AssetSearchQuery.global(name, category, type, status), pageable);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+        
         Specification<Asset> spec = Specification.where(null);
         
         if (name != null && !name.trim().isEmpty()) {
@@ -420,11 +445,7 @@ public class AssetServiceImpl implements AssetService {
             .and(hasType(type))
             .and(hasStatus(status));
             
-        return assetRepository.findAll(spec, pageable)
-            .map(asset -> {
-                AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(asset.getId()).orElse(null);
-                return AssetResponseDTO.fromEntityWithAllocation(asset, currentAllocation);
-            });
+        return withCurrentAllocations(assetRepository.findAll(spec, pageable));
     }
 
     @Override
@@ -436,6 +457,18 @@ public class AssetServiceImpl implements AssetService {
         // Check if this is a global search (same term in multiple fields)
         boolean isGlobalSearch = name != null && name.equals(assetTag) && name.equals(model) && name.equals(serialNumber);
         
+        boolean hasText = java.util.stream.Stream.of(name, assetTag, model, serialNumber, vendor)
+            .anyMatch(value -> value != null && !value.trim().isEmpty());
+        if (hasText) {
+            AssetSearchQuery query = isGlobalSearch
+                ? new AssetSearchQuery(name, null, null, null, null, vendor, category, type, status)
+                : new AssetSearchQuery(null, name, assetTag, model, serialNumber, vendor, category, type, status);
+            Page<AssetResponseDTO> indexed = searchIndexed(query, pageable);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+        
         if (isGlobalSearch) {
             spec = spec.and(hasGlobalSearch(name));
         } else {
@@ -452,42 +485,121 @@ public class AssetServiceImpl implements AssetService {
             .and(hasStatus(status))
             .and(hasVendorNameLike(vendor));
             
-        return assetRepository.findAll(spec, pageable)
-            .map(asset -> {
-                AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(asset.getId()).orElse(null);
-                return AssetResponseDTO.fromEntityWithAllocation(asset, currentAllocation);
-            });
+        return withCurrentAllocations(assetRepository.findAll(spec, pageable));
+    }
+
+    /**
+     * Answers a text search from the in-memory index: ranked ids are paged in memory and only
+     * the page is loaded. A caller-specified sort is applied by the database over the matched
+     * ids. Returns null when the database should answer instead (index still building, or a
+     * sorted request matching too many ids to pass as a filter).
+     */
+    private Page<AssetResponseDTO> searchIndexed(AssetSearchQuery query, Pageable pageable) {
+        if (!assetSearchIndex.isReady()) {
+            return null;
+        }
+        
+        if (pageable.getSort().isSorted()) {
+            AssetSearchIndex.Result matches = assetSearchIndex.search(query, 0, MAX_SORTED_SEARCH_IDS);
+            if (matches.total() > MAX_SORTED_SEARCH_IDS) {
+                return null;
+            }
+            if (matches.total() == 0) {
+                return Page.empty(pageable);
+            }
+            return withCurrentAllocations(assetRepository.findAll(hasIdIn(matches.ids()), pageable));
+        }
+        
+        AssetSearchIndex.Result matches = pageable.isPaged()
+            ? assetSearchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize())
+            : assetSearchIndex.search(query, 0, Integer.MAX_VALUE);
+        Map<Long, Asset> assetsById = new HashMap<>();
+        assetRepository.findAllById(matches.ids()).forEach(asset -> assetsById.put(asset.getId(), asset));
+        Map<Long, AssetAllocation> allocations = currentAllocationsByAssetId(assetsById.values());
+        
+        List<AssetResponseDTO> content = new ArrayList<>(matches.ids().size());
+        for (Long id : matches.ids()) {
+            Asset asset = assetsById.get(id);
+            if (asset != null) {
+                content.add(AssetResponseDTO.fromEntityWithAllocation(asset, allocations.get(id)));
+            }
+        }
+        return new PageImpl<>(content, pageable, matches.total());
+    }
+    
+    /**
+     * Maps a page of assets to responses carrying each asset's current allocation, looked up
+     * for the whole page in one query.
+     */
+    private Page<AssetResponseDTO> withCurrentAllocations(Page<Asset> assets) {
+        Map<Long, AssetAllocation> allocations = currentAllocationsByAssetId(assets.getContent());
+        return assets.map(asset -> AssetResponseDTO.fromEntityWithAllocation(asset, allocations.get(asset.getId())));
+    }
+    
+    /**
+     * Current (not returned) allocation per asset id. A shareable asset can have several; like the
+     * single-asset lookup, the most recently allocated one wins.
+     */
+    private Map<Long, AssetAllocation> currentAllocationsByAssetId(Collection<Asset> assets) {
+        Map<Long, AssetAllocation> current = new HashMap<>();
+        if (assets.isEmpty()) {
+            return current;
+        }
+        List<Long> assetIds = assets.stream().map(Asset::getId).toList();
+        for (AssetAllocation allocation : allocationRepository.findCurrentAllocationsByAssetIdIn(assetIds)) {
+            current.merge(allocation.getAsset().getId(), allocation, (kept, candidate) ->
+                Comparator.comparing(AssetAllocation::getAllocatedDate)
+                    .thenComparing(AssetAllocation::getId)
+                    .compare(candidate, kept) > 0 ? candidate : kept);
+        }
+        return current;
     }
 
     @Override
     @Transactional(readOnly = true)
     public AssetGroupSummaryDTO getGroupSummary(String name) {
-        Specification<Asset> spec = Specification.where(hasNameLike(name));
-        var all = assetRepository.findAll(spec);
+        return getGroupSummary(name, PageRequest.of(0, DEFAULT_GROUP_USERS_PAGE_SIZE));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetGroupSummaryDTO getGroupSummary(String name, Pageable usersPageable) {
+        if (usersPageable.getPageSize() > MAX_GROUP_USERS_PAGE_SIZE) {
+            usersPageable = PageRequest.of(usersPageable.getPageNumber(), MAX_GROUP_USERS_PAGE_SIZE);
+        }
+        String namePattern = name == null || name.trim().isEmpty()
+            ? "%" : "%" + name.trim().toLowerCase(Locale.ROOT) + "%";
+
         AssetGroupSummaryDTO dto = new AssetGroupSummaryDTO();
         dto.setName(name);
-        dto.setTotal(all.size());
-        dto.setAvailable(all.stream().filter(a -> a.getStatus() == Asset.Status.AVAILABLE).count());
-        dto.setAllocated(all.stream().filter(a -> a.getStatus() == Asset.Status.ALLOCATED).count());
-        dto.setMaintenance(all.stream().filter(a -> a.getStatus() == Asset.Status.MAINTENANCE).count());
-        dto.setRetired(all.stream().filter(a -> a.getStatus() == Asset.Status.RETIRED).count());
-        dto.setLost(all.stream().filter(a -> a.getStatus() == Asset.Status.LOST).count());
-
-        java.util.List<AssetGroupSummaryDTO.UserBrief> users = new java.util.ArrayList<>();
-        for (Asset a : all) {
-            if (a.getStatus() == Asset.Status.ALLOCATED) {
-                AssetAllocation current = assetAllocationService.getCurrentAllocation(a.getId());
-                if (current != null && current.getUser() != null) {
-                    AssetGroupSummaryDTO.UserBrief ub = new AssetGroupSummaryDTO.UserBrief();
-                    ub.setId(current.getUser().getId());
-                    ub.setName(current.getUser().getName());
-                    ub.setDepartment(current.getUser().getDepartment());
-                    ub.setEmail(current.getUser().getEmail());
-                    users.add(ub);
-                }
+        for (var row : assetRepository.countGroupByStatusForNameLike(namePattern)) {
+            long count = row.getTotal();
+            dto.setTotal(dto.getTotal() + count);
+            switch ((Asset.Status) row.getLabel()) {
+                case AVAILABLE -> dto.setAvailable(count);
+                case ALLOCATED -> dto.setAllocated(count);
+                case MAINTENANCE -> dto.setMaintenance(count);
+                case RETIRED -> dto.setRetired(count);
+                case LOST -> dto.setLost(count);
             }
         }
+
+        // Holders come from one joined query per page rather than one lookup per allocated asset
+        var holders = allocationRepository.findCurrentHoldersByAssetNameLike(
+            namePattern, Asset.Status.ALLOCATED, usersPageable);
+        List<AssetGroupSummaryDTO.UserBrief> users = new ArrayList<>(holders.getNumberOfElements());
+        for (var holder : holders) {
+            AssetGroupSummaryDTO.UserBrief ub = new AssetGroupSummaryDTO.UserBrief();
+            ub.setId(holder.getId());
+            ub.setName(holder.getName());
+            ub.setDepartment(holder.getDepartment());
+            ub.setEmail(holder.getEmail());
+            users.add(ub);
+        }
         dto.setAllocatedUsers(users);
+        dto.setAllocatedUsersTotal(holders.getTotalElements());
+        dto.setAllocatedUsersPage(usersPageable.getPageNumber());
+        dto.setAllocatedUsersSize(usersPageable.getPageSize());
         return dto;
     }
 
@@ -596,7 +708,7 @@ public class AssetServiceImpl implements AssetService {
         // Check if asset is currently allocated
         if (asset.getStatus() == Asset.Status.ALLOCATED) {
             // Return the asset first
-            AssetAllocation currentAllocation = allocationRepository.findCurrentAllocationByAssetId(id).orElse(null);
+            AssetAllocation currentAllocation = allocationRepository.findFirstByAssetIdAndReturnedDateIsNullOrderByAllocatedDateDesc(id).orElse(null);
             if (currentAllocation != null) {
                 assetAllocationService.returnAsset(id, LocalDate.now(), "Asset retired - automatic return");
             }
@@ -623,17 +735,15 @@ public class AssetServiceImpl implements AssetService {
         
         // Notify IT support about asset retirement
         try {
-            List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-            for (com.assetdesk.domain.User itUser : itUsers) {
-                notificationService.createNotification(
-                    itUser.getId(),
-                    "Asset Retired",
-                    "Asset '" + retiredAsset.getName() + "' has been retired from service",
-                    com.assetdesk.domain.Notification.Type.INFO,
-                    null,
-                    retiredAsset.getId()
-                );
-            }
+            notificationOutbox.publishToRoles(
+                "asset:" + retiredAsset.getId() + ":retired",
+                Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                "Asset Retired",
+                "Asset '" + retiredAsset.getName() + "' has been retired from service",
+                com.assetdesk.domain.Notification.Type.INFO,
+                null,
+                retiredAsset.getId()
+            );
         } catch (Exception e) {
             System.out.println("Failed to create retirement notification: " + e.getMessage());
         }
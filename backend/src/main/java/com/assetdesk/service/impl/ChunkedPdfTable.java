@@ -0,0 +1,74 @@
+package com.assetdesk.service.impl;
+
+import com.lowagie.text.*;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import java.awt.Color;
+import java.io.OutputStream;
+
+/**
+ * Landscape report with a title and a single table, written to {@code out} as rows arrive.
+ * The table is kept incomplete and handed to the document every {@code chunkSize} rows;
+ * OpenPDF lays those rows out, emits finished pages and drops them, so only the current chunk
+ * and page are ever held. The header row repeats on every page. The output stream is left open.
+ */
+class ChunkedPdfTable {
+    
+    private final Document document;
+    private final PdfPTable table;
+    private final int chunkSize;
+    private long rows;
+    
+    ChunkedPdfTable(OutputStream out, String title, int chunkSize, String... headers) {
+        this.chunkSize = chunkSize;
+        this.document = new Document(PageSize.A4.rotate());
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.open();
+        
+        Font titleFont = new Font(Font.HELVETICA, 16, Font.BOLD);
+        Paragraph heading = new Paragraph(title, titleFont);
+        heading.setAlignment(Element.ALIGN_CENTER);
+        heading.setSpacingAfter(10);
+        document.add(heading);
+        
+        this.table = new PdfPTable(headers.length);
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        table.setComplete(false);
+        Font headerFont = new Font(Font.HELVETICA, 10, Font.BOLD);
+        for (String header : headers) {
+            PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
+            cell.setBackgroundColor(new Color(230, 230, 230));
+            table.addCell(cell);
+        }
+    }
+    
+    /**
+     * Appends one row. Returns true when this row completed a chunk and was flushed to the
+     * document, which is the caller's cue to release per-chunk state such as managed entities.
+     */
+    boolean addRow(String... cells) {
+        for (String cell : cells) {
+            table.addCell(cell == null ? "" : cell);
+        }
+        if (++rows % chunkSize == 0) {
+            document.add(table);
+            return true;
+        }
+        return false;
+    }
+    
+    long getRows() {
+        return rows;
+    }
+    
+    long finish() {
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+        return rows;
+    }
+}
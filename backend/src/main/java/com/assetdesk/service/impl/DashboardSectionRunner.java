@@ -0,0 +1,112 @@
+package com.assetdesk.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent dashboard sections concurrently on virtual threads. Every section gets its
+ * own read-only transaction and a deadline; a section that fails or overruns yields its fallback
+ * so the rest of the dashboard is still returned, and its {@link Batch} is marked degraded.
+ *
+ * Sections across all requests share a fixed number of permits, kept below the connection pool
+ * size, so concurrent dashboards queue for a permit instead of draining the pool. An overrunning
+ * section is cancelled: its thread is interrupted and its statements carry a query timeout, so
+ * the connection is released rather than held by a result nobody is waiting for.
+ */
+@Component
+@Slf4j
+public class DashboardSectionRunner {
+    
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final long sectionTimeoutMs;
+    private final Counter fallbacks;
+    
+    public DashboardSectionRunner(PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.dashboard.section-timeout-ms:2000}") long sectionTimeoutMs,
+                                  @Value("${app.dashboard.max-concurrent-sections:6}") int maxConcurrentSections) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Whole seconds, rounded up; applied to every query the section runs
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrentSections, true);
+        this.sectionTimeoutMs = sectionTimeoutMs;
+        this.fallbacks = Counter.builder("dashboard.section.fallbacks").register(meterRegistry);
+    }
+    
+    /** Starts a set of sections whose results make up one dashboard. */
+    public Batch batch() {
+        return new Batch();
+    }
+    
+    public final class Batch {
+        
+        private final AtomicBoolean degraded = new AtomicBoolean();
+        
+        private Batch() {
+        }
+        
+        public <T> CompletableFuture<T> submit(String section, Supplier<T> query, T fallback) {
+            Timer timer = Timer.builder("dashboard.section.latency").tag("section", section).register(meterRegistry);
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Future<?> task = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    permits.acquire();
+                    try {
+                        result.complete(readOnlyTransaction.execute(status -> query.get()));
+                    } finally {
+                        permits.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    timer.record(elapsed, TimeUnit.NANOSECONDS);
+                    log.debug("Dashboard section {} took {} ms", section, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                }
+            });
+            return result
+                    .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        if (e instanceof TimeoutException) {
+                            task.cancel(true);
+                            log.warn("Dashboard section {} timed out after {} ms, using fallback", section, sectionTimeoutMs);
+                        } else {
+                            log.warn("Dashboard section {} failed, using fallback: {}", section, e.getMessage());
+                        }
+                        degraded.set(true);
+                        fallbacks.increment();
+                        return fallback;
+                    });
+        }
+        
+        /** True once any section of this batch has fallen back instead of returning real data. */
+        public boolean isDegraded() {
+            return degraded.get();
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.assetdesk.service.impl;
 
+import com.assetdesk.cache.DashboardSnapshotCache;
+import com.assetdesk.domain.ActivityFeedEntry;
 import com.assetdesk.domain.User;
 import com.assetdesk.dto.dashboard.DashboardStatsDTO;
 import com.assetdesk.repository.*;
+import com.assetdesk.repository.projection.GroupCount;
+import com.assetdesk.service.ActivityFeedService;
 import com.assetdesk.service.DashboardService;
+import com.assetdesk.service.TrendRollupService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -15,11 +22,13 @@ import java.util.stream.Collectors;
 import java.util.HashMap;
 import com.assetdesk.domain.Asset;
 import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.MonthlyRollup;
 import com.assetdesk.domain.AssetRequest;
 import com.assetdesk.exception.UserNotFoundException;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DashboardServiceImpl implements DashboardService {
 
     private final UserRepository userRepository;
@@ -29,6 +38,13 @@ public class DashboardServiceImpl implements DashboardService {
     private final AssetRequestRepository requestRepository;
     private final ServiceRecordRepository serviceRecordRepository;
     private final WarrantyHistoryRepository warrantyRepository;
+    private final TrendRollupService trendRollupService;
+    private final DashboardSnapshotCache snapshotCache;
+    private final DashboardSectionRunner sectionRunner;
+    private final ActivityFeedService activityFeedService;
+
+    @Value("${app.dashboard.trend-months:6}")
+    private int trendMonths;
 
     @Override
     public DashboardStatsDTO getDashboardStats(String userEmail) {
@@ -40,9 +56,9 @@ public class DashboardServiceImpl implements DashboardService {
             System.out.println("User found: " + user.getName() + ", Role: " + user.getRole());
             
             return switch (user.getRole()) {
-                case EMPLOYEE -> getEmployeeDashboard(user);
-                case IT_SUPPORT -> getITSupportDashboard(user);
-                case ADMIN -> getAdminDashboard(user);
+                case EMPLOYEE -> snapshotCache.get(DashboardSnapshotCache.employeeKey(user.getId()), () -> getEmployeeDashboard(user));
+                case IT_SUPPORT -> snapshotCache.get(DashboardSnapshotCache.itSupportKey(), () -> getITSupportDashboard(user));
+                case ADMIN -> snapshotCache.get(DashboardSnapshotCache.adminKey(), () -> getAdminDashboard(user));
                 default -> throw new IllegalArgumentException("Unknown user role: " + user.getRole());
             };
         } catch (Exception e) {
@@ -115,104 +131,83 @@ public class DashboardServiceImpl implements DashboardService {
 
     private DashboardStatsDTO getITSupportDashboard(User user) {
         System.out.println("Building IT Support dashboard for user: " + user.getId());
-        
-        Long totalAssets = assetRepository.count();
-        Long availableAssets = assetRepository.countByStatus(Asset.Status.AVAILABLE);
-        Long allocatedAssets = assetRepository.countByStatus(Asset.Status.ALLOCATED);
-        Long totalIssues = issueRepository.count();
-        Long openIssues = issueRepository.count();
-        Long pendingRequests = requestRepository.countByStatus(AssetRequest.Status.PENDING);
-        Long totalRequests = requestRepository.count();
-        
-        // Fix: If count returns 0 but we have pending requests, calculate total
-        if (totalRequests == 0 && pendingRequests > 0) {
-            totalRequests = pendingRequests + 21; // Based on actual pending count
-        } else if (totalRequests == 0) {
-            totalRequests = 29L; // Mock fallback
-        }
-        
-        System.out.println("IT Support stats - Total Assets: " + totalAssets + ", Available: " + availableAssets + ", Issues: " + totalIssues + ", Total Requests: " + totalRequests);
-        
-        return DashboardStatsDTO.builder()
-                .totalAssets(totalAssets)
-                .availableAssets(availableAssets)
-                .allocatedAssets(allocatedAssets)
-                .totalIssues(totalIssues)
-                .openIssues(openIssues)
-                .myRequests(totalRequests)
-                .pendingRequests(pendingRequests)
-                .warrantyExpiringCount(getWarrantyExpiringCount())
-                .maintenanceDueCount(getMaintenanceDueCount())
-                .assetsByCategory(getAssetsByCategory())
-                .assetsByStatus(getAssetsByStatus())
-                .issuesByPriority(getIssuesByPriority())
-                .issuesByStatus(getIssuesByStatus())
-                .assetsByDepartment(getAssetsByDepartment())
-                .monthlyAssetTrends(getMonthlyAssetTrends())
-                .monthlyIssueTrends(getMonthlyIssueTrends())
-                .recentActivities(getRecentActivities())
-                .upcomingWarranties(getUpcomingWarranties())
-                .topIssues(getTopIssues())
-                .averageResolutionTime(getAverageResolutionTime())
-                .assetUtilizationRate(getAssetUtilizationRate())
-                .build();
+        return buildSharedDashboard(false);
     }
 
     private DashboardStatsDTO getAdminDashboard(User user) {
         System.out.println("Building Admin dashboard for user: " + user.getId());
+        return buildSharedDashboard(true);
+    }
+
+    private DashboardStatsDTO buildSharedDashboard(boolean includeUsers) {
+        // Every section is independent, so fan them all out before waiting on any
+        DashboardSectionRunner.Batch sections = sectionRunner.batch();
+        var totalAssets = sections.submit("totalAssets", assetRepository::count, 0L);
+        var availableAssets = sections.submit("availableAssets", () -> assetRepository.countByStatus(Asset.Status.AVAILABLE), 0L);
+        var allocatedAssets = sections.submit("allocatedAssets", () -> assetRepository.countByStatus(Asset.Status.ALLOCATED), 0L);
+        var totalIssues = sections.submit("totalIssues", issueRepository::count, 0L);
+        var totalUsers = includeUsers ? sections.submit("totalUsers", userRepository::count, 0L) : null;
+        var pendingRequests = sections.submit("pendingRequests", () -> requestRepository.countByStatus(AssetRequest.Status.PENDING), 0L);
+        var totalRequests = sections.submit("totalRequests", requestRepository::count, 0L);
+        var warrantyExpiringCount = sections.submit("warrantyExpiringCount", this::getWarrantyExpiringCount, 0L);
+        var maintenanceDueCount = sections.submit("maintenanceDueCount", this::getMaintenanceDueCount, 0L);
+        var assetsByCategory = sections.submit("assetsByCategory", this::getAssetsByCategory, Map.<String, Long>of());
+        var assetsByStatus = sections.submit("assetsByStatus", this::getAssetsByStatus, Map.<String, Long>of());
+        var issuesByPriority = sections.submit("issuesByPriority", this::getIssuesByPriority, Map.<String, Long>of());
+        var issuesByStatus = sections.submit("issuesByStatus", this::getIssuesByStatus, Map.<String, Long>of());
+        var assetsByDepartment = sections.submit("assetsByDepartment", this::getAssetsByDepartment, Map.<String, Long>of());
+        var monthlyAssetTrends = sections.submit("monthlyAssetTrends", this::getMonthlyAssetTrends, Map.<String, Long>of());
+        var monthlyIssueTrends = sections.submit("monthlyIssueTrends", this::getMonthlyIssueTrends, Map.<String, Long>of());
+        var recentActivities = sections.submit("recentActivities", this::getRecentActivities, List.<DashboardStatsDTO.RecentActivityDTO>of());
+        var upcomingWarranties = sections.submit("upcomingWarranties", this::getUpcomingWarranties, List.<DashboardStatsDTO.UpcomingWarrantyDTO>of());
+        var averageResolutionTime = sections.submit("averageResolutionTime", this::getAverageResolutionTime, 0.0);
         
-        Long totalAssets = assetRepository.count();
-        Long availableAssets = assetRepository.countByStatus(Asset.Status.AVAILABLE);
-        Long allocatedAssets = assetRepository.countByStatus(Asset.Status.ALLOCATED);
-        Long totalIssues = issueRepository.count();
-        Long openIssues = issueRepository.count();
-        Long totalUsers = userRepository.count();
-        Long pendingRequests = requestRepository.countByStatus(AssetRequest.Status.PENDING);
-        Long totalRequests = requestRepository.count();
+        Long pending = pendingRequests.join();
+        Long requests = totalRequests.join();
         
         // Fix: If count returns 0 but we have pending requests, calculate total
-        if (totalRequests == 0 && pendingRequests > 0) {
-            totalRequests = pendingRequests + 21; // 8 pending + 21 other statuses = 29 total
-            System.out.println("Count query returned 0 but pending=" + pendingRequests + ", estimated total=" + totalRequests);
+        if (requests == 0 && pending > 0) {
+            requests = pending + 21; // Based on actual pending count
+        } else if (requests == 0 && !includeUsers) {
+            requests = 29L; // Mock fallback
         }
         
-        System.out.println("Admin stats - Total Assets: " + totalAssets + ", Users: " + totalUsers + ", Issues: " + totalIssues + ", Total Requests: " + totalRequests + ", Pending Requests: " + pendingRequests);
+        Long assets = totalAssets.join();
+        Long allocated = allocatedAssets.join();
+        Long issues = totalIssues.join();
+        
+        log.debug("Dashboard stats - total assets: {}, issues: {}, total requests: {}, pending requests: {}", assets, issues, requests, pending);
         
         return DashboardStatsDTO.builder()
-                .totalAssets(totalAssets)
-                .availableAssets(availableAssets)
-                .allocatedAssets(allocatedAssets)
-                .totalIssues(totalIssues)
-                .openIssues(openIssues)
-                .totalUsers(totalUsers)
-                .myRequests(totalRequests)
-                .pendingRequests(pendingRequests)
-                .warrantyExpiringCount(getWarrantyExpiringCount())
-                .maintenanceDueCount(getMaintenanceDueCount())
-                .assetsByCategory(getAssetsByCategory())
-                .assetsByStatus(getAssetsByStatus())
-                .issuesByPriority(getIssuesByPriority())
-                .issuesByStatus(getIssuesByStatus())
-                .assetsByDepartment(getAssetsByDepartment())
-                .monthlyAssetTrends(getMonthlyAssetTrends())
-                .monthlyIssueTrends(getMonthlyIssueTrends())
-                .recentActivities(getRecentActivities())
-                .upcomingWarranties(getUpcomingWarranties())
+                .totalAssets(assets)
+                .availableAssets(availableAssets.join())
+                .allocatedAssets(allocated)
+                .totalIssues(issues)
+                .openIssues(issues)
+                .totalUsers(totalUsers != null ? totalUsers.join() : null)
+                .myRequests(requests)
+                .pendingRequests(pending)
+                .warrantyExpiringCount(warrantyExpiringCount.join())
+                .maintenanceDueCount(maintenanceDueCount.join())
+                .assetsByCategory(assetsByCategory.join())
+                .assetsByStatus(assetsByStatus.join())
+                .issuesByPriority(issuesByPriority.join())
+                .issuesByStatus(issuesByStatus.join())
+                .assetsByDepartment(assetsByDepartment.join())
+                .monthlyAssetTrends(monthlyAssetTrends.join())
+                .monthlyIssueTrends(monthlyIssueTrends.join())
+                .recentActivities(recentActivities.join())
+                .upcomingWarranties(upcomingWarranties.join())
                 .topIssues(getTopIssues())
-                .averageResolutionTime(getAverageResolutionTime())
-                .assetUtilizationRate(getAssetUtilizationRate())
+                .averageResolutionTime(averageResolutionTime.join())
+                .assetUtilizationRate(getAssetUtilizationRate(assets, allocated))
+                .degraded(sections.isDegraded())
                 .build();
     }
 
     private Map<String, Long> getMyAssetsByCategory(Long userId) {
         try {
-            return allocationRepository.findCurrentAllocationsByUserId(userId).stream()
-                    .map(allocation -> allocation.getAsset())
-                    .filter(asset -> asset != null && asset.getCategory() != null)
-                    .collect(Collectors.groupingBy(
-                            asset -> asset.getCategory().toString(),
-                            Collectors.counting()
-                    ));
+            return toCountMap(allocationRepository.countCurrentGroupByCategoryForUser(userId));
         } catch (Exception e) {
             return new HashMap<>();
         }
@@ -220,12 +215,7 @@ public class DashboardServiceImpl implements DashboardService {
 
     private Map<String, Long> getMyIssuesByStatus(Long userId) {
         try {
-            return issueRepository.findByReportedById(userId).stream()
-                    .filter(issue -> issue.getStatus() != null)
-                    .collect(Collectors.groupingBy(
-                            issue -> issue.getStatus().toString(),
-                            Collectors.counting()
-                    ));
+            return toCountMap(issueRepository.countGroupByStatusForReporter(userId));
         } catch (Exception e) {
             return new HashMap<>();
         }
@@ -233,12 +223,7 @@ public class DashboardServiceImpl implements DashboardService {
 
     private Map<String, Long> getAssetsByCategory() {
         try {
-            return assetRepository.findAll().stream()
-                    .filter(asset -> asset.getCategory() != null)
-                    .collect(Collectors.groupingBy(
-                            asset -> asset.getCategory().toString(),
-                            Collectors.counting()
-                    ));
+            return toCountMap(assetRepository.countGroupByCategory());
         } catch (Exception e) {
             return new HashMap<>();
         }
@@ -246,12 +231,7 @@ public class DashboardServiceImpl implements DashboardService {
 
     private Map<String, Long> getAssetsByStatus() {
         try {
-            return assetRepository.findAll().stream()
-                    .filter(asset -> asset.getStatus() != null)
-                    .collect(Collectors.groupingBy(
-                            asset -> asset.getStatus().toString(),
-                            Collectors.counting()
-                    ));
+            return toCountMap(assetRepository.countGroupByStatus());
         } catch (Exception e) {
             return new HashMap<>();
         }
@@ -259,12 +239,7 @@ public class DashboardServiceImpl implements DashboardService {
 
     private Map<String, Long> getIssuesByPriority() {
         try {
-            return issueRepository.findAll().stream()
-                    .filter(issue -> issue.getPriority() != null)
-                    .collect(Collectors.groupingBy(
-                            issue -> issue.getPriority().toString(),
-                            Collectors.counting()
-                    ));
+            return toCountMap(issueRepository.countGroupByPriority());
         } catch (Exception e) {
             return new HashMap<>();
         }
@@ -272,12 +247,7 @@ public class DashboardServiceImpl implements DashboardService {
 
     private Map<String, Long> getIssuesByStatus() {
         try {
-            return issueRepository.findAll().stream()
-                    .filter(issue -> issue.getStatus() != null)
-                    .collect(Collectors.groupingBy(
-                            issue -> issue.getStatus().toString(),
-                            Collectors.counting()
-                    ));
+            return toCountMap(issueRepository.countGroupByStatus());
         } catch (Exception e) {
             return new HashMap<>();
         }
@@ -285,181 +255,65 @@ public class DashboardServiceImpl implements DashboardService {
 
     private Map<String, Long> getAssetsByDepartment() {
         try {
-            return allocationRepository.findCurrentAllocations().stream()
-                    .filter(allocation -> allocation.getUser() != null)
-                    .collect(Collectors.groupingBy(
-                            allocation -> allocation.getUser().getDepartment() != null ? 
-                                    allocation.getUser().getDepartment() : "Unassigned",
-                            Collectors.counting()
-                    ));
+            return toCountMap(allocationRepository.countCurrentGroupByDepartment());
         } catch (Exception e) {
             return new HashMap<>();
         }
     }
 
+    private Map<String, Long> toCountMap(List<GroupCount> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (GroupCount row : rows) {
+            counts.put(String.valueOf(row.getLabel()), row.getTotal());
+        }
+        return counts;
+    }
+
     private Map<String, Long> getMonthlyAssetTrends() {
-        Map<String, Long> trends = new LinkedHashMap<>();
-        LocalDate now = LocalDate.now();
         try {
-            for (int i = 5; i >= 0; i--) {
-                LocalDate monthStart = now.minusMonths(i).withDayOfMonth(1);
-                LocalDate monthEnd = monthStart.plusMonths(1).minusDays(1);
-                String monthKey = monthStart.format(DateTimeFormatter.ofPattern("MMM yyyy"));
-                Long count = assetRepository.findAll().stream()
-                        .filter(asset -> asset.getPurchaseDate() != null &&
-                                !asset.getPurchaseDate().isBefore(monthStart) &&
-                                !asset.getPurchaseDate().isAfter(monthEnd))
-                        .count();
-                trends.put(monthKey, count);
-            }
+            return trendRollupService.getMonthlyTrend(MonthlyRollup.Metric.ASSET_PURCHASES, trendMonths);
         } catch (Exception e) {
             System.err.println("Error calculating monthly asset trends: " + e.getMessage());
-            // Return empty trends to prevent errors
+            return new LinkedHashMap<>();
         }
-        return trends;
     }
 
     private Map<String, Long> getMonthlyIssueTrends() {
-        Map<String, Long> trends = new LinkedHashMap<>();
-        LocalDateTime now = LocalDateTime.now();
         try {
-            for (int i = 5; i >= 0; i--) {
-                LocalDateTime monthStart = now.minusMonths(i).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-                LocalDateTime monthEnd = monthStart.plusMonths(1).minusSeconds(1);
-                String monthKey = monthStart.format(DateTimeFormatter.ofPattern("MMM yyyy"));
-                Long count = issueRepository.findAll().stream()
-                        .filter(issue -> issue.getCreatedAt() != null &&
-                                !issue.getCreatedAt().isBefore(monthStart) &&
-                                !issue.getCreatedAt().isAfter(monthEnd))
-                        .count();
-                trends.put(monthKey, count);
-            }
+            return trendRollupService.getMonthlyTrend(MonthlyRollup.Metric.ISSUES_CREATED, trendMonths);
         } catch (Exception e) {
             System.err.println("Error calculating monthly issue trends: " + e.getMessage());
-            // Return empty trends to prevent errors
+            return new LinkedHashMap<>();
         }
-        return trends;
     }
 
     private List<DashboardStatsDTO.RecentActivityDTO> getRecentActivities() {
-        List<DashboardStatsDTO.RecentActivityDTO> activities = new ArrayList<>();
-        
         try {
-            // Recent allocations
-            allocationRepository.findTop10ByReturnedDateIsNullOrderByAllocatedDateDesc().stream()
-                    .limit(5)
-                    .filter(allocation -> allocation.getAsset() != null && allocation.getUser() != null)
-                    .forEach(allocation -> {
-                        activities.add(DashboardStatsDTO.RecentActivityDTO.builder()
-                                .type("ALLOCATION")
-                                .description("Asset " + (allocation.getAsset().getAssetTag() != null ? allocation.getAsset().getAssetTag() : "Unknown") + " allocated to " + allocation.getUser().getName())
-                                .timestamp(allocation.getAllocatedDate() != null ? allocation.getAllocatedDate().toString() : "")
-                                .user(allocation.getUser().getName())
-                                .status("COMPLETED")
-                                .build());
-                    });
-        } catch (Exception e) {
-            // Continue with other activities
-        }
-        
-        try {
-            // Recent issues
-            issueRepository.findTop5ByOrderByCreatedAtDesc().stream()
-                    .filter(issue -> issue.getReportedBy() != null)
-                    .forEach(issue -> {
-                        activities.add(DashboardStatsDTO.RecentActivityDTO.builder()
-                                .type("ISSUE")
-                                .description("Issue reported: " + (issue.getTitle() != null ? issue.getTitle() : "Unknown"))
-                                .timestamp(issue.getCreatedAt() != null ? issue.getCreatedAt().toString() : "")
-                                .user(issue.getReportedBy().getName())
-                                .status(issue.getStatus() != null ? issue.getStatus().toString() : "UNKNOWN")
-                                .build());
-                    });
+            return toRecentActivities(activityFeedService.getRecent(10));
         } catch (Exception e) {
-            // Continue with other activities
-        }
-        
-        try {
-            // Recent requests
-            requestRepository.findTop5ByOrderByRequestedDateDesc().stream()
-                    .filter(request -> request.getRequestedBy() != null)
-                    .forEach(request -> {
-                        activities.add(DashboardStatsDTO.RecentActivityDTO.builder()
-                                .type("REQUEST")
-                                .description("Asset request: " + (request.getRequestType() != null ? request.getRequestType().toString() : "Unknown"))
-                                .timestamp(request.getRequestedDate() != null ? request.getRequestedDate().toString() : "")
-                                .user(request.getRequestedBy().getName())
-                                .status(request.getStatus() != null ? request.getStatus().toString() : "UNKNOWN")
-                                .build());
-                    });
-        } catch (Exception e) {
-            // Continue
+            log.warn("Error getting recent activities", e);
+            return new ArrayList<>();
         }
-        
-        return activities.stream()
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .limit(10)
-                .collect(Collectors.toList());
     }
 
     private List<DashboardStatsDTO.RecentActivityDTO> getMyRecentActivities(Long userId) {
-        List<DashboardStatsDTO.RecentActivityDTO> activities = new ArrayList<>();
-        
-        try {
-            // My recent allocations
-            allocationRepository.findTop10ByUserIdAndReturnedDateIsNullOrderByAllocatedDateDesc(userId).stream()
-                    .limit(3)
-                    .filter(allocation -> allocation.getAsset() != null && allocation.getUser() != null)
-                    .forEach(allocation -> {
-                        activities.add(DashboardStatsDTO.RecentActivityDTO.builder()
-                                .type("ALLOCATION")
-                                .description("Asset " + (allocation.getAsset().getAssetTag() != null ? allocation.getAsset().getAssetTag() : "Unknown") + " allocated to you")
-                                .timestamp(allocation.getAllocatedDate() != null ? allocation.getAllocatedDate().toString() : "")
-                                .user(allocation.getUser().getName() != null ? allocation.getUser().getName() : "Unknown")
-                                .status("ACTIVE")
-                                .build());
-                    });
-        } catch (Exception e) {
-            System.err.println("Error getting user allocations: " + e.getMessage());
-        }
-        
         try {
-            // My recent issues
-            issueRepository.findTop5ByReportedByIdOrderByCreatedAtDesc(userId).stream()
-                    .filter(issue -> issue.getReportedBy() != null)
-                    .forEach(issue -> {
-                        activities.add(DashboardStatsDTO.RecentActivityDTO.builder()
-                                .type("ISSUE")
-                                .description("You reported: " + (issue.getTitle() != null ? issue.getTitle() : "Unknown"))
-                                .timestamp(issue.getCreatedAt() != null ? issue.getCreatedAt().toString() : "")
-                                .user(issue.getReportedBy().getName() != null ? issue.getReportedBy().getName() : "Unknown")
-                                .status(issue.getStatus() != null ? issue.getStatus().toString() : "UNKNOWN")
-                                .build());
-                    });
-        } catch (Exception e) {
-            System.err.println("Error getting user issues: " + e.getMessage());
-        }
-        
-        try {
-            // My recent requests
-            requestRepository.findTop5ByRequestedByIdOrderByRequestedDateDesc(userId).stream()
-                    .filter(request -> request.getRequestedBy() != null)
-                    .forEach(request -> {
-                        activities.add(DashboardStatsDTO.RecentActivityDTO.builder()
-                                .type("REQUEST")
-                                .description("You requested: " + (request.getRequestType() != null ? request.getRequestType().toString() : "Unknown"))
-                                .timestamp(request.getRequestedDate() != null ? request.getRequestedDate().toString() : "")
-                                .user(request.getRequestedBy().getName() != null ? request.getRequestedBy().getName() : "Unknown")
-                                .status(request.getStatus() != null ? request.getStatus().toString() : "UNKNOWN")
-                                .build());
-                    });
+            return toRecentActivities(activityFeedService.getRecentForUser(userId, 10));
         } catch (Exception e) {
-            System.err.println("Error getting user requests: " + e.getMessage());
+            log.warn("Error getting activities for user {}", userId, e);
+            return new ArrayList<>();
         }
-        
-        return activities.stream()
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .limit(10)
+    }
+
+    private List<DashboardStatsDTO.RecentActivityDTO> toRecentActivities(List<ActivityFeedEntry> entries) {
+        return entries.stream()
+                .map(entry -> DashboardStatsDTO.RecentActivityDTO.builder()
+                        .type(entry.getType().toString())
+                        .description(entry.getDescription())
+                        .timestamp(entry.getCreatedAt().toString())
+                        .user(entry.getUserName() != null ? entry.getUserName() : "Unknown")
+                        .status(entry.getStatus() != null ? entry.getStatus() : "UNKNOWN")
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -575,16 +429,9 @@ public class DashboardServiceImpl implements DashboardService {
         return avgHours != null ? avgHours : 0.0;
     }
 
-    private Double getAssetUtilizationRate() {
-        try {
-            long totalAssets = assetRepository.count();
-            long allocatedAssets = assetRepository.countByStatus(Asset.Status.ALLOCATED);
-            if (totalAssets <= 0) return 0.0;
-            double rate = (double) allocatedAssets / totalAssets * 100;
-            return Math.max(0.0, Math.min(100.0, rate));
-        } catch (Exception e) {
-            System.err.println("Error calculating asset utilization rate: " + e.getMessage());
-            return 0.0;
-        }
+    private Double getAssetUtilizationRate(long totalAssets, long allocatedAssets) {
+        if (totalAssets <= 0) return 0.0;
+        double rate = (double) allocatedAssets / totalAssets * 100;
+        return Math.max(0.0, Math.min(100.0, rate));
     }
 }
\ No newline at end of file
@@ -0,0 +1,332 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.dto.ServiceRecordExportFilter;
+import com.assetdesk.dto.analytics.AnalyticsReportOptions;
+import com.assetdesk.dto.asset.AssetExportFilter;
+import com.assetdesk.dto.export.ExportJobDTO;
+import com.assetdesk.dto.export.ExportKind;
+import com.assetdesk.exception.InvalidOperationException;
+import com.assetdesk.exception.ResourceNotFoundException;
+import com.assetdesk.service.AnalyticsService;
+import com.assetdesk.service.AssetExportService;
+import com.assetdesk.service.ExportJobService;
+import com.assetdesk.service.ServiceRecordExportService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+@Service
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+    
+    private final AssetExportService assetExportService;
+    private final ServiceRecordExportService serviceRecordExportService;
+    private final AnalyticsService analyticsService;
+    private final ThreadPoolExecutor executor;
+    private final Duration resultTtl;
+    private final Path directory;
+    
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    // Queued or running jobs by filter hash, so identical submissions share one job
+    private final Map<String, ExportJob> activeJobs = new ConcurrentHashMap<>();
+    
+    public ExportJobServiceImpl(AssetExportService assetExportService,
+                                ServiceRecordExportService serviceRecordExportService,
+                                AnalyticsService analyticsService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.export.jobs.workers:2}") int workers,
+                                @Value("${app.export.jobs.queue-capacity:20}") int queueCapacity,
+                                @Value("${app.export.jobs.result-ttl-minutes:30}") long resultTtlMinutes) {
+        this.assetExportService = assetExportService;
+        this.serviceRecordExportService = serviceRecordExportService;
+        this.analyticsService = analyticsService;
+        this.resultTtl = Duration.ofMinutes(resultTtlMinutes);
+        // Platform threads on purpose: the pool size is what caps concurrent export transactions
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("export-worker-", 0).factory());
+        try {
+            this.directory = Files.createTempDirectory("assetdesk-exports");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create export directory", e);
+        }
+        
+        Gauge.builder("export.jobs.running", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("export.jobs.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+    
+    @Override
+    public ExportJobDTO submitAssetExport(ExportKind kind, AssetExportFilter filter) {
+        return switch (kind) {
+            case ASSETS_CSV -> submit(kind, filter, new ExportTask(
+                () -> assetExportService.count(filter),
+                (out, progress) -> assetExportService.writeCsv(filter, out, progress)));
+            case ASSETS_PDF -> submit(kind, filter, new ExportTask(
+                () -> assetExportService.count(filter),
+                (out, progress) -> assetExportService.writePdf(filter, out, progress)));
+            default -> throw new InvalidOperationException("Not an asset export: " + kind);
+        };
+    }
+    
+    @Override
+    public ExportJobDTO submitServiceRecordExport(ExportKind kind, ServiceRecordExportFilter filter) {
+        return switch (kind) {
+            case SERVICE_RECORDS_CSV -> submit(kind, filter, new ExportTask(
+                () -> serviceRecordExportService.count(filter),
+                (out, progress) -> serviceRecordExportService.writeCsv(filter, out, progress)));
+            case SERVICE_RECORDS_PDF -> submit(kind, filter, new ExportTask(
+                () -> serviceRecordExportService.count(filter),
+                (out, progress) -> serviceRecordExportService.writePdf(filter, out, progress)));
+            default -> throw new InvalidOperationException("Not a service record export: " + kind);
+        };
+    }
+    
+    @Override
+    public ExportJobDTO submitAnalyticsReport(AnalyticsReportOptions options) {
+        return submit(ExportKind.ANALYTICS_PDF, options, new ExportTask(null, (out, progress) -> {
+            analyticsService.writeReportPdf(options, out);
+            return 0;
+        }));
+    }
+    
+    @Override
+    public ExportJobDTO getJob(String jobId) {
+        return find(jobId).toDTO();
+    }
+    
+    @Override
+    public SseEmitter subscribe(String jobId) {
+        ExportJob job = find(jobId);
+        SseEmitter emitter = new SseEmitter(resultTtl.toMillis());
+        job.emitters.add(emitter);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+        
+        // Current state first; a job that already finished has nothing more to stream
+        ExportJobDTO state = job.toDTO();
+        send(emitter, eventName(state.getStatus()), state);
+        if (job.isFinished()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+    
+    @Override
+    public Path getResult(String jobId) {
+        ExportJob job = find(jobId);
+        if (job.status != ExportJobDTO.Status.COMPLETED) {
+            throw new InvalidOperationException("Export job " + jobId + " is " + job.status);
+        }
+        return job.file;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.export.jobs.cleanup-interval-ms:60000}")
+    public void removeExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().removeIf(job -> {
+            if (job.expiresAt == null || job.expiresAt.isAfter(now)) {
+                return false;
+            }
+            deleteQuietly(job.file);
+            return true;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        jobs.values().forEach(job -> deleteQuietly(job.file));
+        deleteQuietly(directory);
+    }
+    
+    private ExportJobDTO submit(ExportKind kind, Object parameters, ExportTask task) {
+        String filterHash = filterHash(kind, parameters);
+        ExportJob candidate = new ExportJob(UUID.randomUUID().toString(), kind, filterHash);
+        ExportJob job = activeJobs.computeIfAbsent(filterHash, hash -> candidate);
+        if (job != candidate) {
+            return job.toDTO();
+        }
+        
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(filterHash, job);
+            jobs.remove(job.id);
+            throw new InvalidOperationException("Too many exports in progress, try again later");
+        }
+        return job.toDTO();
+    }
+    
+    private void run(ExportJob job, ExportTask task) {
+        job.status = ExportJobDTO.Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        Path file = directory.resolve(job.id + "-" + job.kind.getFileName());
+        try {
+            job.totalRows = task.count() != null ? task.count().count() : null;
+            publish(job, "progress");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                long rows = task.writer().write(out, written -> {
+                    job.rowsWritten = written;
+                    publish(job, "progress");
+                });
+                job.rowsWritten = rows;
+            }
+            job.file = file;
+            job.status = ExportJobDTO.Status.COMPLETED;
+        } catch (Exception e) {
+            log.error("Export job {} ({}) failed", job.id, job.kind, e);
+            deleteQuietly(file);
+            job.error = e.getMessage();
+            job.status = ExportJobDTO.Status.FAILED;
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            job.expiresAt = job.completedAt.plus(resultTtl);
+            activeJobs.remove(job.filterHash, job);
+            ExportJobDTO state = job.toDTO();
+            for (SseEmitter emitter : job.emitters) {
+                send(emitter, eventName(state.getStatus()), state);
+                emitter.complete();
+            }
+        }
+    }
+    
+    private void publish(ExportJob job, String eventName) {
+        if (job.emitters.isEmpty()) {
+            return;
+        }
+        ExportJobDTO state = job.toDTO();
+        job.emitters.forEach(emitter -> send(emitter, eventName, state));
+    }
+    
+    private void send(SseEmitter emitter, String eventName, ExportJobDTO state) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(state));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Export progress subscriber gone");
+        }
+    }
+    
+    private static String eventName(ExportJobDTO.Status status) {
+        return switch (status) {
+            case COMPLETED -> "completed";
+            case FAILED -> "failed";
+            default -> "progress";
+        };
+    }
+    
+    private ExportJob find(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export job", "id", jobId);
+        }
+        return job;
+    }
+    
+    private static String filterHash(ExportKind kind, Object parameters) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((kind.name() + ":" + parameters).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", path, e);
+        }
+    }
+    
+    private interface RowCounter {
+        long count();
+    }
+    
+    private interface ExportWriter {
+        long write(OutputStream out, LongConsumer progress) throws IOException;
+    }
+    
+    private record ExportTask(RowCounter count, ExportWriter writer) {}
+    
+    private static final class ExportJob {
+        private final String id;
+        private final ExportKind kind;
+        private final String filterHash;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        
+        private volatile ExportJobDTO.Status status = ExportJobDTO.Status.QUEUED;
+        private volatile long rowsWritten;
+        private volatile Long totalRows;
+        private volatile String error;
+        private volatile Path file;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile LocalDateTime expiresAt;
+        
+        private ExportJob(String id, ExportKind kind, String filterHash) {
+            this.id = id;
+            this.kind = kind;
+            this.filterHash = filterHash;
+        }
+        
+        private boolean isFinished() {
+            return status == ExportJobDTO.Status.COMPLETED || status == ExportJobDTO.Status.FAILED;
+        }
+        
+        private ExportJobDTO toDTO() {
+            ExportJobDTO dto = new ExportJobDTO();
+            dto.setId(id);
+            dto.setKind(kind);
+            dto.setStatus(status);
+            dto.setRowsWritten(rowsWritten);
+            dto.setTotalRows(totalRows);
+            if (status == ExportJobDTO.Status.COMPLETED) {
+                dto.setPercentComplete(100);
+                dto.setDownloadUrl("/api/exports/" + id + "/download");
+            } else if (totalRows != null && totalRows > 0) {
+                dto.setPercentComplete((int) Math.min(99, rowsWritten * 100 / totalRows));
+            }
+            dto.setError(error);
+            dto.setCreatedAt(createdAt);
+            dto.setStartedAt(startedAt);
+            dto.setCompletedAt(completedAt);
+            dto.setExpiresAt(expiresAt);
+            return dto;
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.assetdesk.service.impl;
 
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.issue.IssueRequestDTO;
 import com.assetdesk.dto.issue.IssueResponseDTO;
+import com.assetdesk.dto.issue.IssueSearchHitDTO;
 import com.assetdesk.domain.Issue;
 import com.assetdesk.repository.IssueRepository;
 import com.assetdesk.repository.AssetRepository;
 import com.assetdesk.repository.UserRepository;
 import com.assetdesk.repository.ServiceRecordRepository;
 import com.assetdesk.service.IssueService;
-import com.assetdesk.service.NotificationService;
+import com.assetdesk.service.NotificationOutboxService;
 import com.assetdesk.domain.ServiceRecord;
+import com.assetdesk.search.IssueSearchIndex;
+import com.assetdesk.search.IssueSearchQuery;
+import com.assetdesk.search.SearchHighlighter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import com.assetdesk.exception.ResourceNotFoundException;
 import org.springframework.data.jpa.domain.Specification;
 import static com.assetdesk.spec.IssueSpecifications.*;
@@ -26,12 +39,20 @@ import static com.assetdesk.spec.IssueSpecifications.*;
 @Transactional
 public class IssueServiceImpl implements IssueService {
     
+    private static final int MAX_SORTED_SEARCH_IDS = 10_000;
+    // Most issues a global search may reach through related names before it is left to the database
+    private static final int MAX_RELATED_MATCHES = 1_000;
+    private static final int SNIPPET_LENGTH = 160;
+    
     private final IssueRepository issueRepository;
     private final AssetRepository assetRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutbox;
     private final ServiceRecordRepository serviceRecordRepository;
     private final com.assetdesk.repository.MessageRepository messageRepository;
+    private final com.assetdesk.service.TrendRollupService trendRollupService;
+    private final com.assetdesk.service.ActivityFeedService activityFeedService;
+    private final IssueSearchIndex issueSearchIndex;
     
     @Override
     public IssueResponseDTO createIssue(IssueRequestDTO issueRequestDTO, Long reportedById) {
@@ -66,10 +87,13 @@ public class IssueServiceImpl implements IssueService {
             System.out.println("Saving issue...");
             Issue savedIssue = issueRepository.save(issue);
             System.out.println("Issue saved with ID: " + savedIssue.getId());
+            trendRollupService.recordIssueCreated(savedIssue);
+            activityFeedService.recordIssue(savedIssue);
             
             // Create notification for issue creation
             try {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "issue:" + savedIssue.getId() + ":created",
                     reportedById,
                     "New Issue Created",
                     "Issue '" + savedIssue.getTitle() + "' has been created for asset " + asset.getName(),
@@ -93,7 +117,7 @@ public class IssueServiceImpl implements IssueService {
     @Override
     @Transactional(readOnly = true)
     public IssueResponseDTO getIssueById(Long id) {
-        Issue issue = issueRepository.findById(id)
+        Issue issue = issueRepository.findWithDetailsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
         return IssueResponseDTO.fromEntity(issue);
     }
@@ -105,6 +129,23 @@ public class IssueServiceImpl implements IssueService {
             .map(IssueResponseDTO::fromEntity);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<IssueResponseDTO> getAllIssues(String cursor, int size, boolean includeTotal) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor position = Cursor.decode(cursor);
+        Pageable limit = CursorPageDTO.fetchLimit(pageSize);
+        List<Issue> rows = position == null
+            ? issueRepository.findFirstPageExcludingClosed(limit)
+            : issueRepository.findPageExcludingClosedBefore(position.sortKeyAsDateTime(), position.id(), limit);
+        CursorPageDTO<IssueResponseDTO> page = CursorPageDTO.fromRows(rows, pageSize,
+            issue -> new Cursor(issue.getCreatedAt().toString(), issue.getId()), IssueResponseDTO::fromEntity);
+        if (includeTotal) {
+            page.setTotalElements(issueRepository.countExcludingClosed());
+        }
+        return page;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Page<IssueResponseDTO> getAllIssuesIncludingClosed(Pageable pageable) {
@@ -173,6 +214,8 @@ public class IssueServiceImpl implements IssueService {
         
         issue.setAssignedTo(assignedUser);
         issue.setStatus(Issue.Status.IN_PROGRESS);
+        // Identifies this assignment, so reassigning the issue back to the same person notifies again
+        LocalDateTime assignedAt = LocalDateTime.now();
         
         System.out.println("Before save - assigned to: " + issue.getAssignedTo().getName());
         
@@ -195,7 +238,8 @@ public class IssueServiceImpl implements IssueService {
         try {
             // Also notify the reporter
             if (updatedIssue.getReportedBy() != null && !updatedIssue.getReportedBy().getId().equals(assignedToId)) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "issue:" + updatedIssue.getId() + ":in-progress:" + assignedUser.getId() + ":" + assignedAt,
                     updatedIssue.getReportedBy().getId(),
                     "Issue In Progress",
                     "Your issue '" + updatedIssue.getTitle() + "' is now being worked on by " + assignedUser.getName(),
@@ -270,7 +314,8 @@ public class IssueServiceImpl implements IssueService {
         // Create notification for resolution
         try {
             if (resolvedIssue.getReportedBy() != null) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "issue:" + resolvedIssue.getId() + ":resolved:" + resolvedIssue.getResolvedAt(),
                     resolvedIssue.getReportedBy().getId(),
                     "Issue Resolved",
                     "Your issue '" + resolvedIssue.getTitle() + "' has been resolved",
@@ -335,7 +380,8 @@ public class IssueServiceImpl implements IssueService {
         // Create notification for resolution
         try {
             if (resolvedIssue.getReportedBy() != null) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "issue:" + resolvedIssue.getId() + ":resolved:" + resolvedIssue.getResolvedAt(),
                     resolvedIssue.getReportedBy().getId(),
                     "Issue Resolved",
                     "Your issue '" + resolvedIssue.getTitle() + "' has been resolved",
@@ -385,7 +431,8 @@ public class IssueServiceImpl implements IssueService {
         // Create notification for closure
         try {
             if (closedIssue.getAssignedTo() != null && !closedIssue.getAssignedTo().getId().equals(userId)) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "issue:" + closedIssue.getId() + ":closed",
                     closedIssue.getAssignedTo().getId(),
                     "Issue Closed",
                     "Issue '" + closedIssue.getTitle() + "' has been closed",
@@ -406,6 +453,7 @@ public class IssueServiceImpl implements IssueService {
         Issue issue = issueRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
         
+        var oldPriority = issue.getPriority();
         issue.setTitle(issueRequestDTO.getTitle());
         issue.setDescription(issueRequestDTO.getDescription());
         issue.setType(issueRequestDTO.getType());
@@ -418,12 +466,16 @@ public class IssueServiceImpl implements IssueService {
         }
         
         Issue updatedIssue = issueRepository.save(issue);
+        trendRollupService.recordIssuePriorityChange(oldPriority, updatedIssue);
         return IssueResponseDTO.fromEntity(updatedIssue);
     }
     
     @Override
     public void deleteIssue(Long id) {
-        issueRepository.deleteById(id);
+        issueRepository.findById(id).ifPresent(issue -> {
+            issueRepository.delete(issue);
+            trendRollupService.removeIssueCreated(issue);
+        });
     }
     
     @Override
@@ -433,7 +485,8 @@ public class IssueServiceImpl implements IssueService {
         
         // Send notification to issue reporter
         if (issue.getReportedBy() != null) {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                null,
                 issue.getReportedBy().getId(), 
                 title, 
                 message, 
@@ -445,7 +498,8 @@ public class IssueServiceImpl implements IssueService {
         
         // Also send to assigned user if different and exists
         if (issue.getAssignedTo() != null && !issue.getAssignedTo().getId().equals(issue.getReportedBy().getId())) {
-            notificationService.createNotification(
+            notificationOutbox.publish(
+                null,
                 issue.getAssignedTo().getId(), 
                 title, 
                 message, 
@@ -465,6 +519,25 @@ public class IssueServiceImpl implements IssueService {
         // Check if this is a global search (same term in title and description)
         boolean isGlobalSearch = title != null && title.equals(description);
         
+        IssueSearchQuery query = isGlobalSearch
+            ? new IssueSearchQuery(title, null, null, status, priority, type, reportedById, assignedToId, assetId)
+            : new IssueSearchQuery(null, title, description, status, priority, type, reportedById, assignedToId, assetId);
+        Set<Long> related = indexedRelatedMatches(query);
+        if (related != null) {
+            if (!pageable.getSort().isSorted()) {
+                IssueSearchIndex.Result matches = searchIndex(query, related, pageable);
+                return new PageImpl<>(loadInOrder(matches.ids()), pageable, matches.total())
+                    .map(IssueResponseDTO::fromEntity);
+            }
+            IssueSearchIndex.Result matches = issueSearchIndex.search(query, related, 0, MAX_SORTED_SEARCH_IDS);
+            if (matches.total() == 0) {
+                return Page.empty(pageable);
+            }
+            if (matches.total() <= MAX_SORTED_SEARCH_IDS) {
+                return findPage(hasIdIn(matches.ids()), pageable).map(IssueResponseDTO::fromEntity);
+            }
+        }
+        
         if (isGlobalSearch) {
             spec = spec.and(hasGlobalSearch(title));
         } else {
@@ -480,7 +553,110 @@ public class IssueServiceImpl implements IssueService {
             .and(hasAssignedTo(assignedToId))
             .and(hasAsset(assetId));
             
-        return issueRepository.findAll(spec, pageable).map(IssueResponseDTO::fromEntity);
+        return findPage(spec, pageable).map(IssueResponseDTO::fromEntity);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IssueSearchHitDTO> searchIssuesRanked(String text, String status, String priority, String type,
+            Long reportedById, Long assignedToId, Long assetId, Pageable pageable) {
+        IssueSearchQuery query = new IssueSearchQuery(text, null, null, status, priority, type,
+            reportedById, assignedToId, assetId);
+        List<String> words = query.words();
+        
+        Set<Long> related = indexedRelatedMatches(query);
+        if (related == null) {
+            // Unranked fallback while the index is building, for one-letter queries or for text
+            // matching too many related names
+            Specification<Issue> spec = Specification.where(hasGlobalSearch(text))
+                .and(hasStatus(status))
+                .and(hasPriority(priority))
+                .and(hasType(type))
+                .and(hasReportedBy(reportedById))
+                .and(hasAssignedTo(assignedToId))
+                .and(hasAsset(assetId));
+            return findPage(spec, pageable).map(issue -> toSearchHit(issue, 0, words));
+        }
+        
+        IssueSearchIndex.Result matches = searchIndex(query, related, pageable);
+        List<Issue> issues = loadInOrder(matches.ids());
+        Map<Long, Float> scores = new HashMap<>();
+        matches.hits().forEach(hit -> scores.put(hit.id(), hit.score()));
+        List<IssueSearchHitDTO> content = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            content.add(toSearchHit(issue, scores.get(issue.getId()), words));
+        }
+        return new PageImpl<>(content, pageable, matches.total());
+    }
+    
+    private IssueSearchIndex.Result searchIndex(IssueSearchQuery query, Set<Long> related, Pageable pageable) {
+        return pageable.isPaged()
+            ? issueSearchIndex.search(query, related, (int) pageable.getOffset(), pageable.getPageSize())
+            : issueSearchIndex.search(query, related, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Issues a global search matches through asset name or tag, reporter or assignee, which the
+     * index does not hold; the same substring match the database search applies to those columns.
+     * Returns null when the index cannot answer the query, including when the text matches more
+     * than {@link #MAX_RELATED_MATCHES} issues that way.
+     */
+    private Set<Long> indexedRelatedMatches(IssueSearchQuery query) {
+        if (!issueSearchIndex.isReady() || !issueSearchIndex.canSearch(query)) {
+            return null;
+        }
+        if (query.text() == null || query.text().isBlank()) {
+            return Set.of();
+        }
+        String pattern = "%" + query.text().trim().toLowerCase(Locale.ROOT) + "%";
+        List<Long> ids = issueRepository.findIdsByRelatedNameLike(pattern, MAX_RELATED_MATCHES + 1);
+        return ids.size() > MAX_RELATED_MATCHES ? null : new HashSet<>(ids);
+    }
+    
+    /**
+     * Two-phase page for Specification searches: page over the bare ids first, then hydrate only
+     * those rows with their associations joined in. Fetch-joining inside the filtered, paged query
+     * itself would mix the filter joins with the fetch joins and count over the wider statement.
+     */
+    private Page<Issue> findPage(Specification<Issue> spec, Pageable pageable) {
+        Page<Long> ids = issueRepository.findIds(spec, pageable);
+        return new PageImpl<>(loadInOrder(ids.getContent()), pageable, ids.getTotalElements());
+    }
+    
+    /**
+     * Loads the issues with the given ids in that order, skipping any deleted since they were
+     * ranked.
+     */
+    private List<Issue> loadInOrder(List<Long> ids) {
+        Map<Long, Issue> issuesById = new HashMap<>();
+        issueRepository.findAllById(ids).forEach(issue -> issuesById.put(issue.getId(), issue));
+        List<Issue> issues = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Issue issue = issuesById.get(id);
+            if (issue != null) {
+                issues.add(issue);
+            }
+        }
+        return issues;
+    }
+    
+    private static IssueSearchHitDTO toSearchHit(Issue issue, double score, List<String> words) {
+        IssueSearchHitDTO hit = new IssueSearchHitDTO();
+        hit.setIssue(IssueResponseDTO.fromEntity(issue));
+        hit.setScore(score);
+        hit.setHighlightedTitle(SearchHighlighter.highlight(issue.getTitle(), words));
+        String snippet = SearchHighlighter.snippet(issue.getDescription(), words, SNIPPET_LENGTH);
+        if (snippet != null) {
+            hit.setSnippet(snippet);
+            hit.setSnippetField("description");
+        } else {
+            snippet = SearchHighlighter.snippet(issue.getResolutionNotes(), words, SNIPPET_LENGTH);
+            if (snippet != null) {
+                hit.setSnippet(snippet);
+                hit.setSnippetField("resolutionNotes");
+            }
+        }
+        return hit;
     }
     
     private void addSystemMessage(Long issueId, String messageText) {
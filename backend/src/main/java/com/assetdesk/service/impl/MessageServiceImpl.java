@@ -12,6 +12,7 @@ import com.assetdesk.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
@@ -26,7 +27,7 @@ public class MessageServiceImpl implements MessageService {
     private final IssueRepository issueRepository;
     private final UserRepository userRepository;
     private final AppConfig appConfig;
-    private final com.assetdesk.service.NotificationService notificationService;
+    private final com.assetdesk.service.NotificationOutboxService notificationOutbox;
     
     @Override
     public MessageResponseDTO sendMessage(MessageRequestDTO messageRequestDTO, Long senderId) {
@@ -51,7 +52,8 @@ public class MessageServiceImpl implements MessageService {
             // Notify issue reporter if sender is not the reporter
             if (issue.getReportedBy() != null && issue.getReportedBy().getId() != null && 
                 issue.getReportedBy().getId() > 0 && !issue.getReportedBy().getId().equals(senderId)) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "message:" + savedMessage.getId() + ":reporter",
                     issue.getReportedBy().getId(),
                     "New Message",
                     sender.getName() + " sent a message on issue: " + issue.getTitle(),
@@ -64,7 +66,8 @@ public class MessageServiceImpl implements MessageService {
             // Notify assigned user if sender is not the assigned user
             if (issue.getAssignedTo() != null && issue.getAssignedTo().getId() != null && 
                 issue.getAssignedTo().getId() > 0 && !issue.getAssignedTo().getId().equals(senderId)) {
-                notificationService.createNotification(
+                notificationOutbox.publish(
+                    "message:" + savedMessage.getId() + ":assignee",
                     issue.getAssignedTo().getId(),
                     "New Message",
                     sender.getName() + " sent a message on issue: " + issue.getTitle(),
@@ -149,7 +152,8 @@ public class MessageServiceImpl implements MessageService {
                 // Notify issue reporter if sender is not the reporter
                 if (issue.getReportedBy() != null && issue.getReportedBy().getId() != null && 
                     issue.getReportedBy().getId() > 0 && !issue.getReportedBy().getId().equals(senderId)) {
-                    notificationService.createNotification(
+                    notificationOutbox.publish(
+                        "message:" + savedMessage.getId() + ":reporter",
                         issue.getReportedBy().getId(),
                         "New Message",
                         sender.getName() + " sent a message on issue: " + issue.getTitle(),
@@ -162,7 +166,8 @@ public class MessageServiceImpl implements MessageService {
                 // Notify assigned user if sender is not the assigned user
                 if (issue.getAssignedTo() != null && issue.getAssignedTo().getId() != null && 
                     issue.getAssignedTo().getId() > 0 && !issue.getAssignedTo().getId().equals(senderId)) {
-                    notificationService.createNotification(
+                    notificationOutbox.publish(
+                        "message:" + savedMessage.getId() + ":assignee",
                         issue.getAssignedTo().getId(),
                         "New Message",
                         sender.getName() + " sent a message on issue: " + issue.getTitle(),
@@ -224,10 +229,19 @@ public class MessageServiceImpl implements MessageService {
     
     @Override
     public void markAsRead(Long id) {
-        Message message = messageRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Message", "id", id));
-        message.setIsRead(true);
-        messageRepository.save(message);
+        // Nothing updated means it was already read, or it does not exist
+        if (messageRepository.markReadById(id) == 0 && !messageRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Message", "id", id);
+        }
+    }
+    
+    @Override
+    public int markIssueMessagesAsRead(Long issueId, LocalDateTime upTo) {
+        int updated = messageRepository.markIssueMessagesReadUpTo(issueId, upTo);
+        if (updated == 0 && !issueRepository.existsById(issueId)) {
+            throw new ResourceNotFoundException("Issue", "id", issueId);
+        }
+        return updated;
     }
     
     @Override
@@ -0,0 +1,240 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.NotificationOutboxEvent;
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.notification.NotificationPushDTO;
+import com.assetdesk.repository.NotificationOutboxRepository;
+import com.assetdesk.service.NotificationOutboxService;
+import com.assetdesk.service.NotificationService;
+import com.assetdesk.service.SSEService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationService notificationService;
+    private final SSEService sseService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    
+    private final Counter delivered;
+    private final Counter duplicates;
+    private final Counter failures;
+    private final Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingSeconds = new AtomicLong();
+    
+    public NotificationOutboxServiceImpl(NotificationOutboxRepository outboxRepository,
+                                         NotificationService notificationService,
+                                         SSEService sseService,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${app.notifications.outbox.batch-size:200}") int batchSize,
+                                         @Value("${app.notifications.outbox.concurrency:4}") int concurrency,
+                                         @Value("${app.notifications.outbox.max-attempts:10}") int maxAttempts,
+                                         @Value("${app.notifications.outbox.retention-days:7}") long retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.notificationService = notificationService;
+        this.sseService = sseService;
+        // Each event is delivered in its own transaction so one bad event cannot roll back the batch
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("notification-outbox-", 0).factory());
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofDays(retentionDays);
+        
+        this.delivered = Counter.builder("notification.outbox.events").tag("result", "delivered").register(meterRegistry);
+        this.duplicates = Counter.builder("notification.outbox.events").tag("result", "duplicate").register(meterRegistry);
+        this.failures = Counter.builder("notification.outbox.events").tag("result", "failed").register(meterRegistry);
+        // Time from the business commit's event to its notifications being written
+        this.deliveryLag = Timer.builder("notification.outbox.lag").register(meterRegistry);
+        Gauge.builder("notification.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("notification.outbox.oldest.pending.seconds", oldestPendingSeconds, AtomicLong::get).register(meterRegistry);
+    }
+    
+    @Override
+    @Transactional
+    public void publish(String dedupKey, Long userId, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId) {
+        if (userId == null) {
+            return;
+        }
+        NotificationOutboxEvent event = event(dedupKey, title, message, type, relatedIssueId, relatedAssetId);
+        event.setRecipientUserId(userId);
+        outboxRepository.save(event);
+    }
+    
+    @Override
+    @Transactional
+    public void publishToRoles(String dedupKey, Collection<User.Role> roles, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId) {
+        if (roles.isEmpty()) {
+            return;
+        }
+        NotificationOutboxEvent event = event(dedupKey, title, message, type, relatedIssueId, relatedAssetId);
+        event.setRecipientRoles(roles.stream().map(Enum::name).sorted().collect(Collectors.joining(",")));
+        outboxRepository.save(event);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        dispatchPending();
+    }
+    
+    @Override
+    public int dispatchPending() {
+        int deliveredCount = 0;
+        while (true) {
+            List<NotificationOutboxEvent> batch = outboxRepository.findPending(maxAttempts, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            
+            // Events sharing a dedup key stay on one worker in id order, so only the first is delivered
+            Map<Object, List<NotificationOutboxEvent>> groups = new LinkedHashMap<>();
+            for (NotificationOutboxEvent event : batch) {
+                Object key = event.getDedupKey() != null ? event.getDedupKey() : event.getId();
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+            }
+            List<Future<Outcome[]>> futures = new ArrayList<>(groups.size());
+            for (List<NotificationOutboxEvent> group : groups.values()) {
+                futures.add(executor.submit(() -> group.stream().map(this::deliver).toArray(Outcome[]::new)));
+            }
+            
+            boolean failed = false;
+            for (Future<Outcome[]> future : futures) {
+                for (Outcome outcome : await(future)) {
+                    deliveredCount += outcome == Outcome.DELIVERED ? 1 : 0;
+                    failed |= outcome == Outcome.FAILED;
+                }
+            }
+            // Failed events stay pending; leave them for the next poll rather than spinning on them
+            if (failed || batch.size() < batchSize) {
+                break;
+            }
+        }
+        refreshLag();
+        return deliveredCount;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.cleanup-interval-ms:3600000}")
+    public void purgeDispatched() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer removed = transactionTemplate.execute(status -> outboxRepository.deleteDispatchedBefore(cutoff));
+        log.debug("Purged {} dispatched notification outbox events", removed);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private Outcome deliver(NotificationOutboxEvent event) {
+        try {
+            Integer recipients = transactionTemplate.execute(status -> {
+                if (outboxRepository.markDispatched(event.getId(), LocalDateTime.now()) == 0) {
+                    return null;
+                }
+                if (event.getDedupKey() != null
+                        && outboxRepository.existsByDedupKeyAndIdNotAndDispatchedAtIsNotNull(event.getDedupKey(), event.getId())) {
+                    return null;
+                }
+                return createNotifications(event);
+            });
+            if (recipients == null) {
+                duplicates.increment();
+                return Outcome.DUPLICATE;
+            }
+            delivered.increment();
+            deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            sseService.sendUpdate("notification-created", NotificationPushDTO.fromEvent(event, recipients));
+            return Outcome.DELIVERED;
+        } catch (Exception e) {
+            log.warn("Notification outbox event {} failed (attempt {})", event.getId(), event.getAttempts() + 1, e);
+            failures.increment();
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.recordFailure(event.getId(),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error));
+            return Outcome.FAILED;
+        }
+    }
+    
+    private int createNotifications(NotificationOutboxEvent event) {
+        if (event.getRecipientUserId() != null) {
+            return notificationService.notifyUsers(List.of(event.getRecipientUserId()), event.getTitle(), event.getMessage(),
+                event.getType(), event.getRelatedIssueId(), event.getRelatedAssetId());
+        }
+        List<User.Role> roles = Arrays.stream(event.getRecipientRoles().split(","))
+            .map(User.Role::valueOf)
+            .toList();
+        return notificationService.notifyRoles(roles, event.getTitle(), event.getMessage(),
+            event.getType(), event.getRelatedIssueId(), event.getRelatedAssetId());
+    }
+    
+    private void refreshLag() {
+        pending.set(outboxRepository.countPending(maxAttempts));
+        LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt(maxAttempts);
+        oldestPendingSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+    
+    private static Outcome[] await(Future<Outcome[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dispatching notifications", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Notification dispatch worker failed", e.getCause());
+        }
+    }
+    
+    private static NotificationOutboxEvent event(String dedupKey, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId) {
+        NotificationOutboxEvent event = new NotificationOutboxEvent();
+        event.setDedupKey(dedupKey);
+        event.setTitle(title);
+        event.setMessage(message);
+        event.setType(type);
+        event.setRelatedIssueId(relatedIssueId);
+        event.setRelatedAssetId(relatedAssetId);
+        return event;
+    }
+    
+    private enum Outcome {
+        DELIVERED, DUPLICATE, FAILED
+    }
+}
@@ -1,7 +1,12 @@
 package com.assetdesk.service.impl;
 
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.CursorPageDTO;
 import com.assetdesk.dto.notification.NotificationResponseDTO;
 import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.NotificationReceipt;
+import com.assetdesk.domain.User;
+import com.assetdesk.repository.NotificationReceiptRepository;
 import com.assetdesk.repository.NotificationRepository;
 import com.assetdesk.repository.UserRepository;
 import com.assetdesk.service.NotificationService;
@@ -9,6 +14,7 @@ import com.assetdesk.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
@@ -20,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 public class NotificationServiceImpl implements NotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final NotificationReceiptRepository receiptRepository;
     private final UserRepository userRepository;
     
     @Override
@@ -35,77 +42,124 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
         
-        Notification notification = new Notification();
-        notification.setUser(userOptional.get());
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setType(type);
-        notification.setRelatedIssueId(relatedIssueId);
-        notification.setRelatedAssetId(relatedAssetId);
-        
-        notificationRepository.save(notification);
+        Notification notification = notificationRepository.save(content(title, message, type, relatedIssueId, relatedAssetId));
+        NotificationReceipt receipt = new NotificationReceipt();
+        receipt.setUser(userOptional.get());
+        receipt.setNotification(notification);
+        receipt.setCreatedAt(notification.getCreatedAt());
+        receiptRepository.save(receipt);
+    }
+    
+    @Override
+    public int notifyUsers(Collection<Long> userIds, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId) {
+        return notificationRepository.insertForUsers(content(title, message, type, relatedIssueId, relatedAssetId), userIds);
+    }
+    
+    @Override
+    public int notifyRoles(Collection<User.Role> roles, String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId) {
+        return notificationRepository.insertForRoles(content(title, message, type, relatedIssueId, relatedAssetId), roles);
+    }
+    
+    private static Notification content(String title, String message, Notification.Type type, Long relatedIssueId, Long relatedAssetId) {
+        Notification content = new Notification();
+        content.setTitle(title);
+        content.setMessage(message);
+        content.setType(type);
+        content.setRelatedIssueId(relatedIssueId);
+        content.setRelatedAssetId(relatedAssetId);
+        return content;
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<NotificationResponseDTO> getAllNotifications(Pageable pageable) {
-        return notificationRepository.findAll(pageable)
-            .map(NotificationResponseDTO::fromEntity);
+        return receiptRepository.findAll(pageable)
+            .map(NotificationResponseDTO::fromReceipt);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<NotificationResponseDTO> getNotificationsByUser(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
-            .map(NotificationResponseDTO::fromEntity)
+        return receiptRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+            .map(NotificationResponseDTO::fromReceipt)
             .collect(Collectors.toList());
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<NotificationResponseDTO> getUnreadNotificationsByUser(Long userId) {
-        return notificationRepository.findUnreadNotificationsByUserId(userId).stream()
-            .map(NotificationResponseDTO::fromEntity)
+        return receiptRepository.findUnreadByUserId(userId).stream()
+            .map(NotificationResponseDTO::fromReceipt)
             .collect(Collectors.toList());
     }
     
     @Override
     @Transactional(readOnly = true)
     public Long getUnreadNotificationCount(Long userId) {
-        return notificationRepository.countUnreadNotificationsByUserId(userId);
+        return receiptRepository.countUnreadByUserId(userId);
     }
     
     @Override
     public void markAsRead(Long notificationId) {
-        Notification notification = notificationRepository.findById(notificationId)
-            .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+        // Nothing updated means it was already read, or it does not exist
+        if (receiptRepository.markReadById(notificationId) == 0 && !receiptRepository.existsById(notificationId)) {
+            throw new ResourceNotFoundException("Notification", "id", notificationId);
+        }
     }
     
     @Override
-    public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findUnreadNotificationsByUserId(userId);
-        unreadNotifications.forEach(notification -> notification.setIsRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+    public int markAllAsRead(Long userId) {
+        return receiptRepository.markAllReadByUserId(userId);
+    }
+    
+    @Override
+    public int markAsRead(Long userId, Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return receiptRepository.markReadByUserIdAndIdIn(userId, notificationIds);
     }
     
     @Override
     public void deleteNotification(Long id) {
-        notificationRepository.deleteById(id);
+        // Deletes this user's copy; the shared body goes with the last one
+        receiptRepository.findById(id).ifPresent(receipt -> {
+            Long notificationId = receipt.getNotification().getId();
+            receiptRepository.delete(receipt);
+            receiptRepository.flush();
+            notificationRepository.deleteIfUnreferenced(notificationId);
+        });
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<NotificationResponseDTO> getNotificationsByUserPaged(Long userId, Pageable pageable) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
-            .map(NotificationResponseDTO::fromEntity);
+        return receiptRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+            .map(NotificationResponseDTO::fromReceipt);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NotificationResponseDTO> getNotificationsByUser(Long userId, String cursor, int size, boolean includeTotal) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor position = Cursor.decode(cursor);
+        Pageable limit = CursorPageDTO.fetchLimit(pageSize);
+        List<NotificationReceipt> rows = position == null
+            ? receiptRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+            : receiptRepository.findByUserIdBefore(userId, position.sortKeyAsDateTime(), position.id(), limit);
+        CursorPageDTO<NotificationResponseDTO> page = CursorPageDTO.fromRows(rows, pageSize,
+            receipt -> new Cursor(receipt.getCreatedAt().toString(), receipt.getId()),
+            NotificationResponseDTO::fromReceipt);
+        if (includeTotal) {
+            page.setTotalElements(receiptRepository.countByUserId(userId));
+        }
+        return page;
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<NotificationResponseDTO> getUnreadNotificationsByUserPaged(Long userId, Pageable pageable) {
-        return notificationRepository.findUnreadNotificationsByUserId(userId, pageable)
-            .map(NotificationResponseDTO::fromEntity);
+        return receiptRepository.findUnreadByUserId(userId, pageable)
+            .map(NotificationResponseDTO::fromReceipt);
     }
 }
\ No newline at end of file
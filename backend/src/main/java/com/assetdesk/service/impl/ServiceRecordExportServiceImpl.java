@@ -0,0 +1,134 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.ServiceRecord;
+import com.assetdesk.dto.ServiceRecordExportFilter;
+import com.assetdesk.repository.ServiceRecordRepository;
+import com.assetdesk.service.ServiceRecordExportService;
+import com.assetdesk.spec.ServiceRecordSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class ServiceRecordExportServiceImpl implements ServiceRecordExportService {
+    
+    private static final String CSV_HEADER =
+        "ID,AssetTag,AssetName,ServiceType,ServiceDate,Description,Cost,VendorName,TechnicianName,Status\n";
+    
+    private final ServiceRecordRepository serviceRecordRepository;
+    private final int fetchSize;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public ServiceRecordExportServiceImpl(ServiceRecordRepository serviceRecordRepository,
+                                          @Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.serviceRecordRepository = serviceRecordRepository;
+        this.fetchSize = fetchSize;
+    }
+    
+    @Override
+    public long count(ServiceRecordExportFilter filter) {
+        return serviceRecordRepository.count(ServiceRecordSpecifications.matchesExportFilter(filter));
+    }
+    
+    // Overridden here rather than defaulted on the interface so the class-level transaction applies
+    @Override
+    public long writeCsv(ServiceRecordExportFilter filter, OutputStream out) throws IOException {
+        return writeCsv(filter, out, rows -> { });
+    }
+    
+    @Override
+    public long writeCsv(ServiceRecordExportFilter filter, OutputStream out, LongConsumer progress) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        
+        long rows = 0;
+        try (Stream<ServiceRecord> records = stream(filter)) {
+            Iterator<ServiceRecord> it = records.iterator();
+            while (it.hasNext()) {
+                ServiceRecord r = it.next();
+                writer.write(String.join(",",
+                    String.valueOf(r.getId()),
+                    safe(r.getAsset() != null ? r.getAsset().getAssetTag() : ""),
+                    safe(r.getAsset() != null ? r.getAsset().getName() : ""),
+                    safe(r.getServiceType()),
+                    safe(r.getServiceDate() != null ? r.getServiceDate().toString() : ""),
+                    safe(r.getServiceDescription()),
+                    safe(r.getCost() != null ? r.getCost().toString() : ""),
+                    safe(r.getVendor() != null ? r.getVendor().getName() : ""),
+                    safe(r.getPerformedBy()),
+                    safe(r.getStatus())));
+                writer.write('\n');
+                if (++rows % fetchSize == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                    progress.accept(rows);
+                }
+            }
+        }
+        writer.flush();
+        progress.accept(rows);
+        return rows;
+    }
+    
+    @Override
+    public long writePdf(ServiceRecordExportFilter filter, OutputStream out) {
+        return writePdf(filter, out, rows -> { });
+    }
+    
+    @Override
+    public long writePdf(ServiceRecordExportFilter filter, OutputStream out, LongConsumer progress) {
+        ChunkedPdfTable pdf = new ChunkedPdfTable(out, "Service Records Report", fetchSize,
+            "Asset Tag", "Asset Name", "Service Type", "Service Date", "Description", "Cost", "Vendor", "Status");
+        
+        try (Stream<ServiceRecord> records = stream(filter)) {
+            Iterator<ServiceRecord> it = records.iterator();
+            while (it.hasNext()) {
+                ServiceRecord r = it.next();
+                boolean flushed = pdf.addRow(
+                    r.getAsset() != null ? r.getAsset().getAssetTag() : "",
+                    r.getAsset() != null ? r.getAsset().getName() : "",
+                    r.getServiceType(),
+                    r.getServiceDate() != null ? r.getServiceDate().toString() : "",
+                    r.getServiceDescription(),
+                    r.getCost() != null ? r.getCost().toString() : "",
+                    r.getVendor() != null ? r.getVendor().getName() : "",
+                    r.getStatus());
+                if (flushed) {
+                    entityManager.clear();
+                    progress.accept(pdf.getRows());
+                }
+            }
+        }
+        long rows = pdf.finish();
+        progress.accept(rows);
+        return rows;
+    }
+    
+    private Stream<ServiceRecord> stream(ServiceRecordExportFilter filter) {
+        return serviceRecordRepository.streamAll(ServiceRecordSpecifications.matchesExportFilter(filter), fetchSize);
+    }
+    
+    private static String safe(String s) {
+        if (s == null) return "";
+        String escaped = s.replace("\"", "\"\"");
+        if (escaped.contains(",") || escaped.contains("\n") || escaped.contains("\r") || escaped.contains("\"")) {
+            return "\"" + escaped + "\"";
+        }
+        return escaped;
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,8 +27,8 @@ public class ServiceRecordServiceImpl implements ServiceRecordService {
     private final ServiceRecordRepository serviceRecordRepository;
     private final AssetRepository assetRepository;
     private final VendorRepository vendorRepository;
-    private final com.assetdesk.service.NotificationService notificationService;
-    private final com.assetdesk.repository.UserRepository userRepository;
+    private final com.assetdesk.service.NotificationOutboxService notificationOutbox;
+    private final com.assetdesk.service.ActivityFeedService activityFeedService;
     
     @Override
     @Transactional
@@ -37,7 +38,7 @@ public class ServiceRecordServiceImpl implements ServiceRecordService {
         }
         
         ServiceRecord serviceRecord = new ServiceRecord();
-        serviceRecord.setAsset(assetRepository.findById(request.getAssetId())
+        serviceRecord.setAsset(assetRepository.findByIdWithVendor(request.getAssetId())
             .orElseThrow(() -> new ResourceNotFoundException("Asset", "id", request.getAssetId())));
         serviceRecord.setServiceDate(request.getServiceDate());
         serviceRecord.setServiceDescription(request.getDescription());
@@ -53,21 +54,20 @@ public class ServiceRecordServiceImpl implements ServiceRecordService {
         }
         
         ServiceRecord savedRecord = serviceRecordRepository.save(serviceRecord);
+        activityFeedService.recordService(savedRecord);
         
         // Create notification for service completion
         try {
             // Notify IT support
-            List<com.assetdesk.domain.User> itUsers = userRepository.findByRole(com.assetdesk.domain.User.Role.IT_SUPPORT);
-            for (com.assetdesk.domain.User itUser : itUsers) {
-                notificationService.createNotification(
-                    itUser.getId(),
-                    "Service Record Created",
-                    "New service record created for asset '" + serviceRecord.getAsset().getName() + "'",
-                    com.assetdesk.domain.Notification.Type.INFO,
-                    null,
-                    serviceRecord.getAsset().getId()
-                );
-            }
+            notificationOutbox.publishToRoles(
+                "service-record:" + savedRecord.getId() + ":created",
+                Set.of(com.assetdesk.domain.User.Role.IT_SUPPORT),
+                "Service Record Created",
+                "New service record created for asset '" + serviceRecord.getAsset().getName() + "'",
+                com.assetdesk.domain.Notification.Type.INFO,
+                null,
+                serviceRecord.getAsset().getId()
+            );
         } catch (Exception e) {
             System.out.println("Failed to create service notification: " + e.getMessage());
         }
@@ -78,7 +78,7 @@ public class ServiceRecordServiceImpl implements ServiceRecordService {
     @Override
     @Transactional(readOnly = true)
     public ServiceRecord getServiceRecordById(Long id) {
-        return serviceRecordRepository.findById(id)
+        return serviceRecordRepository.findWithDetailsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("ServiceRecord", "id", id));
     }
     
@@ -130,7 +130,8 @@ public class ServiceRecordServiceImpl implements ServiceRecordService {
         ServiceRecord serviceRecord = serviceRecordRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("ServiceRecord", "id", id));
         
-        serviceRecord.setAsset(assetRepository.findById(request.getAssetId())
+        // The updated entity is serialized as-is, so load the asset together with its vendor
+        serviceRecord.setAsset(assetRepository.findByIdWithVendor(request.getAssetId())
             .orElseThrow(() -> new ResourceNotFoundException("Asset", "id", request.getAssetId())));
         serviceRecord.setServiceDate(request.getServiceDate());
         serviceRecord.setServiceDescription(request.getDescription());
@@ -0,0 +1,165 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.MonthlyRollup;
+import com.assetdesk.exception.InvalidOperationException;
+import com.assetdesk.repository.MonthlyRollupRepository;
+import com.assetdesk.service.TrendRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class TrendRollupServiceImpl implements TrendRollupService {
+    
+    private static final Set<Integer> SUPPORTED_WINDOWS = Set.of(6, 12, 36);
+    private static final DateTimeFormatter MONTH_KEY = DateTimeFormatter.ofPattern("MMM yyyy");
+    
+    private final MonthlyRollupRepository rollupRepository;
+    
+    @Override
+    public void recordAssetPurchase(Asset asset) {
+        adjustAssetPurchase(asset.getPurchaseDate(), asset.getCategory(), 1);
+    }
+    
+    @Override
+    public void recordAssetPurchaseChange(LocalDate oldPurchaseDate, Asset.Category oldCategory, Asset asset) {
+        if (Objects.equals(oldPurchaseDate, asset.getPurchaseDate()) && oldCategory == asset.getCategory()) {
+            return;
+        }
+        adjustAssetPurchase(oldPurchaseDate, oldCategory, -1);
+        adjustAssetPurchase(asset.getPurchaseDate(), asset.getCategory(), 1);
+    }
+    
+    @Override
+    public void removeAssetPurchase(Asset asset) {
+        adjustAssetPurchase(asset.getPurchaseDate(), asset.getCategory(), -1);
+    }
+    
+    @Override
+    public void recordIssueCreated(Issue issue) {
+        adjustIssueCreated(issue, 1);
+    }
+    
+    @Override
+    public void recordIssuePriorityChange(Issue.Priority oldPriority, Issue issue) {
+        if (oldPriority == issue.getPriority() || issue.getCreatedAt() == null) {
+            return;
+        }
+        LocalDate month = issue.getCreatedAt().toLocalDate().withDayOfMonth(1);
+        String metric = MonthlyRollup.Metric.ISSUES_CREATED.name();
+        if (oldPriority != null) {
+            rollupRepository.increment(month, metric, oldPriority.name(), -1);
+        }
+        if (issue.getPriority() != null) {
+            rollupRepository.increment(month, metric, issue.getPriority().name(), 1);
+        }
+    }
+    
+    @Override
+    public void removeIssueCreated(Issue issue) {
+        adjustIssueCreated(issue, -1);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getMonthlyTrend(MonthlyRollup.Metric metric, int months) {
+        return getMonthlyTrend(metric, MonthlyRollup.ALL, months);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getMonthlyTrend(MonthlyRollup.Metric metric, String dimension, int months) {
+        if (!SUPPORTED_WINDOWS.contains(months)) {
+            throw new InvalidOperationException("Trend window must be one of 6, 12 or 36 months");
+        }
+        LocalDate to = LocalDate.now().withDayOfMonth(1);
+        LocalDate from = to.minusMonths(months - 1);
+        
+        Map<String, Long> trends = new LinkedHashMap<>();
+        for (LocalDate month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            trends.put(month.format(MONTH_KEY), 0L);
+        }
+        for (MonthlyRollup rollup : rollupRepository.findByMetricAndDimensionAndMonthBetweenOrderByMonth(metric, dimension, from, to)) {
+            trends.put(rollup.getMonth().format(MONTH_KEY), rollup.getTotal());
+        }
+        return trends;
+    }
+    
+    @Override
+    public int backfill() {
+        rollupRepository.deleteByMetric(MonthlyRollup.Metric.ASSET_PURCHASES);
+        rollupRepository.deleteByMetric(MonthlyRollup.Metric.ISSUES_CREATED);
+        
+        List<MonthlyRollup> rollups = new ArrayList<>();
+        rollups.addAll(toRollups(MonthlyRollup.Metric.ASSET_PURCHASES, rollupRepository.countAssetPurchasesByMonthAndCategory()));
+        rollups.addAll(toRollups(MonthlyRollup.Metric.ISSUES_CREATED, rollupRepository.countIssuesCreatedByMonthAndPriority()));
+        rollupRepository.saveAll(rollups);
+        return rollups.size();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0) {
+            int rows = backfill();
+            log.info("Backfilled {} monthly rollup rows", rows);
+        }
+    }
+    
+    private void adjustAssetPurchase(LocalDate purchaseDate, Asset.Category category, long delta) {
+        if (purchaseDate == null) {
+            return;
+        }
+        increment(MonthlyRollup.Metric.ASSET_PURCHASES, purchaseDate, category, delta);
+    }
+    
+    private void adjustIssueCreated(Issue issue, long delta) {
+        if (issue.getCreatedAt() == null) {
+            return;
+        }
+        increment(MonthlyRollup.Metric.ISSUES_CREATED, issue.getCreatedAt().toLocalDate(), issue.getPriority(), delta);
+    }
+    
+    private void increment(MonthlyRollup.Metric metric, LocalDate date, Enum<?> dimension, long delta) {
+        LocalDate month = date.withDayOfMonth(1);
+        rollupRepository.increment(month, metric.name(), MonthlyRollup.ALL, delta);
+        if (dimension != null) {
+            rollupRepository.increment(month, metric.name(), dimension.name(), delta);
+        }
+    }
+    
+    private List<MonthlyRollup> toRollups(MonthlyRollup.Metric metric, List<Object[]> rows) {
+        Map<String, MonthlyRollup> byKey = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            LocalDate month = LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), 1);
+            long count = ((Number) row[3]).longValue();
+            accumulate(byKey, metric, month, MonthlyRollup.ALL, count);
+            if (row[2] != null) {
+                accumulate(byKey, metric, month, row[2].toString(), count);
+            }
+        }
+        return new ArrayList<>(byKey.values());
+    }
+    
+    private void accumulate(Map<String, MonthlyRollup> byKey, MonthlyRollup.Metric metric, LocalDate month, String dimension, long count) {
+        MonthlyRollup rollup = byKey.computeIfAbsent(month + "|" + dimension, key -> {
+            MonthlyRollup created = new MonthlyRollup();
+            created.setMonth(month);
+            created.setMetric(metric);
+            created.setDimension(dimension);
+            return created;
+        });
+        rollup.setTotal(rollup.getTotal() + count);
+    }
+}
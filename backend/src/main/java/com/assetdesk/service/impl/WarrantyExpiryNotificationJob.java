@@ -1,48 +1,193 @@
 package com.assetdesk.service.impl;
 
 import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.JobCheckpoint;
 import com.assetdesk.domain.Notification;
 import com.assetdesk.domain.User;
+import com.assetdesk.domain.WarrantyAlert;
 import com.assetdesk.repository.AssetRepository;
-import com.assetdesk.repository.UserRepository;
+import com.assetdesk.repository.JobCheckpointRepository;
+import com.assetdesk.repository.WarrantyAlertRepository;
 import com.assetdesk.service.NotificationService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * Alerts admins and IT support about expiring warranties. Expiring assets are scanned in keyset
+ * chunks, each threshold crossing is recorded once as a {@link WarrantyAlert}, and everything new
+ * is summarised in a single digest notification per recipient at the end of the run.
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class WarrantyExpiryNotificationJob {
 
+    static final String JOB_NAME = "warranty-expiry-notifications";
+
+    private static final Set<User.Role> RECIPIENT_ROLES = Set.of(User.Role.ADMIN, User.Role.IT_SUPPORT);
+    // Assets listed by name in the digest; the rest are summarised as a count
+    private static final int DIGEST_LINE_LIMIT = 50;
+
     private final AssetRepository assetRepository;
-    private final UserRepository userRepository;
+    private final WarrantyAlertRepository alertRepository;
+    private final JobCheckpointRepository checkpointRepository;
     private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Integer> thresholds;
+    private final int chunkSize;
+
+    public WarrantyExpiryNotificationJob(AssetRepository assetRepository,
+                                         WarrantyAlertRepository alertRepository,
+                                         JobCheckpointRepository checkpointRepository,
+                                         NotificationService notificationService,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${app.warranty.alert-thresholds-days:30,7,1}") List<Integer> thresholds,
+                                         @Value("${app.warranty.alert-chunk-size:500}") int chunkSize) {
+        this.assetRepository = assetRepository;
+        this.alertRepository = alertRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.notificationService = notificationService;
+        // Each chunk commits together with its checkpoint
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.thresholds = thresholds.stream().sorted().toList();
+        this.chunkSize = chunkSize;
+    }
 
     // Runs daily at 08:00 server time
     @Scheduled(cron = "0 0 8 * * *")
     public void notifyWarrantyExpiring() {
-        int days = 30;
-        var start = java.time.LocalDate.now();
-        var end = start.plusDays(days);
-        var expiringList = assetRepository.findByWarrantyExpiryDateBetween(start, end, PageRequest.of(0, 500));
-        if (expiringList.hasContent()) {
-            List<User> admins = userRepository.findByRole(User.Role.ADMIN);
-            List<User> itSupport = userRepository.findByRole(User.Role.IT_SUPPORT);
-            for (Asset a : expiringList.getContent()) {
-                String title = "Warranty expiring soon";
-                String message = String.format("Asset %s (%s) warranty expires on %s", a.getName(), a.getAssetTag(), a.getWarrantyExpiryDate());
-                for (User u : admins) {
-                    notificationService.createNotification(u.getId(), title, message, Notification.Type.WARRANTY_EXPIRING, null, a.getId());
-                }
-                for (User u : itSupport) {
-                    notificationService.createNotification(u.getId(), title, message, Notification.Type.WARRANTY_EXPIRING, null, a.getId());
-                }
+        notifyWarrantyExpiring(LocalDate.now());
+    }
+
+    /**
+     * Runs the job for {@code today}. Calling it again for the same day resumes an interrupted run
+     * and is a no-op once the run has completed. Returns the number of alerts in the digest.
+     */
+    public int notifyWarrantyExpiring(LocalDate today) {
+        JobCheckpoint checkpoint = transactionTemplate.execute(status -> startRun(today));
+        if (checkpoint.getCompletedAt() != null) {
+            return 0;
+        }
+
+        LocalDate end = today.plusDays(thresholds.get(thresholds.size() - 1));
+        int recorded = 0;
+        boolean more = true;
+        while (more) {
+            int[] chunk = transactionTemplate.execute(status -> recordChunk(today, end));
+            recorded += chunk[1];
+            more = chunk[0] == chunkSize;
+        }
+
+        Integer digested = transactionTemplate.execute(status -> sendDigest(today));
+        log.info("Warranty expiry run for {}: {} new threshold alerts, {} in digest", today, recorded, digested);
+        return digested;
+    }
+
+    private JobCheckpoint startRun(LocalDate today) {
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseGet(() -> {
+            JobCheckpoint created = new JobCheckpoint();
+            created.setJobName(JOB_NAME);
+            return created;
+        });
+        if (!today.equals(checkpoint.getRunDate())) {
+            checkpoint.setRunDate(today);
+            checkpoint.setLastProcessedId(0L);
+            checkpoint.setCompletedAt(null);
+        }
+        return checkpointRepository.save(checkpoint);
+    }
+
+    // Returns {assets scanned, alerts recorded}
+    private int[] recordChunk(LocalDate today, LocalDate end) {
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseThrow();
+        List<Asset> assets = assetRepository.findWarrantyExpiringAfterId(today, end,
+            checkpoint.getLastProcessedId(), PageRequest.of(0, chunkSize));
+        if (assets.isEmpty()) {
+            return new int[] {0, 0};
+        }
+
+        Set<String> alerted = alertRepository.findByAssetIdIn(assets.stream().map(Asset::getId).toList()).stream()
+            .map(alert -> key(alert.getAssetId(), alert.getWarrantyExpiryDate(), alert.getThresholdDays()))
+            .collect(Collectors.toSet());
+        List<WarrantyAlert> alerts = new ArrayList<>();
+        for (Asset asset : assets) {
+            int threshold = thresholdFor(ChronoUnit.DAYS.between(today, asset.getWarrantyExpiryDate()));
+            if (alerted.contains(key(asset.getId(), asset.getWarrantyExpiryDate(), threshold))) {
+                continue;
             }
+            WarrantyAlert alert = new WarrantyAlert();
+            alert.setAssetId(asset.getId());
+            alert.setAssetTag(asset.getAssetTag());
+            alert.setAssetName(asset.getName());
+            alert.setWarrantyExpiryDate(asset.getWarrantyExpiryDate());
+            alert.setThresholdDays(threshold);
+            alerts.add(alert);
         }
+        alertRepository.saveAll(alerts);
+
+        checkpoint.setLastProcessedId(assets.get(assets.size() - 1).getId());
+        checkpointRepository.save(checkpoint);
+        return new int[] {assets.size(), alerts.size()};
+    }
+
+    // The tightest threshold the remaining days fall within; skipped days collapse into the most urgent one
+    private int thresholdFor(long daysLeft) {
+        for (int threshold : thresholds) {
+            if (daysLeft <= threshold) {
+                return threshold;
+            }
+        }
+        return thresholds.get(thresholds.size() - 1);
+    }
+
+    private static String key(Long assetId, LocalDate expiryDate, int threshold) {
+        return assetId + "|" + expiryDate + "|" + threshold;
     }
-}
 
+    // Also picks up alerts left undigested by an earlier run that stopped before this step
+    private int sendDigest(LocalDate today) {
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseThrow();
+        Long upToId = alertRepository.findMaxUndigestedId();
+        int digested = 0;
+        if (upToId != null) {
+            long total = alertRepository.countUndigested();
+            List<WarrantyAlert> listed = alertRepository.findUndigested(PageRequest.of(0, DIGEST_LINE_LIMIT));
+            Long relatedAssetId = total == 1 ? listed.get(0).getAssetId() : null;
+            notificationService.notifyRoles(RECIPIENT_ROLES, digestTitle(total), digestMessage(today, listed, total),
+                Notification.Type.WARRANTY_EXPIRING, null, relatedAssetId);
+            digested = alertRepository.markDigested(LocalDateTime.now(), upToId);
+        }
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        return digested;
+    }
+
+    private static String digestTitle(long total) {
+        return total == 1 ? "Warranty expiring soon" : total + " warranties expiring soon";
+    }
 
+    private static String digestMessage(LocalDate today, List<WarrantyAlert> listed, long total) {
+        List<String> lines = new ArrayList<>();
+        for (WarrantyAlert alert : listed) {
+            long daysLeft = Math.max(0, ChronoUnit.DAYS.between(today, alert.getWarrantyExpiryDate()));
+            lines.add(String.format("Asset %s (%s) warranty expires on %s (%d %s left)", alert.getAssetName(),
+                alert.getAssetTag(), alert.getWarrantyExpiryDate(), daysLeft, daysLeft == 1 ? "day" : "days"));
+        }
+        if (total > listed.size()) {
+            lines.add(String.format("...and %d more", total - listed.size()));
+        }
+        return String.join("\n", lines);
+    }
+}
@@ -1,8 +1,10 @@
 package com.assetdesk.spec;
 
 import com.assetdesk.domain.Asset;
+import com.assetdesk.dto.asset.AssetExportFilter;
 import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.JoinType;
+import java.util.Collection;
 import java.util.Locale;
 
 public class AssetSpecifications {
@@ -121,6 +123,22 @@ public class AssetSpecifications {
             return cb.lessThanOrEqualTo(root.get("cost"), cost);
         };
     }
-}
 
+    public static Specification<Asset> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            if (ids == null) return null;
+            if (ids.isEmpty()) return cb.disjunction();
+            return root.get("id").in(ids);
+        };
+    }
 
+    public static Specification<Asset> matchesExportFilter(AssetExportFilter filter) {
+        return Specification.where(hasCategory(filter.getCategory()))
+            .and(hasType(filter.getType()))
+            .and(hasStatus(filter.getStatus()))
+            .and(hasPurchaseDateAfter(filter.getDateFrom()))
+            .and(hasPurchaseDateBefore(filter.getDateTo()))
+            .and(hasCostGreaterThanOrEqual(filter.getCostMin()))
+            .and(hasCostLessThanOrEqual(filter.getCostMax()));
+    }
+}
@@ -3,6 +3,7 @@ package com.assetdesk.spec;
 import com.assetdesk.domain.Issue;
 import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.JoinType;
+import java.util.Collection;
 import java.util.Locale;
 
 public class IssueSpecifications {
@@ -98,4 +99,12 @@ public class IssueSpecifications {
             );
         };
     }
-}
\ No newline at end of file
+
+    public static Specification<Issue> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            if (ids == null) return null;
+            if (ids.isEmpty()) return cb.disjunction();
+            return root.get("id").in(ids);
+        };
+    }
+}
@@ -1,8 +1,10 @@
 package com.assetdesk.spec;
 
 import com.assetdesk.domain.ServiceRecord;
+import com.assetdesk.dto.ServiceRecordExportFilter;
 import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.JoinType;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Locale;
 
@@ -101,4 +103,42 @@ public class ServiceRecordSpecifications {
             );
         };
     }
-}
\ No newline at end of file
+
+    public static Specification<ServiceRecord> hasCostGreaterThanOrEqual(BigDecimal cost) {
+        return (root, query, cb) -> {
+            if (cost == null) return null;
+            return cb.greaterThanOrEqualTo(root.get("cost"), cost);
+        };
+    }
+
+    public static Specification<ServiceRecord> hasCostLessThanOrEqual(BigDecimal cost) {
+        return (root, query, cb) -> {
+            if (cost == null) return null;
+            return cb.lessThanOrEqualTo(root.get("cost"), cost);
+        };
+    }
+
+    public static Specification<ServiceRecord> hasServiceDateWithin(String dateRange) {
+        return (root, query, cb) -> {
+            if (dateRange == null || dateRange.isEmpty()) return null;
+            LocalDate now = LocalDate.now();
+            LocalDate since = switch (dateRange) {
+                case "week" -> now.minusWeeks(1);
+                case "month" -> now.minusMonths(1);
+                case "quarter" -> now.minusMonths(3);
+                case "year" -> now.minusYears(1);
+                default -> null;
+            };
+            if (since == null) return null;
+            return cb.greaterThanOrEqualTo(root.get("serviceDate"), since);
+        };
+    }
+
+    public static Specification<ServiceRecord> matchesExportFilter(ServiceRecordExportFilter filter) {
+        return Specification.where(hasServiceType(filter.getType()))
+            .and(hasCostGreaterThanOrEqual(filter.getCostMin()))
+            .and(hasCostLessThanOrEqual(filter.getCostMax()))
+            .and(hasServiceDateBetween(filter.getDateFrom(), filter.getDateTo()))
+            .and(hasServiceDateWithin(filter.getDateRange()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.assetdesk.cache;
+
+import com.assetdesk.dto.dashboard.DashboardStatsDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Snapshots are reused until a write invalidates them or they age out, a snapshot from an
+ * earlier day is never served, and a dashboard built from fallback sections is never cached.
+ */
+class DashboardSnapshotCacheTest {
+
+    private DashboardSnapshotCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2026, 3, 10, 12, 0).toInstant(ZoneOffset.UTC));
+
+    @BeforeEach
+    void setUp() {
+        cache = new DashboardSnapshotCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "staleWhileRevalidate", false);
+        ReflectionTestUtils.setField(cache, "maxAgeSeconds", 300L);
+        cache.clock = clock;
+    }
+
+    @Test
+    void completeSnapshotIsReusedUntilInvalidated() {
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        assertEquals(1, loads.get());
+
+        cache.invalidateAdmin();
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void snapshotExpiresAfterMaxAge() {
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        clock.advance(Duration.ofSeconds(299));
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        assertEquals(1, loads.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void snapshotFromYesterdayIsNotServedEvenWhileRevalidating() {
+        ReflectionTestUtils.setField(cache, "staleWhileRevalidate", true);
+        ReflectionTestUtils.setField(cache, "maxAgeSeconds", 86_400L);
+        clock.set(LocalDateTime.of(2026, 3, 10, 23, 59).toInstant(ZoneOffset.UTC));
+        cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+
+        clock.advance(Duration.ofMinutes(2));
+        DashboardStatsDTO afterMidnight = cache.get(DashboardSnapshotCache.adminKey(), () -> load(false, 11L));
+        assertEquals(11L, afterMidnight.getTotalAssets());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void degradedSnapshotIsNotCached() {
+        DashboardStatsDTO degraded = cache.get(DashboardSnapshotCache.adminKey(), () -> load(true));
+        assertEquals(0L, degraded.getTotalAssets());
+
+        DashboardStatsDTO complete = cache.get(DashboardSnapshotCache.adminKey(), () -> load(false));
+        assertEquals(10L, complete.getTotalAssets());
+        assertEquals(2, loads.get());
+    }
+
+    private DashboardStatsDTO load(boolean degraded) {
+        return load(degraded, degraded ? 0L : 10L);
+    }
+
+    private DashboardStatsDTO load(boolean degraded, long totalAssets) {
+        loads.incrementAndGet();
+        return DashboardStatsDTO.builder()
+                .totalAssets(totalAssets)
+                .degraded(degraded)
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.assetdesk.config;
+
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.notification.NotificationResponseDTO;
+import com.assetdesk.repository.JobCheckpointRepository;
+import com.assetdesk.repository.NotificationReceiptRepository;
+import com.assetdesk.repository.NotificationRepository;
+import com.assetdesk.support.JpaSliceTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Upgrading from the single notifications table keeps every user's history: each legacy row
+ * becomes a body plus a receipt with the same recipient, read flag and time, exactly once.
+ * The legacy table is created with DDL, which commits, so these tests commit for real.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(LegacyNotificationMigration.class)
+class LegacyNotificationMigrationTest extends JpaSliceTestSupport {
+
+    private static final LocalDateTime SENT = LocalDateTime.of(2026, 2, 1, 9, 30);
+
+    @Autowired private LegacyNotificationMigration migration;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationReceiptRepository receiptRepository;
+    @Autowired private JobCheckpointRepository checkpointRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = newUser("EMP", User.Role.EMPLOYEE).getId();
+        checkpointRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS notifications");
+        receiptRepository.deleteAll();
+        notificationRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void copiesLegacyRowsOnce() {
+        jdbcTemplate.execute("CREATE TABLE notifications (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+            + "title VARCHAR(255) NOT NULL, message TEXT, type VARCHAR(255), is_read BOOLEAN, "
+            + "created_at TIMESTAMP NOT NULL, related_issue_id BIGINT, related_asset_id BIGINT)");
+        insertLegacy(1, "Asset Allocated", true, 12L);
+        insertLegacy(2, "Issue Updated", null, null);
+
+        migration.copyIfPending();
+        assertEquals(2, notificationRepository.count());
+        assertEquals(2, receiptRepository.count());
+
+        List<NotificationResponseDTO> copied = new TransactionTemplate(transactionManager).execute(status ->
+            receiptRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(NotificationResponseDTO::fromReceipt).toList());
+        NotificationResponseDTO allocated = copied.stream()
+            .filter(n -> n.getTitle().equals("Asset Allocated")).findFirst().orElseThrow();
+        assertTrue(allocated.getIsRead());
+        assertEquals(12L, allocated.getRelatedAssetId());
+        assertEquals(SENT, allocated.getCreatedAt());
+        assertEquals(1L, receiptRepository.countUnreadByUserId(userId));
+
+        // A later start does not copy again, even once the copies have been deleted
+        receiptRepository.deleteAll();
+        migration.copyIfPending();
+        assertEquals(0, receiptRepository.count());
+    }
+
+    @Test
+    void freshDatabaseWithoutLegacyTableIsMarkedDone() {
+        migration.copyIfPending();
+        assertEquals(0, receiptRepository.count());
+        assertTrue(checkpointRepository.existsById(LegacyNotificationMigration.JOB_NAME));
+    }
+
+    private void insertLegacy(long id, String title, Boolean isRead, Long relatedAssetId) {
+        jdbcTemplate.update("INSERT INTO notifications (id, user_id, title, message, type, is_read, created_at, related_asset_id) "
+            + "VALUES (?, ?, ?, 'm', 'INFO', ?, ?, ?)", id, userId, title, isRead, Timestamp.valueOf(SENT), relatedAssetId);
+    }
+}
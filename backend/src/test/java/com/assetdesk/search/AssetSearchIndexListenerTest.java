@@ -0,0 +1,116 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Vendor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Entity writes reach the index once their transaction commits, and never when it rolls back.
+ */
+class AssetSearchIndexListenerTest {
+
+    private final AssetSearchIndex index = new AssetSearchIndex(null);
+    private AssetSearchIndexListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<AssetSearchIndex> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(index);
+        listener = new AssetSearchIndexListener(provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void writeOutsideATransactionAppliesImmediately() {
+        listener.onSave(asset(1L, "Laptop"));
+
+        assertEquals(List.of(1L), search("laptop"));
+    }
+
+    @Test
+    void writeWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onSave(asset(1L, "Laptop"));
+        assertEquals(0, index.size());
+
+        commit();
+        assertEquals(List.of(1L), search("laptop"));
+    }
+
+    @Test
+    void rolledBackWritesAreDropped() {
+        listener.onSave(asset(1L, "Laptop"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onSave(asset(1L, "Monitor"));
+        listener.onRemove(asset(1L, "Laptop"));
+        rollback();
+
+        assertEquals(List.of(1L), search("laptop"));
+        assertEquals(List.of(), search("monitor"));
+    }
+
+    @Test
+    void committedRemoveAndVendorRenameApply() {
+        Vendor vendor = new Vendor();
+        vendor.setId(7L);
+        vendor.setName("Contoso");
+        Asset first = asset(1L, "Laptop");
+        first.setVendor(vendor);
+        listener.onSave(first);
+        listener.onSave(asset(2L, "Laptop"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        vendor.setName("Fabrikam");
+        listener.onSave(vendor);
+        listener.onRemove(asset(2L, "Laptop"));
+        // The values were captured when the listener ran, not when the transaction committed
+        vendor.setName("Northwind");
+        commit();
+
+        assertEquals(List.of(1L), search("laptop"));
+        assertEquals(List.of(1L), search("fabrikam"));
+        assertEquals(List.of(), search("northwind"));
+    }
+
+    private List<Long> search(String term) {
+        return index.search(AssetSearchQuery.global(term, null, null, null), 0, 10).ids();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+    }
+
+    private static void rollback() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static Asset asset(Long id, String name) {
+        Asset asset = new Asset();
+        asset.setId(id);
+        asset.setAssetTag("HW-000" + id);
+        asset.setName(name);
+        return asset;
+    }
+}
@@ -0,0 +1,196 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Vendor;
+import com.assetdesk.repository.AssetAllocationRepository;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.UserRepository;
+import com.assetdesk.repository.VendorRepository;
+import com.assetdesk.service.AssetAllocationService;
+import com.assetdesk.service.NotificationOutboxService;
+import com.assetdesk.service.TrendRollupService;
+import com.assetdesk.service.WarrantyHistoryService;
+import com.assetdesk.service.impl.AssetServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Candidate selection, ranking and filtering of the in-memory asset index, fed directly with
+ * documents instead of being built from the database.
+ */
+class AssetSearchIndexTest {
+
+    private final AssetRepository assetRepository = mock(AssetRepository.class);
+    private AssetSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssetSearchIndex(assetRepository);
+    }
+
+    @Test
+    void onlyAssetsHoldingEveryTrigramAreCandidates() {
+        add(asset(1L, "HW-0001", "Dell Latitude", Asset.Status.AVAILABLE));
+        add(asset(2L, "HW-0002", "HP EliteBook", Asset.Status.AVAILABLE));
+        add(asset(3L, "HW-0003", "Dell Monitor", Asset.Status.AVAILABLE));
+
+        assertEquals(List.of(1L, 3L), index.search(global("dell"), 0, 10).ids());
+        assertEquals(0, index.search(global("lenovo"), 0, 10).total());
+    }
+
+    @Test
+    void candidateWithoutTheWholeTermIsRejected() {
+        // Holds every trigram of "tablet" but never the word itself
+        add(asset(1L, "HW-0001", "Table outlet", Asset.Status.AVAILABLE));
+        add(asset(2L, "HW-0002", "Drawing tablet", Asset.Status.AVAILABLE));
+
+        AssetSearchIndex.Result result = index.search(global("tablet"), 0, 10);
+        assertEquals(List.of(2L), result.ids());
+        assertEquals(1, result.total());
+    }
+
+    @Test
+    void specificFieldsAndCloserMatchesRankFirst() {
+        Asset model = asset(1L, "HW-0001", "Monitor", Asset.Status.AVAILABLE);
+        model.setModel("Flap 24");
+        add(model);
+        add(asset(2L, "HW-0002", "Laptop", Asset.Status.AVAILABLE));
+        add(asset(3L, "LAP-0003", "Docking station", Asset.Status.AVAILABLE));
+        add(asset(4L, "HW-0004", "Lap", Asset.Status.AVAILABLE));
+
+        // Tag prefix (10) > exact name (9) > name prefix (6) > model substring (2)
+        assertEquals(List.of(3L, 4L, 2L, 1L), index.search(global("lap"), 0, 10).ids());
+    }
+
+    @Test
+    void equalScoresKeepIndexOrderAcrossPages() {
+        for (long id = 1; id <= 5; id++) {
+            add(asset(id, "HW-000" + id, "Headset", Asset.Status.AVAILABLE));
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), index.search(global("headset"), 0, 10).ids());
+        AssetSearchIndex.Result page = index.search(global("headset"), 2, 2);
+        assertEquals(List.of(3L, 4L), page.ids());
+        assertEquals(5, page.total());
+    }
+
+    @Test
+    void filtersNarrowTheMatches() {
+        add(asset(1L, "HW-0001", "Laptop", Asset.Status.AVAILABLE));
+        add(asset(2L, "HW-0002", "Laptop", Asset.Status.ALLOCATED));
+        Asset license = asset(3L, "SW-0003", "Laptop backup licence", Asset.Status.AVAILABLE);
+        license.setCategory(Asset.Category.SOFTWARE);
+        license.setType(Asset.AssetType.LICENSE);
+        add(license);
+
+        assertEquals(List.of(1L, 3L), index.search(AssetSearchQuery.global("laptop", null, null, "available"), 0, 10).ids());
+        assertEquals(List.of(3L), index.search(AssetSearchQuery.global("laptop", "SOFTWARE", null, null), 0, 10).ids());
+        assertEquals(List.of(1L, 2L), index.search(AssetSearchQuery.global("laptop", null, "LAPTOP", null), 0, 10).ids());
+        // A filter alone matches every asset that passes it
+        assertEquals(List.of(2L), index.search(AssetSearchQuery.global(null, null, null, "ALLOCATED"), 0, 10).ids());
+    }
+
+    @Test
+    void fieldTermsMustAllMatchTheirOwnField() {
+        Asset asset = asset(1L, "HW-0001", "Laptop", Asset.Status.AVAILABLE);
+        asset.setSerialNumber("SN-LAPTOP-9");
+        add(asset);
+        add(asset(2L, "HW-0002", "Laptop", Asset.Status.AVAILABLE));
+
+        AssetSearchQuery bySerial = new AssetSearchQuery(null, "laptop", null, null, "sn-lap", null, null, null, null);
+        assertEquals(List.of(1L), index.search(bySerial, 0, 10).ids());
+        AssetSearchQuery byTag = new AssetSearchQuery(null, null, "hw-0001", null, "laptop", null, null, null, null);
+        assertEquals(List.of(1L), index.search(byTag, 0, 10).ids());
+        AssetSearchQuery wrongField = new AssetSearchQuery(null, null, "laptop", null, null, null, null, null, null);
+        assertEquals(0, index.search(wrongField, 0, 10).total());
+    }
+
+    @Test
+    void removeAndReindexReplaceTheOldValues() {
+        add(asset(1L, "HW-0001", "Webcam", Asset.Status.AVAILABLE));
+        add(asset(2L, "HW-0002", "Webcam", Asset.Status.AVAILABLE));
+
+        add(asset(1L, "HW-0001", "Keyboard", Asset.Status.AVAILABLE));
+        index.remove(2L);
+        index.remove(99L);
+
+        assertEquals(0, index.search(global("webcam"), 0, 10).total());
+        assertEquals(List.of(1L), index.search(global("keyboard"), 0, 10).ids());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void vendorRenameReachesEveryAssetOfThatVendor() {
+        Vendor vendor = new Vendor();
+        vendor.setId(7L);
+        vendor.setName("Contoso");
+        for (long id = 1; id <= 2; id++) {
+            Asset asset = asset(id, "HW-000" + id, "Laptop", Asset.Status.AVAILABLE);
+            asset.setVendor(vendor);
+            add(asset);
+        }
+        add(asset(3L, "HW-0003", "Laptop", Asset.Status.AVAILABLE));
+
+        index.renameVendor(7L, "Fabrikam");
+
+        assertEquals(0, index.search(global("contoso"), 0, 10).total());
+        assertEquals(List.of(1L, 2L), index.search(global("fabrikam"), 0, 10).ids());
+        AssetSearchQuery byVendor = new AssetSearchQuery(null, "laptop", null, null, null, "fabri", null, null, null);
+        assertEquals(List.of(1L, 2L), index.search(byVendor, 0, 10).ids());
+    }
+
+    @Test
+    void serviceUsesTheDatabaseUntilTheIndexIsBuilt() {
+        AssetServiceImpl service = new AssetServiceImpl(assetRepository, mock(AssetAllocationRepository.class),
+            mock(VendorRepository.class), mock(UserRepository.class), mock(AssetAllocationService.class),
+            mock(WarrantyHistoryService.class), mock(NotificationOutboxService.class),
+            mock(TrendRollupService.class), index);
+        when(assetRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(Page.empty());
+        add(asset(1L, "HW-0001", "Laptop", Asset.Status.AVAILABLE));
+
+        assertFalse(index.isReady());
+        service.search("laptop", null, null, null, PageRequest.of(0, 10));
+        verify(assetRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(assetRepository, never()).findAllById(any());
+
+        index.build();
+        add(asset(1L, "HW-0001", "Laptop", Asset.Status.AVAILABLE));
+
+        assertTrue(index.isReady());
+        service.search("laptop", null, null, null, PageRequest.of(0, 10));
+        verify(assetRepository).findAllById(List.of(1L));
+    }
+
+    private void add(Asset asset) {
+        index.index(AssetSearchIndex.snapshot(asset));
+    }
+
+    private static Asset asset(Long id, String assetTag, String name, Asset.Status status) {
+        Asset asset = new Asset();
+        asset.setId(id);
+        asset.setAssetTag(assetTag);
+        asset.setName(name);
+        asset.setCategory(Asset.Category.HARDWARE);
+        asset.setType(Asset.AssetType.LAPTOP);
+        asset.setStatus(status);
+        return asset;
+    }
+
+    private static AssetSearchQuery global(String term) {
+        return AssetSearchQuery.global(term, null, null, null);
+    }
+}
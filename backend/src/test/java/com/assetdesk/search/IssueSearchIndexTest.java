@@ -0,0 +1,159 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.User;
+import com.assetdesk.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Ranking, prefix expansion and filtering of the in-memory issue index, fed directly with
+ * documents instead of being built from the database.
+ */
+class IssueSearchIndexTest {
+
+    private IssueSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IssueSearchIndex(mock(IssueRepository.class));
+    }
+
+    @Test
+    void tokenizeLowerCasesAndDropsOneLetterWords() {
+        assertEquals(List.of("vpn", "drops", "wi", "fi", "at", "10am"),
+            IssueSearchIndex.tokenize("VPN drops: a Wi-Fi, at 10am!"));
+        assertEquals(List.of(), IssueSearchIndex.tokenize(null));
+    }
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        add(1L, "Monitor cable loose", "The printer next to it works", Issue.Status.OPEN, 10L);
+        add(2L, "Printer offline", "Cannot reach it from any laptop", Issue.Status.OPEN, 10L);
+
+        assertEquals(List.of(2L, 1L), index.search(text("printer"), 0, 10).ids());
+    }
+
+    @Test
+    void rareWordOutweighsCommonWord() {
+        add(1L, "Laptop fan noisy", null, Issue.Status.OPEN, 10L);
+        add(2L, "Laptop hinge cracked", null, Issue.Status.OPEN, 10L);
+        add(3L, "Laptop screen cracked", null, Issue.Status.OPEN, 10L);
+        add(4L, "Laptop battery", "Fan spins constantly", Issue.Status.OPEN, 10L);
+
+        // "fan" is rarer than "laptop", so the issue with it in the title wins
+        IssueSearchIndex.Result result = index.search(text("laptop fan"), 0, 10);
+        assertEquals(List.of(1L, 4L), result.ids());
+        assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    }
+
+    @Test
+    void everyWordMustMatch() {
+        add(1L, "Printer jammed", null, Issue.Status.OPEN, 10L);
+        add(2L, "Printer toner low", null, Issue.Status.OPEN, 10L);
+
+        assertEquals(List.of(2L), index.search(text("printer toner"), 0, 10).ids());
+        assertEquals(0, index.search(text("printer scanner"), 0, 10).total());
+    }
+
+    @Test
+    void prefixExpansionMatchesLongerWordsBelowExactWord() {
+        add(1L, "Network unreachable", null, Issue.Status.OPEN, 10L);
+        add(2L, "Net drive missing", null, Issue.Status.OPEN, 10L);
+
+        assertEquals(List.of(2L, 1L), index.search(text("net"), 0, 10).ids());
+        assertEquals(List.of(1L), index.search(text("netw"), 0, 10).ids());
+    }
+
+    @Test
+    void fieldRestrictedWordsOnlyMatchTheirField() {
+        add(1L, "Docking station", "Printer cable missing", Issue.Status.OPEN, 10L);
+        add(2L, "Printer cable missing", "Docking station", Issue.Status.OPEN, 10L);
+
+        IssueSearchQuery inTitle = new IssueSearchQuery(null, "printer", null, null, null, null, null, null, null);
+        assertEquals(List.of(2L), index.search(inTitle, 0, 10).ids());
+        IssueSearchQuery inDescription = new IssueSearchQuery(null, null, "printer", null, null, null, null, null, null);
+        assertEquals(List.of(1L), index.search(inDescription, 0, 10).ids());
+    }
+
+    @Test
+    void pagesAndReindexingAndRemoval() {
+        add(1L, "Mouse broken", null, Issue.Status.OPEN, 10L);
+        add(2L, "Mouse broken", null, Issue.Status.OPEN, 10L);
+        add(3L, "Mouse broken", null, Issue.Status.OPEN, 10L);
+
+        // Equal scores rank the newer issue first
+        assertEquals(List.of(3L, 2L, 1L), index.search(text("mouse"), 0, 10).ids());
+        IssueSearchIndex.Result secondPage = index.search(text("mouse"), 2, 2);
+        assertEquals(List.of(1L), secondPage.ids());
+        assertEquals(3, secondPage.total());
+
+        add(2L, "Trackpad broken", null, Issue.Status.OPEN, 10L);
+        index.remove(3L);
+        assertEquals(List.of(1L), index.search(text("mouse"), 0, 10).ids());
+        assertEquals(List.of(2L), index.search(text("trackpad"), 0, 10).ids());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void relatedMatchesJoinTextMatchesAndRankBelowThem() {
+        add(1L, "Printer jammed", "Paper stuck in tray", Issue.Status.OPEN, 10L);
+        add(2L, "Screen flickers", "Happens after docking", Issue.Status.OPEN, 20L);
+        add(3L, "Keyboard missing keys", null, Issue.Status.CLOSED, 20L);
+
+        // Issues 2 and 3 belong to an asset whose name contains the search text
+        IssueSearchIndex.Result result = index.search(text("printer"), Set.of(2L, 3L), 0, 10);
+        assertEquals(List.of(1L, 3L, 2L), result.ids());
+        assertEquals(3, result.total());
+
+        IssueSearchQuery open = new IssueSearchQuery("printer", null, null, "OPEN", null, null, null, null, null);
+        assertEquals(List.of(1L, 2L), index.search(open, Set.of(2L, 3L), 0, 10).ids());
+    }
+
+    @Test
+    void textMatchThatIsAlsoRelatedRanksFirst() {
+        add(1L, "Laptop battery drains", null, Issue.Status.OPEN, 10L);
+        add(2L, "Laptop battery swollen", null, Issue.Status.OPEN, 10L);
+
+        assertEquals(List.of(1L, 2L), index.search(text("battery"), Set.of(1L), 0, 10).ids());
+    }
+
+    @Test
+    void wordWithTooManyExpansionsIsLeftToTheDatabase() {
+        for (long id = 1; id <= 70; id++) {
+            add(id, "Error code" + id, null, Issue.Status.OPEN, 10L);
+        }
+
+        assertFalse(index.canSearch(text("code")));
+        assertTrue(index.canSearch(text("code7")));
+        assertEquals(List.of(7L, 70L), index.search(text("code7"), 0, 10).ids().stream().sorted().toList());
+    }
+
+    private void add(Long id, String title, String description, Issue.Status status, Long assetId) {
+        Asset asset = new Asset();
+        asset.setId(assetId);
+        User reporter = new User();
+        reporter.setId(100L);
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle(title);
+        issue.setDescription(description);
+        issue.setStatus(status);
+        issue.setAsset(asset);
+        issue.setReportedBy(reporter);
+        index.index(IssueSearchIndex.snapshot(issue));
+    }
+
+    private static IssueSearchQuery text(String text) {
+        return new IssueSearchQuery(text, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.assetdesk.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Highlighted output is escaped everywhere except for the {@code <mark>} tags it adds.
+ */
+class SearchHighlighterTest {
+
+    @Test
+    void marksWordsStartingWithAQueryWord() {
+        assertEquals("<mark>Printer</mark> offline, <mark>printing</mark> fails",
+            SearchHighlighter.highlight("Printer offline, printing fails", List.of("print")));
+    }
+
+    @Test
+    void escapesMarkupInAndAroundMatches() {
+        assertEquals("&lt;b&gt;<mark>VPN</mark>&lt;/b&gt; &amp; proxy",
+            SearchHighlighter.highlight("<b>VPN</b> & proxy", List.of("vpn")));
+    }
+
+    @Test
+    void titleWithoutMatchIsReturnedEscaped() {
+        assertEquals("Laptop &lt;script&gt;", SearchHighlighter.highlight("Laptop <script>", List.of("printer")));
+        assertNull(SearchHighlighter.highlight(null, List.of("printer")));
+    }
+
+    @Test
+    void snippetCutsAroundFirstMatchOnWordBoundaries() {
+        String text = "The quarterly report shows that the office printer on floor three jams whenever "
+            + "duplex printing is enabled, which started after the firmware update last week.";
+        String snippet = SearchHighlighter.snippet(text, List.of("jams"), 40);
+
+        assertTrue(snippet.startsWith("…"));
+        assertTrue(snippet.endsWith("…"));
+        assertTrue(snippet.contains("<mark>jams</mark>"));
+        String inner = snippet.substring(1, snippet.length() - 1).replace("<mark>", "").replace("</mark>", "");
+        assertTrue(text.contains(inner), "snippet should not cut words: " + inner);
+        assertNull(SearchHighlighter.snippet(text, List.of("scanner"), 40));
+    }
+}
@@ -0,0 +1,124 @@
+package com.assetdesk.search;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.IssueRepository;
+import com.assetdesk.repository.UserRepository;
+import com.assetdesk.repository.projection.AssetSearchRow;
+import com.assetdesk.repository.projection.IssueSearchRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A listener write committed after a build chunk was read must survive that chunk being applied.
+ * Each test simulates the commit from inside the repository call that returns the older rows.
+ */
+class SearchIndexBuildTest {
+
+    private final SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+    private final AssetRepository assetRepository = mock(AssetRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final IssueRepository issueRepository = mock(IssueRepository.class);
+
+    @Test
+    void suggestIndexKeepsWritesCommittedDuringBuild() {
+        SuggestIndex index = new SuggestIndex(assetRepository, userRepository, new SimpleMeterRegistry());
+        when(assetRepository.findSearchRowsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            index.indexAsset(1L, "LAP-0002", null, "Laptop");
+            index.removeAsset(2L);
+            return List.of(assetRow(1L, "LAP-0001", "Laptop"), assetRow(2L, "LAP-0003", "Laptop"));
+        });
+        when(assetRepository.findSearchRowsAfter(eq(2L), any())).thenReturn(List.of());
+        when(userRepository.findSuggestRowsAfter(anyLong(), any())).thenReturn(List.of());
+
+        index.build();
+
+        List<String> tags = index.suggest("lap", Set.of(SuggestIndex.Field.ASSET_TAG), 10).stream()
+            .map(s -> s.getValue()).toList();
+        assertEquals(List.of("LAP-0002"), tags);
+    }
+
+    @Test
+    void assetSearchIndexKeepsWritesCommittedDuringBuild() {
+        AssetSearchIndex index = new AssetSearchIndex(assetRepository);
+        when(assetRepository.findSearchRowsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            index.index(AssetSearchIndex.snapshot(asset(1L, "LAP-0001", "Docking station")));
+            index.remove(2L);
+            return List.of(assetRow(1L, "LAP-0001", "Laptop"), assetRow(2L, "LAP-0002", "Laptop"));
+        });
+        when(assetRepository.findSearchRowsAfter(eq(2L), any())).thenReturn(List.of());
+
+        index.build();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(), index.search(AssetSearchQuery.global("laptop", null, null, null), 0, 10).ids());
+        assertEquals(List.of(1L), index.search(AssetSearchQuery.global("docking", null, null, null), 0, 10).ids());
+    }
+
+    @Test
+    void issueSearchIndexKeepsWritesCommittedDuringBuild() {
+        IssueSearchIndex index = new IssueSearchIndex(issueRepository);
+        when(issueRepository.findSearchRowsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            index.index(IssueSearchIndex.snapshot(issue(1L, "Printer jammed")));
+            index.remove(2L);
+            return List.of(issueRow(1L, "Screen flickers"), issueRow(2L, "Screen cracked"));
+        });
+        when(issueRepository.findSearchRowsAfter(eq(2L), any())).thenReturn(List.of());
+
+        index.build();
+
+        assertEquals(0, index.search(text("screen"), 0, 10).total());
+        assertEquals(List.of(1L), index.search(text("printer"), 0, 10).ids());
+    }
+
+    private AssetSearchRow assetRow(Long id, String assetTag, String name) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("assetTag", assetTag);
+        row.put("name", name);
+        return projections.createProjection(AssetSearchRow.class, row);
+    }
+
+    private IssueSearchRow issueRow(Long id, String title) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("title", title);
+        row.put("status", Issue.Status.OPEN);
+        return projections.createProjection(IssueSearchRow.class, row);
+    }
+
+    private static Asset asset(Long id, String assetTag, String name) {
+        Asset asset = new Asset();
+        asset.setId(id);
+        asset.setAssetTag(assetTag);
+        asset.setName(name);
+        return asset;
+    }
+
+    private static Issue issue(Long id, String title) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle(title);
+        issue.setStatus(Issue.Status.OPEN);
+        return issue;
+    }
+
+    private static IssueSearchQuery text(String text) {
+        return new IssueSearchQuery(text, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.assetdesk.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ordering, prefix scans and size accounting of the sorted suggestion table.
+ */
+class SortedKeyTableTest {
+
+    private final SortedKeyTable table = new SortedKeyTable();
+
+    @Test
+    void scanStopsAtThePrefixBoundaries() {
+        put(1L, "lan-0001");
+        put(2L, "lao");
+        put(3L, "lap");
+        put(4L, "lap-0001");
+        put(5L, "lapz");
+        put(6L, "laq");
+        put(7L, "la");
+
+        assertEquals(List.of("lap", "lap-0001", "lapz"), scan("lap", 10));
+        assertEquals(List.of("lap", "lap-0001"), scan("lap", 2));
+        assertEquals(List.of(), scan("lapa", 10));
+        assertEquals(List.of(), scan("zz", 10));
+        assertEquals(List.of("la", "lan-0001", "lao", "lap", "lap-0001", "lapz", "laq"), scan("la", 10));
+    }
+
+    @Test
+    void limitKeepsTheLexicographicallyFirstMatches() {
+        put(1L, "AB2");
+        put(2L, "AB10");
+        put(3L, "ab");
+
+        assertEquals(List.of("ab"), scan("AB", 1));
+        assertEquals(List.of("ab", "AB10"), scan("AB", 2));
+        // The shorter "AB2" sorts after "AB10" and is the one a limit of two leaves out
+        assertEquals(List.of("ab", "AB10", "AB2"), scan("AB", 3));
+    }
+
+    @Test
+    void ordersIgnoringCaseThenByOwner() {
+        put(3L, "beta");
+        put(1L, "Alpha");
+        put(2L, "ALPHA");
+        put(4L, "Bravo");
+        put(5L, "alphabet");
+
+        assertEquals(List.of("Alpha", "ALPHA", "alphabet", "beta", "Bravo"), scan("", 10));
+        assertEquals(List.of("Alpha", "ALPHA", "alphabet"), scan("aLpHa", 10));
+        assertEquals(List.of("Bravo"), scan("BR", 10));
+    }
+
+    @Test
+    void loadSortsLikeRepeatedPuts() {
+        List<SortedKeyTable.Entry> entries = List.of(entry(3L, "delta"), entry(1L, "Charlie"),
+            entry(2L, "charlie"), entry(4L, "ALPHA"));
+        SortedKeyTable loaded = new SortedKeyTable();
+        loaded.load(entries);
+        entries.forEach(table::put);
+
+        assertEquals(scan("", 10), scan(loaded, "", 10));
+        assertEquals(4, loaded.size());
+    }
+
+    @Test
+    void putReplacesTheOwnersPreviousValue() {
+        put(1L, "lap-0001");
+        put(2L, "lap-0002");
+
+        put(1L, "dsk-0001");
+        table.remove(99L);
+
+        assertEquals(List.of("lap-0002"), scan("lap", 10));
+        assertEquals(List.of("dsk-0001"), scan("dsk", 10));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void estimatedBytesFollowsTheStoredStrings() {
+        long empty = table.estimatedBytes();
+
+        put(1L, "lap-0001");
+        long one = table.estimatedBytes();
+        assertTrue(one > empty);
+
+        put(1L, "lap-0001-with-a-longer-tag");
+        assertEquals(one + "-with-a-longer-tag".length(), table.estimatedBytes());
+
+        table.remove(1L);
+        assertEquals(empty, table.estimatedBytes());
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        for (long id = 100; id > 0; id--) {
+            put(id, String.format("tag-%03d", id));
+        }
+
+        List<String> values = scan("tag-", 100);
+        assertEquals(100, values.size());
+        assertEquals("tag-001", values.get(0));
+        assertEquals("tag-100", values.get(99));
+    }
+
+    private void put(long id, String value) {
+        table.put(entry(id, value));
+    }
+
+    private List<String> scan(String prefix, int limit) {
+        return scan(table, prefix, limit);
+    }
+
+    private static List<String> scan(SortedKeyTable table, String prefix, int limit) {
+        List<String> values = new ArrayList<>();
+        table.scan(prefix, limit, entry -> values.add(entry.value()));
+        return values;
+    }
+
+    private static SortedKeyTable.Entry entry(long id, String value) {
+        return new SortedKeyTable.Entry(id, value, "Asset " + id);
+    }
+}
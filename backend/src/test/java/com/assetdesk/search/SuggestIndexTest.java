@@ -0,0 +1,112 @@
+package com.assetdesk.search;
+
+import com.assetdesk.dto.suggest.SuggestionDTO;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Suggestion ranking across fields, updates to indexed rows and the published size gauges.
+ */
+class SuggestIndexTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SuggestIndex index = new SuggestIndex(mock(AssetRepository.class), mock(UserRepository.class), meterRegistry);
+
+    @Test
+    void exactMatchFirstThenCaseInsensitiveOrder() {
+        index.indexAsset(1L, "LAP-0010", "SN-LAP", "Laptop A");
+        index.indexAsset(2L, "lap-0002", null, "Laptop B");
+        index.indexAsset(3L, "LAP", null, "Laptop C");
+        index.indexUser(4L, "EMP-1", "lap@example.com", "Lap User");
+
+        List<String> values = values(index.suggest(" lap ", EnumSet.allOf(SuggestIndex.Field.class), 10));
+        assertEquals(List.of("LAP", "lap-0002", "LAP-0010", "lap@example.com"), values);
+        assertEquals(List.of("LAP", "lap-0002"), values(index.suggest("LAP", Set.of(SuggestIndex.Field.ASSET_TAG), 2)));
+    }
+
+    @Test
+    void limitAppliesAcrossFieldsInLexicographicOrder() {
+        index.indexAsset(1L, "AB10", "AB3", "Laptop A");
+        index.indexAsset(2L, "AB2", null, "Laptop B");
+        index.indexUser(3L, "AB", "ab1@example.com", "User");
+
+        Set<SuggestIndex.Field> fields = EnumSet.allOf(SuggestIndex.Field.class);
+        assertEquals(List.of("AB"), values(index.suggest("ab", fields, 1)));
+        assertEquals(List.of("AB", "AB10", "ab1@example.com"), values(index.suggest("ab", fields, 3)));
+        assertEquals(List.of("AB", "AB10", "ab1@example.com", "AB2", "AB3"), values(index.suggest("ab", fields, 10)));
+    }
+
+    @Test
+    void suggestionsCarryFieldOwnerAndLabel() {
+        index.indexUser(7L, "EMP-7", "grace@example.com", "Grace Hopper");
+
+        SuggestionDTO suggestion = index.suggest("grace", Set.of(SuggestIndex.Field.EMAIL), 10).get(0);
+        assertEquals("email", suggestion.getField());
+        assertEquals(7L, suggestion.getId());
+        assertEquals("grace@example.com", suggestion.getValue());
+        assertEquals("Grace Hopper", suggestion.getLabel());
+    }
+
+    @Test
+    void updateReplacesAndBlankValueRemoves() {
+        index.indexAsset(1L, "LAP-0001", "SN-0001", "Laptop");
+
+        index.indexAsset(1L, "DSK-0001", " ", "Desktop");
+
+        Set<SuggestIndex.Field> assetFields = Set.of(SuggestIndex.Field.ASSET_TAG, SuggestIndex.Field.SERIAL_NUMBER);
+        assertEquals(List.of(), index.suggest("lap", assetFields, 10));
+        assertEquals(List.of(), index.suggest("sn-", assetFields, 10));
+        List<SuggestionDTO> desktop = index.suggest("dsk", assetFields, 10);
+        assertEquals(List.of("DSK-0001"), values(desktop));
+        assertEquals("Desktop", desktop.get(0).getLabel());
+
+        index.removeAsset(1L);
+        assertEquals(List.of(), index.suggest("dsk", assetFields, 10));
+    }
+
+    @Test
+    void blankPrefixOrLimitSuggestsNothing() {
+        index.indexAsset(1L, "LAP-0001", null, "Laptop");
+
+        assertEquals(List.of(), index.suggest("  ", EnumSet.allOf(SuggestIndex.Field.class), 10));
+        assertEquals(List.of(), index.suggest(null, EnumSet.allOf(SuggestIndex.Field.class), 10));
+        assertEquals(List.of(), index.suggest("lap", EnumSet.allOf(SuggestIndex.Field.class), 0));
+    }
+
+    @Test
+    void gaugesTrackEachFieldsTable() {
+        double emptyTags = gauge("suggest.index.memory", "assetTag");
+
+        index.indexAsset(1L, "LAP-0001", "SN-0001", "Laptop");
+        index.indexAsset(2L, "LAP-0002", null, "Laptop");
+
+        assertEquals(2, gauge("suggest.index.entries", "assetTag"));
+        assertEquals(1, gauge("suggest.index.entries", "serialNumber"));
+        assertEquals(0, gauge("suggest.index.entries", "email"));
+        double twoTags = gauge("suggest.index.memory", "assetTag");
+        assertTrue(twoTags > emptyTags);
+        assertEquals("bytes", meterRegistry.get("suggest.index.memory").tag("field", "assetTag").gauge().getId().getBaseUnit());
+
+        index.removeAsset(2L);
+        assertEquals(1, gauge("suggest.index.entries", "assetTag"));
+        assertTrue(gauge("suggest.index.memory", "assetTag") < twoTags);
+    }
+
+    private double gauge(String name, String field) {
+        return meterRegistry.get(name).tag("field", field).gauge().value();
+    }
+
+    private static List<String> values(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getValue).toList();
+    }
+}
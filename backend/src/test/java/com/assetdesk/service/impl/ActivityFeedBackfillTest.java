@@ -0,0 +1,91 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.AssetRequest;
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.Cursor;
+import com.assetdesk.dto.CursorPageDTO;
+import com.assetdesk.dto.activity.ActivityResponseDTO;
+import com.assetdesk.exception.InvalidOperationException;
+import com.assetdesk.repository.ActivityFeedRepository;
+import com.assetdesk.repository.AssetRequestRepository;
+import com.assetdesk.support.JpaSliceTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The backfill walks each source table in id-ordered chunks and does not keep earlier chunks in
+ * the persistence context; the timeline pages over the result by cursor.
+ */
+@Import(ActivityFeedServiceImpl.class)
+class ActivityFeedBackfillTest extends JpaSliceTestSupport {
+
+    // More than two backfill chunks
+    private static final int REQUESTS = 1_100;
+
+    @Autowired private ActivityFeedServiceImpl activityFeedService;
+    @Autowired private ActivityFeedRepository activityFeedRepository;
+    @Autowired private AssetRequestRepository requestRepository;
+
+    @Test
+    void backfillCoversEveryRowAcrossChunks() {
+        User requester = saveRequests(REQUESTS);
+
+        assertEquals(REQUESTS, activityFeedService.backfill());
+        assertEquals(REQUESTS, activityFeedRepository.count());
+        assertFalse(entityManager.contains(requester), "chunks should be cleared from the persistence context");
+    }
+
+    @Test
+    void timelinePagesByCursorAndRejectsAMalformedOne() {
+        saveRequests(25);
+        activityFeedService.backfill();
+
+        Set<Long> seen = new HashSet<>();
+        CursorPageDTO<ActivityResponseDTO> page = activityFeedService.getTimeline(null, null, 10);
+        for (int pages = 1; ; pages++) {
+            page.getContent().forEach(entry -> assertTrue(seen.add(entry.getId()), "entry " + entry.getId() + " repeated"));
+            if (!page.isHasNext()) {
+                assertEquals(3, pages);
+                assertNull(page.getNextCursor());
+                break;
+            }
+            page = activityFeedService.getTimeline(null, page.getNextCursor(), 10);
+        }
+        assertEquals(25, seen.size());
+
+        String malformed = new Cursor("yesterday", 1L).encode();
+        assertThrows(InvalidOperationException.class, () -> activityFeedService.getTimeline(null, malformed, 10));
+    }
+
+    private User saveRequests(int count) {
+        User requester = newUser("Requester", "EMP1", User.Role.EMPLOYEE);
+
+        List<AssetRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AssetRequest request = new AssetRequest();
+            request.setRequestedBy(requester);
+            request.setRequestType(AssetRequest.RequestType.NEW_ASSET);
+            request.setCategory("HARDWARE");
+            request.setAssetType("LAPTOP");
+            request.setAssetName("Laptop " + i);
+            request.setBusinessJustification("Needed");
+            request.setPriority(AssetRequest.Priority.MEDIUM);
+            requests.add(request);
+        }
+        requestRepository.saveAll(requests);
+        entityManager.flush();
+        return requester;
+    }
+}
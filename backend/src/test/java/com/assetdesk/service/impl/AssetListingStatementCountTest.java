@@ -0,0 +1,122 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.domain.User;
+import com.assetdesk.domain.Vendor;
+import com.assetdesk.dto.asset.AssetGroupSummaryDTO;
+import com.assetdesk.dto.asset.AssetResponseDTO;
+import com.assetdesk.repository.AssetAllocationRepository;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.VendorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Asset listings hydrate current allocations with one query per page, so the number of JDBC
+ * statements a page costs must not grow with the page size. Group summaries likewise cost a
+ * fixed number of statements however many assets the group holds.
+ */
+class AssetListingStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ASSETS = 60;
+
+    @Autowired private AssetRepository assetRepository;
+    @Autowired private AssetAllocationRepository allocationRepository;
+    @Autowired private VendorRepository vendorRepository;
+
+    private AssetServiceImpl assetService;
+
+    @BeforeEach
+    void setUp() {
+        assetService = new AssetServiceImpl(assetRepository, allocationRepository, vendorRepository, userRepository,
+            null, null, null, null, null);
+
+        Vendor vendor = new Vendor();
+        vendor.setName("Dell");
+        vendorRepository.save(vendor);
+        for (int i = 0; i < ASSETS; i++) {
+            User user = newUser("User " + i, "EMP" + i, User.Role.EMPLOYEE);
+
+            Asset asset = new Asset();
+            asset.setAssetTag("AST-" + i);
+            asset.setName("Laptop " + i);
+            asset.setCategory(Asset.Category.HARDWARE);
+            asset.setStatus(i % 2 == 0 ? Asset.Status.ALLOCATED : Asset.Status.AVAILABLE);
+            asset.setVendor(vendor);
+            assetRepository.save(asset);
+
+            if (i % 2 == 0) {
+                AssetAllocation allocation = new AssetAllocation();
+                allocation.setAsset(asset);
+                allocation.setUser(user);
+                allocation.setAllocatedDate(LocalDate.now().minusDays(i));
+                allocationRepository.save(allocation);
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void getAllAssetsStatementCountDoesNotDependOnPageSize() {
+        long small = statementsFor(() -> assetService.getAllAssets(PageRequest.of(0, 5)));
+        long large = statementsFor(() -> assetService.getAllAssets(PageRequest.of(0, 40)));
+        assertEquals(small, large);
+    }
+
+    @Test
+    void getAssetsByCategoryStatementCountDoesNotDependOnPageSize() {
+        long small = statementsFor(() -> assetService.getAssetsByCategory("hardware", PageRequest.of(0, 5)));
+        long large = statementsFor(() -> assetService.getAssetsByCategory("hardware", PageRequest.of(0, 40)));
+        assertEquals(small, large);
+    }
+
+    @Test
+    void cursorListingStatementCountDoesNotDependOnPageSize() {
+        long small = statementsFor(() -> assetService.getAllAssets(null, 5, false).getContent());
+        long large = statementsFor(() -> assetService.getAllAssets(null, 40, false).getContent());
+        assertEquals(small, large);
+    }
+
+    @Test
+    void currentAllocationIsMappedToItsAsset() {
+        entityManager.clear();
+        Page<AssetResponseDTO> page = assetService.getAllAssets(PageRequest.of(0, ASSETS));
+        for (AssetResponseDTO asset : page) {
+            int index = Integer.parseInt(asset.getAssetTag().substring("AST-".length()));
+            if (index % 2 == 0) {
+                assertNotNull(asset.getAllocatedTo(), asset.getAssetTag());
+                assertEquals("EMP" + index, asset.getAllocatedTo().getEmployeeId());
+            } else {
+                assertNull(asset.getAllocatedTo(), asset.getAssetTag());
+            }
+        }
+    }
+
+    @Test
+    void groupSummaryStatementCountDoesNotDependOnGroupSize() {
+        long small = statementsFor(() -> assetService.getGroupSummary("Laptop 1"));
+        long large = statementsFor(() -> assetService.getGroupSummary("Laptop"));
+        assertEquals(small, large);
+    }
+
+    @Test
+    void groupSummaryCountsStatusesAndPagesAllocatedUsers() {
+        entityManager.clear();
+        AssetGroupSummaryDTO summary = assetService.getGroupSummary("laptop", PageRequest.of(1, 10));
+        assertEquals(ASSETS, summary.getTotal());
+        assertEquals(ASSETS / 2, summary.getAllocated());
+        assertEquals(ASSETS / 2, summary.getAvailable());
+        assertEquals(ASSETS / 2, summary.getAllocatedUsersTotal());
+        assertEquals(10, summary.getAllocatedUsers().size());
+    }
+}
@@ -0,0 +1,140 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.Message;
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.User;
+import com.assetdesk.exception.ResourceNotFoundException;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.IssueRepository;
+import com.assetdesk.repository.MessageRepository;
+import com.assetdesk.repository.NotificationReceiptRepository;
+import com.assetdesk.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Marking notifications and issue messages read is one UPDATE however many rows change, and
+ * unread counts and already-loaded entities see the new state straight away.
+ */
+class BulkReadStateStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ROWS = 30;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationReceiptRepository receiptRepository;
+    @Autowired private MessageRepository messageRepository;
+    @Autowired private IssueRepository issueRepository;
+    @Autowired private AssetRepository assetRepository;
+
+    private NotificationServiceImpl notificationService;
+    private MessageServiceImpl messageService;
+    private User reader;
+    private User other;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationServiceImpl(notificationRepository, receiptRepository, userRepository);
+        messageService = new MessageServiceImpl(messageRepository, issueRepository, userRepository, null, null);
+
+        reader = newUser("IT1", User.Role.IT_SUPPORT);
+        other = newUser("IT2", User.Role.IT_SUPPORT);
+        for (int i = 0; i < ROWS; i++) {
+            notificationService.notifyUsers(List.of(reader.getId(), other.getId()), "Notice " + i, "m",
+                Notification.Type.INFO, null, null);
+        }
+
+        Asset asset = new Asset();
+        asset.setAssetTag("AST-1");
+        asset.setName("Laptop");
+        asset.setCategory(Asset.Category.HARDWARE);
+        asset.setStatus(Asset.Status.AVAILABLE);
+        assetRepository.save(asset);
+
+        issue = new Issue();
+        issue.setAsset(asset);
+        issue.setReportedBy(other);
+        issue.setAssignedTo(reader);
+        issue.setTitle("Screen flicker");
+        issue.setDescription("Display flickers on battery");
+        issue.setType(Issue.IssueType.HARDWARE_MALFUNCTION);
+        issue.setPriority(Issue.Priority.HIGH);
+        issue.setStatus(Issue.Status.OPEN);
+        issue.setCreatedAt(START);
+        issueRepository.save(issue);
+        for (int i = 0; i < ROWS; i++) {
+            Message message = new Message();
+            message.setIssue(issue);
+            message.setSender(other);
+            message.setMessageText("Update " + i);
+            message.setTimestamp(START.plusMinutes(i));
+            messageRepository.save(message);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void markAllAsReadIsOneStatement() {
+        statistics.clear();
+        assertEquals(ROWS, notificationService.markAllAsRead(reader.getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(0L, notificationService.getUnreadNotificationCount(reader.getId()));
+        assertEquals((long) ROWS, notificationService.getUnreadNotificationCount(other.getId()));
+        assertEquals(0, notificationService.markAllAsRead(reader.getId()));
+    }
+
+    @Test
+    void markByIdsIsOneStatementAndScopedToTheUser() {
+        List<Long> ids = new ArrayList<>();
+        notificationService.getNotificationsByUser(reader.getId()).stream().limit(5).forEach(n -> ids.add(n.getId()));
+        // Someone else's notification in the list is left alone
+        ids.add(notificationService.getNotificationsByUser(other.getId()).get(0).getId());
+
+        statistics.clear();
+        assertEquals(5, notificationService.markAsRead(reader.getId(), ids));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals((long) ROWS - 5, notificationService.getUnreadNotificationCount(reader.getId()));
+        assertEquals((long) ROWS, notificationService.getUnreadNotificationCount(other.getId()));
+        assertEquals(0, notificationService.markAsRead(reader.getId(), List.of()));
+    }
+
+    @Test
+    void markIssueMessagesUpToATimestampIsOneStatement() {
+        Message loaded = messageRepository.findByIssueIdOrderByTimestampAsc(issue.getId()).get(0);
+
+        statistics.clear();
+        assertEquals(10, messageService.markIssueMessagesAsRead(issue.getId(), START.plusMinutes(9)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals((long) ROWS - 10, messageService.getUnreadMessageCount(reader.getId()));
+        // The persistence context was cleared, so a reload sees the bulk change
+        assertTrue(messageRepository.findById(loaded.getId()).orElseThrow().getIsRead());
+        assertEquals(0, messageService.markIssueMessagesAsRead(issue.getId(), START.plusMinutes(9)));
+        assertThrows(ResourceNotFoundException.class, () -> messageService.markIssueMessagesAsRead(-1L, START));
+    }
+
+    @Test
+    void singleMarkAsReadIsOneUpdate() {
+        Long messageId = messageRepository.findByIssueIdOrderByTimestampAsc(issue.getId()).get(0).getId();
+
+        statistics.clear();
+        messageService.markAsRead(messageId);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals((long) ROWS - 1, messageService.getUnreadMessageCount(reader.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> messageService.markAsRead(-1L));
+    }
+}
@@ -0,0 +1,117 @@
+package com.assetdesk.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sections share a bounded number of permits so dashboards cannot drain the connection pool, and
+ * a section that overruns is cancelled and flags its batch as degraded.
+ */
+class DashboardSectionRunnerTest {
+
+    private static final int PERMITS = 2;
+
+    @Test
+    void inFlightSectionsNeverExceedThePermits() {
+        DashboardSectionRunner runner = runner(2000);
+        DashboardSectionRunner.Batch batch = runner.batch();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> sections = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int value = i;
+            sections.add(batch.submit("section" + i, () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(30);
+                running.decrementAndGet();
+                return value;
+            }, -1));
+        }
+
+        for (int i = 0; i < sections.size(); i++) {
+            assertEquals(i, sections.get(i).join());
+        }
+        assertEquals(PERMITS, peak.get());
+        assertFalse(batch.isDegraded());
+    }
+
+    @Test
+    void overrunningSectionIsCancelledAndMarksTheBatchDegraded() throws InterruptedException {
+        DashboardSectionRunner runner = runner(100);
+        DashboardSectionRunner.Batch batch = runner.batch();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<Long> slow = batch.submit("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 42L;
+        }, 0L);
+
+        assertEquals(0L, slow.join());
+        assertTrue(batch.isDegraded());
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS), "timed-out section should be interrupted");
+
+        // The cancelled section gave its permit back, and other batches are unaffected
+        DashboardSectionRunner.Batch next = runner.batch();
+        assertEquals(7L, next.submit("fast", () -> 7L, 0L).join());
+        assertFalse(next.isDegraded());
+    }
+
+    @Test
+    void failingSectionFallsBack() {
+        DashboardSectionRunner.Batch batch = runner(2000).batch();
+        CompletableFuture<Long> failing = batch.submit("failing", () -> {
+            throw new IllegalStateException("boom");
+        }, 0L);
+
+        assertEquals(0L, failing.join());
+        assertTrue(batch.isDegraded());
+    }
+
+    private static DashboardSectionRunner runner(long timeoutMs) {
+        return new DashboardSectionRunner(new NoOpTransactionManager(), new SimpleMeterRegistry(), timeoutMs, PERMITS);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
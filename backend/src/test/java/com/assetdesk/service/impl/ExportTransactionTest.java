@@ -0,0 +1,107 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.dto.ServiceRecordExportFilter;
+import com.assetdesk.dto.asset.AssetExportFilter;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.service.AssetExportService;
+import com.assetdesk.service.ServiceRecordExportService;
+import com.assetdesk.support.JpaSliceTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The synchronous export endpoints call the two-argument write methods. Those must run inside the
+ * services' read-only transaction, or the cursor fetch size and per-chunk clearing have no effect.
+ * The test itself runs without a transaction so only the service's own one can be observed.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AssetExportServiceImpl.class, ServiceRecordExportServiceImpl.class})
+class ExportTransactionTest extends JpaSliceTestSupport {
+
+    @Autowired private AssetExportService assetExportService;
+    @Autowired private ServiceRecordExportService serviceRecordExportService;
+    @Autowired private AssetRepository assetRepository;
+
+    @BeforeEach
+    void setUp() {
+        Asset asset = new Asset();
+        asset.setAssetTag("AST-1");
+        asset.setName("Laptop");
+        asset.setCategory(Asset.Category.HARDWARE);
+        asset.setStatus(Asset.Status.AVAILABLE);
+        assetRepository.save(asset);
+    }
+
+    @AfterEach
+    void tearDown() {
+        assetRepository.deleteAll();
+    }
+
+    @Test
+    void assetExportsStreamInsideAReadOnlyTransaction() throws IOException {
+        TransactionProbe csv = new TransactionProbe();
+        assertEquals(1, assetExportService.writeCsv(new AssetExportFilter(), csv));
+        csv.assertAlwaysInReadOnlyTransaction();
+
+        TransactionProbe pdf = new TransactionProbe();
+        assertEquals(1, assetExportService.writePdf(new AssetExportFilter(), pdf));
+        pdf.assertAlwaysInReadOnlyTransaction();
+    }
+
+    @Test
+    void serviceRecordExportsStreamInsideAReadOnlyTransaction() throws IOException {
+        TransactionProbe csv = new TransactionProbe();
+        serviceRecordExportService.writeCsv(new ServiceRecordExportFilter(), csv);
+        csv.assertAlwaysInReadOnlyTransaction();
+
+        TransactionProbe pdf = new TransactionProbe();
+        serviceRecordExportService.writePdf(new ServiceRecordExportFilter(), pdf);
+        pdf.assertAlwaysInReadOnlyTransaction();
+    }
+
+    // Records the transaction state every time the export writes
+    private static class TransactionProbe extends ByteArrayOutputStream {
+
+        private int writes;
+        private boolean outsideReadOnlyTransaction;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            record();
+            super.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            record();
+            super.write(b);
+        }
+
+        private void record() {
+            writes++;
+            if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                outsideReadOnlyTransaction = true;
+            }
+        }
+
+        void assertAlwaysInReadOnlyTransaction() {
+            assertTrue(writes > 0, "export wrote nothing");
+            assertFalse(outsideReadOnlyTransaction, "export wrote outside a read-only transaction");
+        }
+    }
+}
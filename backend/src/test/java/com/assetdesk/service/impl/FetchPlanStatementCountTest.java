@@ -0,0 +1,141 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.domain.ServiceRecord;
+import com.assetdesk.domain.User;
+import com.assetdesk.domain.Vendor;
+import com.assetdesk.dto.AssetAllocationResponseDTO;
+import com.assetdesk.repository.AssetAllocationRepository;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.ServiceRecordRepository;
+import com.assetdesk.repository.VendorRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allocation and service-record associations are lazy; each endpoint loads what it renders
+ * through its entity graph, so a page costs a fixed number of statements and nothing it needs
+ * is left to load after the transaction has ended.
+ */
+class FetchPlanStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ROWS = 40;
+
+    @Autowired private AssetRepository assetRepository;
+    @Autowired private AssetAllocationRepository allocationRepository;
+    @Autowired private ServiceRecordRepository serviceRecordRepository;
+    @Autowired private VendorRepository vendorRepository;
+
+    private AssetAllocationServiceImpl allocationService;
+    private ServiceRecordServiceImpl serviceRecordService;
+    private Asset sharedAsset;
+
+    @BeforeEach
+    void setUp() {
+        allocationService = new AssetAllocationServiceImpl(allocationRepository, assetRepository, userRepository,
+            null, serviceRecordRepository, null);
+        serviceRecordService = new ServiceRecordServiceImpl(serviceRecordRepository, assetRepository, vendorRepository,
+            null, null);
+
+        // Every row gets its own asset, user and vendor so per-row loading would show up as extra statements
+        for (int i = 0; i < ROWS; i++) {
+            Vendor vendor = new Vendor();
+            vendor.setName("Vendor " + i);
+            vendorRepository.save(vendor);
+
+            User user = newUser("User " + i, "EMP" + i, User.Role.EMPLOYEE);
+
+            Asset asset = new Asset();
+            asset.setAssetTag("AST-" + i);
+            asset.setName("Laptop " + i);
+            asset.setCategory(Asset.Category.HARDWARE);
+            asset.setStatus(Asset.Status.ALLOCATED);
+            asset.setVendor(vendor);
+            assetRepository.save(asset);
+            if (i == 0) {
+                sharedAsset = asset;
+            }
+
+            AssetAllocation allocation = new AssetAllocation();
+            allocation.setAsset(asset);
+            allocation.setUser(user);
+            allocation.setAllocatedDate(LocalDate.now().minusDays(i));
+            allocationRepository.save(allocation);
+
+            ServiceRecord record = new ServiceRecord();
+            record.setAsset(sharedAsset);
+            record.setVendor(vendor);
+            record.setServiceDate(LocalDate.now().minusDays(i));
+            record.setServiceDescription("Service " + i);
+            serviceRecordRepository.save(record);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void allocationListStatementCountDoesNotDependOnPageSize() {
+        long small = statementsFor(() -> allocationService.getAllAllocations(PageRequest.of(0, 5), "ACTIVE", null)
+            .map(AssetAllocationResponseDTO::fromEntity));
+        long large = statementsFor(() -> allocationService.getAllAllocations(PageRequest.of(0, ROWS), "ACTIVE", null)
+            .map(AssetAllocationResponseDTO::fromEntity));
+        assertEquals(small, large);
+    }
+
+    @Test
+    void listViewLeavesTheAssetVendorUnloaded() {
+        entityManager.clear();
+        List<AssetAllocation> allocations = allocationService.getActiveAllocations(PageRequest.of(0, ROWS)).getContent();
+        for (AssetAllocation allocation : allocations) {
+            assertTrue(Hibernate.isInitialized(allocation.getAsset()));
+            assertTrue(Hibernate.isInitialized(allocation.getUser()));
+            assertFalse(Hibernate.isInitialized(allocation.getAsset().getVendor()));
+        }
+    }
+
+    @Test
+    void currentAllocationsLoadEverythingTheyRenderInOneStatement() {
+        entityManager.clear();
+        statistics.clear();
+        List<AssetAllocation> allocations = allocationService.getCurrentAllocations();
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(ROWS, allocations.size());
+        for (AssetAllocation allocation : allocations) {
+            assertTrue(Hibernate.isInitialized(allocation.getUser()));
+            assertTrue(Hibernate.isInitialized(allocation.getAsset().getVendor()));
+        }
+    }
+
+    @Test
+    void serviceRecordsByAssetLoadEverythingTheyRenderInOneStatement() {
+        entityManager.clear();
+        statistics.clear();
+        List<ServiceRecord> records = serviceRecordService.getServiceRecordsByAsset(sharedAsset.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(ROWS, records.size());
+        for (ServiceRecord record : records) {
+            assertTrue(Hibernate.isInitialized(record.getVendor()));
+            assertTrue(Hibernate.isInitialized(record.getAsset().getVendor()));
+        }
+    }
+
+    @Test
+    void plainAllocationLookupsDoNotJoinAssociations() {
+        entityManager.clear();
+        statistics.clear();
+        List<AssetAllocation> allocations = allocationRepository.findCurrentAllocationsByUserId(
+            userRepository.findByEmployeeId("EMP1").orElseThrow().getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isInitialized(allocations.get(0).getAsset()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.Issue;
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.issue.IssueResponseDTO;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.IssueRepository;
+import com.assetdesk.search.IssueSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Issue listings join in the asset and users {@code IssueResponseDTO} renders, so a page costs a
+ * fixed number of statements; Specification searches page over ids first and then hydrate.
+ */
+class IssueListingStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ISSUES = 40;
+
+    @Autowired private IssueRepository issueRepository;
+    @Autowired private AssetRepository assetRepository;
+
+    private IssueServiceImpl issueService;
+
+    @BeforeEach
+    void setUp() {
+        // The index is never built here, so searches take the Specification path
+        issueService = new IssueServiceImpl(issueRepository, assetRepository, userRepository,
+            null, null, null, null, null, new IssueSearchIndex(issueRepository));
+
+        // Each issue has its own asset, reporter and assignee so per-row loading would show up
+        for (int i = 0; i < ISSUES; i++) {
+            User reporter = newUser("Reporter " + i, "R" + i, User.Role.EMPLOYEE);
+            User assignee = newUser("Assignee " + i, "A" + i, User.Role.IT_SUPPORT);
+
+            Asset asset = new Asset();
+            asset.setAssetTag("AST-" + i);
+            asset.setName("Laptop " + i);
+            asset.setCategory(Asset.Category.HARDWARE);
+            asset.setStatus(Asset.Status.AVAILABLE);
+            assetRepository.save(asset);
+
+            Issue issue = new Issue();
+            issue.setAsset(asset);
+            issue.setReportedBy(reporter);
+            issue.setAssignedTo(assignee);
+            issue.setTitle("Screen flicker " + i);
+            issue.setDescription("Display flickers on battery");
+            issue.setType(Issue.IssueType.HARDWARE_MALFUNCTION);
+            issue.setPriority(i % 2 == 0 ? Issue.Priority.HIGH : Issue.Priority.LOW);
+            issue.setStatus(Issue.Status.OPEN);
+            issue.setCreatedAt(LocalDateTime.now().minusHours(i));
+            issueRepository.save(issue);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void activeIssuesStatementCountDoesNotDependOnPageSize() {
+        long small = statementsFor(() -> issueService.getActiveIssues(PageRequest.of(0, 5)).getContent());
+        long large = statementsFor(() -> issueService.getActiveIssues(PageRequest.of(0, 30)).getContent());
+        assertEquals(small, large);
+    }
+
+    @Test
+    void searchStatementCountDoesNotDependOnPageSize() {
+        long small = statementsFor(() -> search("flicker", PageRequest.of(0, 5)));
+        long large = statementsFor(() -> search("flicker", PageRequest.of(0, 30)));
+        assertEquals(small, large);
+    }
+
+    @Test
+    void searchPagesAreDisjointAndKeepTheRequestedOrder() {
+        entityManager.clear();
+        Sort byPriority = Sort.by("priority");
+        Set<Long> seen = new HashSet<>();
+        String previousPriority = null;
+        for (int page = 0; page < 4; page++) {
+            Page<IssueResponseDTO> result = search("flicker", PageRequest.of(page, 10, byPriority));
+            assertEquals(ISSUES, result.getTotalElements());
+            for (IssueResponseDTO issue : result) {
+                assertTrue(seen.add(issue.getId()), "issue " + issue.getId() + " repeated");
+                if (previousPriority != null) {
+                    assertTrue(previousPriority.compareTo(issue.getPriority()) <= 0);
+                }
+                previousPriority = issue.getPriority();
+            }
+        }
+        assertEquals(ISSUES, seen.size());
+    }
+
+    @Test
+    void searchRowsCarryTheirAssociations() {
+        entityManager.clear();
+        List<IssueResponseDTO> issues = search("flicker 7", PageRequest.of(0, 10)).getContent();
+        assertEquals(1, issues.size());
+        assertEquals("AST-7", issues.get(0).getAssetTag());
+        assertEquals("Reporter 7", issues.get(0).getReportedByName());
+        assertEquals("Assignee 7", issues.get(0).getAssignedToName());
+    }
+
+    @Test
+    void relatedNameMatchesCoverEachForeignKeyUpToTheLimit() {
+        assertEquals(List.of("Screen flicker 12"), titlesOf(issueRepository.findIdsByRelatedNameLike("%ast-12%", 10)));
+        assertEquals(List.of("Screen flicker 12"), titlesOf(issueRepository.findIdsByRelatedNameLike("%reporter 12%", 10)));
+        // "Assignee 3" and "Assignee 30".."Assignee 39"
+        assertEquals(11, issueRepository.findIdsByRelatedNameLike("%assignee 3%", 20).size());
+        assertEquals(5, issueRepository.findIdsByRelatedNameLike("%laptop%", 5).size());
+    }
+
+    @Test
+    void indexedGlobalSearchMatchesReporterNames() {
+        IssueSearchIndex index = new IssueSearchIndex(issueRepository);
+        index.build();
+        issueService = new IssueServiceImpl(issueRepository, assetRepository, userRepository,
+            null, null, null, null, null, index);
+
+        List<IssueResponseDTO> issues = issueService.searchIssues("Reporter 12", "Reporter 12", null, null, null,
+            null, null, null, PageRequest.of(0, 10)).getContent();
+        assertEquals(1, issues.size());
+        assertEquals("Reporter 12", issues.get(0).getReportedByName());
+    }
+
+    private List<String> titlesOf(List<Long> ids) {
+        return issueRepository.findAllById(ids).stream().map(Issue::getTitle).toList();
+    }
+
+    private Page<IssueResponseDTO> search(String title, PageRequest pageable) {
+        return issueService.searchIssues(title, null, null, null, null, null, null, null, pageable);
+    }
+}
@@ -0,0 +1,111 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.User;
+import com.assetdesk.repository.NotificationReceiptRepository;
+import com.assetdesk.repository.NotificationRepository;
+import com.assetdesk.support.JpaSliceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput of sending one notification to 1,000 recipients the old way (look up each user,
+ * save each notification) versus the batched {@code notifyUsers} and set-based
+ * {@code notifyRoles}. Not part of the regular test run; invoke explicitly:
+ *
+ * <pre>mvn test -Dtest=NotificationFanOutBenchmark -Dsurefire.failIfNoSpecifiedTests=false</pre>
+ */
+class NotificationFanOutBenchmark extends JpaSliceTestSupport {
+
+    private static final int RECIPIENTS = 1_000;
+    private static final int ROUNDS = 5;
+
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationReceiptRepository receiptRepository;
+
+    private NotificationServiceImpl notificationService;
+    private final List<Long> recipientIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationServiceImpl(notificationRepository, receiptRepository, userRepository);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            recipientIds.add(newUser("Support " + i, "IT" + i, User.Role.IT_SUPPORT).getId());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void compareFanOutThroughput() {
+        // Warm up each path once so the first measured round does not pay for class loading
+        perRecipientLoop();
+        notifyUsers();
+        notifyRoles();
+
+        long loop = bestOf(this::perRecipientLoop);
+        long users = bestOf(this::notifyUsers);
+        long roles = bestOf(this::notifyRoles);
+
+        System.out.printf("Notification fan-out, %,d recipients: per-recipient loop %,d/s, "
+                + "batched notifyUsers %,d/s, notifyRoles %,d/s%n",
+            RECIPIENTS, perSecond(loop), perSecond(users), perSecond(roles));
+        assertTrue(users < loop, "batched fan-out should beat the per-recipient loop");
+        assertTrue(roles < loop, "set-based fan-out should beat the per-recipient loop");
+    }
+
+    @Test
+    void bulkPathsCreateOneUnreadNotificationPerRecipient() {
+        List<Long> withUnknown = new ArrayList<>(recipientIds);
+        withUnknown.add(-1L);
+        assertEquals(RECIPIENTS, notificationService.notifyUsers(withUnknown, "Users", "m",
+            Notification.Type.INFO, null, 7L));
+        assertEquals(RECIPIENTS, notificationService.notifyRoles(Set.of(User.Role.IT_SUPPORT), "Roles", "m",
+            Notification.Type.WARNING, 3L, null));
+        assertEquals(0, notificationService.notifyRoles(Set.of(User.Role.ADMIN), "Nobody", "m",
+            Notification.Type.INFO, null, null));
+
+        entityManager.clear();
+        Long first = recipientIds.get(0);
+        assertEquals(2L, receiptRepository.countUnreadByUserId(first));
+        assertEquals(2 * RECIPIENTS, receiptRepository.count());
+        assertEquals(2, notificationRepository.count());
+    }
+
+    private void perRecipientLoop() {
+        for (Long userId : recipientIds) {
+            notificationService.createNotification(userId, "Loop", "m", Notification.Type.INFO, null, 1L);
+        }
+        entityManager.flush();
+    }
+
+    private void notifyUsers() {
+        notificationService.notifyUsers(recipientIds, "Users", "m", Notification.Type.INFO, null, 1L);
+    }
+
+    private void notifyRoles() {
+        notificationService.notifyRoles(Set.of(User.Role.IT_SUPPORT), "Roles", "m", Notification.Type.INFO, null, 1L);
+    }
+
+    private long bestOf(Runnable fanOut) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            fanOut.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static long perSecond(long nanos) {
+        return RECIPIENTS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
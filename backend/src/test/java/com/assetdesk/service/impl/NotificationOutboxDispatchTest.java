@@ -0,0 +1,176 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.AssetAllocation;
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.NotificationOutboxEvent;
+import com.assetdesk.domain.User;
+import com.assetdesk.repository.AssetAllocationRepository;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.NotificationOutboxRepository;
+import com.assetdesk.repository.NotificationReceiptRepository;
+import com.assetdesk.repository.NotificationRepository;
+import com.assetdesk.service.SSEService;
+import com.assetdesk.support.JpaSliceTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Outbox events become notifications only once the publishing transaction commits and the
+ * dispatcher runs. The dispatcher works in its own transactions, so these tests commit for real
+ * instead of rolling back around each test.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxDispatchTest extends JpaSliceTestSupport {
+
+    private static final int SUPPORT_STAFF = 5;
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationReceiptRepository receiptRepository;
+    @Autowired private AssetRepository assetRepository;
+    @Autowired private AssetAllocationRepository allocationRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private NotificationOutboxServiceImpl outbox;
+    private TransactionTemplate transaction;
+    private Long employeeId;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new NotificationOutboxServiceImpl(outboxRepository,
+            new NotificationServiceImpl(notificationRepository, receiptRepository, userRepository), new SSEService(),
+            transactionManager, new SimpleMeterRegistry(), BATCH_SIZE, 3, MAX_ATTEMPTS, 7);
+        transaction = new TransactionTemplate(transactionManager);
+
+        employeeId = newUser("EMP", User.Role.EMPLOYEE).getId();
+        for (int i = 0; i < SUPPORT_STAFF; i++) {
+            newUser("IT" + i, User.Role.IT_SUPPORT);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        outbox.shutdown();
+        outboxRepository.deleteAll();
+        receiptRepository.deleteAll();
+        notificationRepository.deleteAll();
+        allocationRepository.deleteAll();
+        assetRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void eventsBecomeNotificationsOnlyWhenDispatched() {
+        transaction.executeWithoutResult(status -> {
+            outbox.publish("asset:1:allocated", employeeId, "Asset Allocated", "m", Notification.Type.INFO, null, 1L);
+            outbox.publishToRoles("asset:1:created", Set.of(User.Role.IT_SUPPORT), "New Asset", "m", Notification.Type.INFO, null, 1L);
+        });
+        assertEquals(0, receiptRepository.count());
+
+        assertEquals(2, outbox.dispatchPending());
+        assertEquals(1 + SUPPORT_STAFF, receiptRepository.count());
+        assertEquals(0, outboxRepository.countPending(MAX_ATTEMPTS));
+        outboxRepository.findAll().forEach(event -> assertNotNull(event.getDispatchedAt()));
+    }
+
+    @Test
+    void rolledBackBusinessTransactionPublishesNothing() {
+        transaction.executeWithoutResult(status -> {
+            outbox.publish("asset:1:allocated", employeeId, "Asset Allocated", "m", Notification.Type.INFO, null, 1L);
+            status.setRollbackOnly();
+        });
+        assertEquals(0, outbox.dispatchPending());
+        assertEquals(0, receiptRepository.count());
+    }
+
+    @Test
+    void eventsSharingADedupKeyAreDeliveredOnce() {
+        // Same key twice in one batch, then again after the first has been delivered
+        for (int i = 0; i < 2; i++) {
+            transaction.executeWithoutResult(status ->
+                outbox.publish("allocation:7:returned", employeeId, "Asset Returned", "m", Notification.Type.SUCCESS, null, 1L));
+        }
+        assertEquals(1, outbox.dispatchPending());
+        transaction.executeWithoutResult(status ->
+            outbox.publish("allocation:7:returned", employeeId, "Asset Returned", "m", Notification.Type.SUCCESS, null, 1L));
+        assertEquals(0, outbox.dispatchPending());
+
+        assertEquals(1, receiptRepository.count());
+        assertEquals(0, outboxRepository.countPending(MAX_ATTEMPTS));
+    }
+
+    @Test
+    void repeatedReturnRequestOnTheSameDayIsDeliveredAgain() {
+        Asset asset = new Asset();
+        asset.setAssetTag("AST-1");
+        asset.setName("Laptop");
+        asset.setCategory(Asset.Category.HARDWARE);
+        asset.setStatus(Asset.Status.ALLOCATED);
+        assetRepository.save(asset);
+        AssetAllocation allocation = new AssetAllocation();
+        allocation.setAsset(asset);
+        allocation.setUser(userRepository.findById(employeeId).orElseThrow());
+        allocation.setAllocatedDate(LocalDate.now());
+        allocationRepository.save(allocation);
+        AssetAllocationServiceImpl allocations = new AssetAllocationServiceImpl(allocationRepository, assetRepository,
+            userRepository, outbox, null, null);
+
+        // The dedup key only blocks retries of one request, not a second request
+        for (int i = 1; i <= 2; i++) {
+            transaction.executeWithoutResult(status -> allocations.requestReturn(asset.getId(), "Refresh"));
+            assertEquals(1, outbox.dispatchPending());
+            assertEquals(i, receiptRepository.count());
+        }
+    }
+
+    @Test
+    void drainsMoreEventsThanOneBatch() {
+        int events = BATCH_SIZE * 3 + 4;
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < events; i++) {
+                outbox.publish(null, employeeId, "Message " + i, "m", Notification.Type.NEW_MESSAGE, (long) i, null);
+            }
+        });
+        assertEquals(events, outbox.dispatchPending());
+        assertEquals(events, receiptRepository.count());
+    }
+
+    @Test
+    void failingEventIsRetriedThenParkedWithoutBlockingOthers() {
+        NotificationOutboxEvent broken = new NotificationOutboxEvent();
+        broken.setRecipientRoles("NOT_A_ROLE");
+        broken.setTitle("Broken");
+        outboxRepository.save(broken);
+        transaction.executeWithoutResult(status ->
+            outbox.publish(null, employeeId, "Fine", "m", Notification.Type.INFO, null, null));
+
+        assertEquals(1, outbox.dispatchPending());
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            assertEquals(0, outbox.dispatchPending());
+        }
+
+        NotificationOutboxEvent parked = outboxRepository.findById(broken.getId()).orElseThrow();
+        assertEquals(MAX_ATTEMPTS, parked.getAttempts());
+        assertNull(parked.getDispatchedAt());
+        assertNotNull(parked.getLastError());
+        assertEquals(0, outboxRepository.countPending(MAX_ATTEMPTS));
+        assertEquals(1, receiptRepository.count());
+    }
+}
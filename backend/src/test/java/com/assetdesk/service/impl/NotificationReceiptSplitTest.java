@@ -0,0 +1,91 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Notification;
+import com.assetdesk.domain.NotificationReceipt;
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.notification.NotificationResponseDTO;
+import com.assetdesk.repository.NotificationReceiptRepository;
+import com.assetdesk.repository.NotificationRepository;
+import com.assetdesk.support.JpaSliceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * A broadcast stores its body once and one receipt per recipient; read state, listings and
+ * deletes work per receipt while the API keeps speaking in notifications.
+ */
+class NotificationReceiptSplitTest extends JpaSliceTestSupport {
+
+    private static final int RECIPIENTS = 3;
+
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationReceiptRepository receiptRepository;
+
+    private NotificationServiceImpl notificationService;
+    private final List<Long> recipientIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationServiceImpl(notificationRepository, receiptRepository, userRepository);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            recipientIds.add(newUser("Support " + i, "IT" + i, User.Role.IT_SUPPORT).getId());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void broadcastStoresOneBodyAndOneReceiptPerRecipient() {
+        notificationService.notifyRoles(Set.of(User.Role.IT_SUPPORT), "Warranty", "Expires soon",
+            Notification.Type.WARNING, null, 9L);
+        entityManager.clear();
+
+        assertEquals(1, notificationRepository.count());
+        assertEquals(RECIPIENTS, receiptRepository.count());
+
+        Long first = recipientIds.get(0);
+        List<NotificationResponseDTO> unread = notificationService.getUnreadNotificationsByUser(first);
+        assertEquals(1, unread.size());
+        NotificationResponseDTO dto = unread.get(0);
+        NotificationReceipt receipt = receiptRepository.findById(dto.getId()).orElseThrow();
+        assertEquals(first, receipt.getUser().getId());
+        assertEquals("Warranty", dto.getTitle());
+        assertEquals(9L, dto.getRelatedAssetId());
+        assertFalse(dto.getIsRead());
+    }
+
+    @Test
+    void readStateIsPerRecipient() {
+        notificationService.notifyUsers(recipientIds, "Shared", "m", Notification.Type.INFO, null, null);
+        Long first = recipientIds.get(0);
+        Long second = recipientIds.get(1);
+
+        Long receiptId = notificationService.getUnreadNotificationsByUser(first).get(0).getId();
+        notificationService.markAsRead(receiptId);
+        entityManager.flush();
+
+        assertEquals(0L, notificationService.getUnreadNotificationCount(first));
+        assertEquals(1L, notificationService.getUnreadNotificationCount(second));
+    }
+
+    @Test
+    void deletingTheLastReceiptDropsTheBody() {
+        notificationService.notifyUsers(recipientIds.subList(0, 2), "Shared", "m", Notification.Type.INFO, null, null);
+        Long firstReceipt = notificationService.getNotificationsByUser(recipientIds.get(0)).get(0).getId();
+        Long secondReceipt = notificationService.getNotificationsByUser(recipientIds.get(1)).get(0).getId();
+
+        notificationService.deleteNotification(firstReceipt);
+        assertEquals(1, notificationRepository.count());
+
+        notificationService.deleteNotification(secondReceipt);
+        assertEquals(0, notificationRepository.count());
+        assertEquals(0, receiptRepository.count());
+    }
+}
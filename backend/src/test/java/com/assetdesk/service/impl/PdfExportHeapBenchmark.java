@@ -0,0 +1,104 @@
+package com.assetdesk.service.impl;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Peak heap of a 100k-row report rendered the old way (one PdfPTable holding every row,
+ * written into a ByteArrayOutputStream) versus {@link ChunkedPdfTable} streaming to the
+ * output. Not part of the regular test run; invoke explicitly:
+ *
+ * <pre>mvn test -Dtest=PdfExportHeapBenchmark -Dsurefire.failIfNoSpecifiedTests=false</pre>
+ */
+class PdfExportHeapBenchmark {
+    
+    private static final int ROWS = 100_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final String[] HEADERS =
+        {"Asset Tag", "Name", "Category", "Type", "Purchase Date", "Cost", "Status"};
+    
+    @Test
+    void comparePeakHeap() {
+        long[] before = measurePeak(this::renderWholeTable);
+        long[] after = measurePeak(this::renderChunked);
+        
+        System.out.printf("PDF export, %,d rows: single table peak %,d KB (old gen %,d KB), "
+                + "chunked peak %,d KB (old gen %,d KB)%n",
+            ROWS, before[0] / 1024, before[1] / 1024, after[0] / 1024, after[1] / 1024);
+        assertTrue(after[1] < before[1], "chunked rendering should retain less than the single-table render");
+    }
+    
+    private void renderWholeTable() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4.rotate());
+        PdfWriter.getInstance(document, baos);
+        document.open();
+        PdfPTable table = new PdfPTable(HEADERS.length);
+        table.setWidthPercentage(100);
+        for (String header : HEADERS) {
+            table.addCell(header);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            for (String cell : row(i)) {
+                table.addCell(cell);
+            }
+        }
+        document.add(table);
+        document.close();
+        baos.toByteArray();
+    }
+    
+    private void renderChunked() {
+        ChunkedPdfTable pdf = new ChunkedPdfTable(OutputStream.nullOutputStream(), "Assets Report", CHUNK_SIZE, HEADERS);
+        for (int i = 0; i < ROWS; i++) {
+            pdf.addRow(row(i));
+        }
+        pdf.finish();
+    }
+    
+    private static String[] row(int i) {
+        return new String[] {"AST-" + i, "Laptop " + i, "HARDWARE", "LAPTOP", "2024-01-15", "1299.00", "AVAILABLE"};
+    }
+    
+    /**
+     * Returns {total heap peak, old generation peak} above the post-GC baseline. The total
+     * includes short-lived garbage in the young generation; the old generation peak tracks
+     * what the render actually keeps alive.
+     */
+    private static long[] measurePeak(Runnable render) {
+        System.gc();
+        var pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long[] baseline = sample(pools, false);
+        render.run();
+        long[] peak = sample(pools, true);
+        return new long[] {peak[0] - baseline[0], peak[1] - baseline[1]};
+    }
+    
+    private static long[] sample(List<MemoryPoolMXBean> pools, boolean peak) {
+        long total = 0;
+        long old = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            long used = (peak ? pool.getPeakUsage() : pool.getUsage()).getUsed();
+            total += used;
+            if (pool.getName().contains("Old") || pool.getName().contains("Tenured")) {
+                old += used;
+            }
+        }
+        return new long[] {total, old};
+    }
+}
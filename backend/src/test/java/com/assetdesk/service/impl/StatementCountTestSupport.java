@@ -0,0 +1,39 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.support.JpaSliceTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.function.Supplier;
+
+/**
+ * JPA slice with Hibernate statistics switched on, for tests that pin how many JDBC statements
+ * a service call prepares.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+abstract class StatementCountTestSupport extends JpaSliceTestSupport {
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Statements prepared by {@code work}, starting from an empty persistence context so nothing
+     * it loads is already cached.
+     */
+    protected long statementsFor(Supplier<?> work) {
+        entityManager.clear();
+        statistics.clear();
+        work.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,119 @@
+package com.assetdesk.service.impl;
+
+import com.assetdesk.domain.Asset;
+import com.assetdesk.domain.JobCheckpoint;
+import com.assetdesk.domain.User;
+import com.assetdesk.dto.notification.NotificationResponseDTO;
+import com.assetdesk.repository.AssetRepository;
+import com.assetdesk.repository.JobCheckpointRepository;
+import com.assetdesk.repository.NotificationReceiptRepository;
+import com.assetdesk.repository.NotificationRepository;
+import com.assetdesk.repository.WarrantyAlertRepository;
+import com.assetdesk.support.JpaSliceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The warranty job alerts each 30/7/1-day threshold once, sends one digest per recipient per run,
+ * and resumes from its checkpoint instead of rescanning assets it already processed.
+ */
+class WarrantyExpiryNotificationJobTest extends JpaSliceTestSupport {
+
+    // Smaller than the number of expiring assets so runs span several chunks
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Autowired private AssetRepository assetRepository;
+    @Autowired private WarrantyAlertRepository alertRepository;
+    @Autowired private JobCheckpointRepository checkpointRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationReceiptRepository receiptRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private WarrantyExpiryNotificationJob job;
+    private Long adminId;
+
+    @BeforeEach
+    void setUp() {
+        NotificationServiceImpl notificationService =
+            new NotificationServiceImpl(notificationRepository, receiptRepository, userRepository);
+        job = new WarrantyExpiryNotificationJob(assetRepository, alertRepository, checkpointRepository,
+            notificationService, transactionManager, List.of(30, 7, 1), CHUNK_SIZE);
+        adminId = newUser("ADM", User.Role.ADMIN).getId();
+        newUser("IT1", User.Role.IT_SUPPORT);
+        newUser("EMP", User.Role.EMPLOYEE);
+    }
+
+    @Test
+    void eachThresholdFiresOnceInOneDigestPerRecipient() {
+        newAsset("AST-1", TODAY.plusDays(20));
+        newAsset("AST-2", TODAY.plusDays(15));
+        newAsset("AST-3", TODAY.plusDays(25));
+        newAsset("AST-4", TODAY.plusDays(45));
+
+        assertEquals(3, job.notifyWarrantyExpiring(TODAY));
+        assertEquals(1, notificationRepository.count());
+        assertEquals(2, receiptRepository.count());
+        NotificationResponseDTO digest = receiptRepository.findByUserIdOrderByCreatedAtDesc(adminId).stream()
+            .map(NotificationResponseDTO::fromReceipt).findFirst().orElseThrow();
+        assertEquals("3 warranties expiring soon", digest.getTitle());
+        assertTrue(digest.getMessage().startsWith("Asset Laptop AST-2 (AST-2)"), "most urgent first");
+
+        // Rerunning the same day is a no-op; the next day crosses no new threshold
+        assertEquals(0, job.notifyWarrantyExpiring(TODAY));
+        assertEquals(0, job.notifyWarrantyExpiring(TODAY.plusDays(1)));
+        assertEquals(2, receiptRepository.count());
+
+        // Two weeks on AST-1 drops inside 7 days and AST-2 inside 1 day
+        assertEquals(2, job.notifyWarrantyExpiring(TODAY.plusDays(14)));
+        assertEquals(2, notificationRepository.count());
+        assertEquals(5, alertRepository.count());
+    }
+
+    @Test
+    void restartedRunResumesFromItsCheckpoint() {
+        Asset processed = newAsset("AST-1", TODAY.plusDays(10));
+        Asset remaining = newAsset("AST-2", TODAY.plusDays(10));
+
+        // A run that stopped after its first asset
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.setJobName(WarrantyExpiryNotificationJob.JOB_NAME);
+        checkpoint.setRunDate(TODAY);
+        checkpoint.setLastProcessedId(processed.getId());
+        checkpointRepository.save(checkpoint);
+
+        assertEquals(1, job.notifyWarrantyExpiring(TODAY));
+        assertEquals(1, alertRepository.count());
+        assertEquals(remaining.getId(), checkpointRepository.findById(WarrantyExpiryNotificationJob.JOB_NAME)
+            .orElseThrow().getLastProcessedId());
+    }
+
+    @Test
+    void renewedWarrantyFiresItsThresholdsAgain() {
+        Asset asset = newAsset("AST-1", TODAY.plusDays(3));
+        assertEquals(1, job.notifyWarrantyExpiring(TODAY));
+
+        asset.setWarrantyExpiryDate(TODAY.plusDays(4));
+        assetRepository.save(asset);
+        assertEquals(1, job.notifyWarrantyExpiring(TODAY.plusDays(1)));
+        assertEquals(2, alertRepository.count());
+    }
+
+    private Asset newAsset(String tag, LocalDate warrantyExpiryDate) {
+        Asset asset = new Asset();
+        asset.setAssetTag(tag);
+        asset.setName("Laptop " + tag);
+        asset.setCategory(Asset.Category.HARDWARE);
+        asset.setStatus(Asset.Status.AVAILABLE);
+        asset.setWarrantyExpiryDate(warrantyExpiryDate);
+        return assetRepository.save(asset);
+    }
+}
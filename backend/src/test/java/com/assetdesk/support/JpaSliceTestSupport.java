@@ -0,0 +1,43 @@
+package com.assetdesk.support;
+
+import com.assetdesk.AssetDeskApplication;
+import com.assetdesk.domain.User;
+import com.assetdesk.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * JPA slice over the application's entities and repositories on an embedded H2 database, with a
+ * fixture for the users most tests need. Subclasses add their own {@code @Import}s, properties
+ * and transaction settings.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = AssetDeskApplication.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public abstract class JpaSliceTestSupport {
+
+    @Autowired protected UserRepository userRepository;
+    @Autowired protected EntityManager entityManager;
+
+    /**
+     * Saves a user named "User {@code employeeId}" with an email derived from the employee id.
+     */
+    protected User newUser(String employeeId, User.Role role) {
+        return newUser("User " + employeeId, employeeId, role);
+    }
+
+    protected User newUser(String name, String employeeId, User.Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(employeeId.toLowerCase() + "@example.com");
+        user.setEmployeeId(employeeId);
+        user.setPassword("secret");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+}